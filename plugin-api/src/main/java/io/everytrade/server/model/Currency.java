@@ -3,7 +3,9 @@ package io.everytrade.server.model;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -191,12 +193,30 @@ public enum Currency {
     }
 
     public static Currency fromCode(String code) {
+        final Currency currency = tryFromCode(code);
+        if (currency == null) {
+            throw new IllegalArgumentException("No enum constant " + Currency.class.getCanonicalName() + "." + code);
+        }
+        return currency;
+    }
+
+    /**
+     * @return currency of the exact code or null when there is none
+     * @see CurrencyAliases
+     */
+    public static Currency tryFromCode(String code) {
         Objects.requireNonNull(code, "code is null");
-        for (Currency c : values()) {
-            if (code.equals(c.code())) {
-                return c;
+        return CodeIndex.BY_CODE.get(code);
+    }
+
+    // enum constants cannot access static fields of the enum during their initialization, so the index is kept aside
+    private static final class CodeIndex {
+        private static final Map<String, Currency> BY_CODE = new HashMap<>();
+
+        static {
+            for (Currency currency : values()) {
+                BY_CODE.put(currency.code(), currency);
             }
         }
-        throw new IllegalArgumentException("No enum constant " + Currency.class.getCanonicalName() + "." + code);
     }
 }
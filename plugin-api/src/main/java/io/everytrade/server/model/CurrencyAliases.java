@@ -0,0 +1,71 @@
+package io.everytrade.server.model;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Resolves currency codes including alternative codes used by exchanges (e.g. XBT for BTC). Codes are matched
+ * exactly first, then as aliases and finally ignoring case. Instances are immutable, {@link #with(Map)} derives a table
+ * extended by further aliases.
+ */
+public final class CurrencyAliases {
+    public static final CurrencyAliases DEFAULT = new CurrencyAliases(Map.of(
+        "XBT", Currency.BTC,
+        "LBTC", Currency.BTC // BTC Lightning
+    ));
+
+    // upper case alias to currency
+    private final Map<String, Currency> aliases;
+
+    private CurrencyAliases(Map<String, Currency> aliases) {
+        this.aliases = new HashMap<>();
+        aliases.forEach((alias, currency) -> this.aliases.put(
+            alias.toUpperCase(Locale.ROOT), Objects.requireNonNull(currency)
+        ));
+    }
+
+    /**
+     * @return new table containing these and the additional aliases; the additional ones take precedence
+     */
+    public CurrencyAliases with(Map<String, Currency> additionalAliases) {
+        final Map<String, Currency> allAliases = new HashMap<>(aliases);
+        additionalAliases.forEach((alias, currency) -> allAliases.put(alias.toUpperCase(Locale.ROOT), currency));
+        return new CurrencyAliases(allAliases);
+    }
+
+    /**
+     * @return currency of the code or alias or null when there is none
+     */
+    public Currency tryResolve(String code) {
+        final Currency currency = Currency.tryFromCode(code);
+        if (currency != null) {
+            return currency;
+        }
+        final Currency aliasCurrency = aliases.get(code);
+        if (aliasCurrency != null || !hasLowerCase(code)) {
+            return aliasCurrency;
+        }
+        final String upperCaseCode = code.toUpperCase(Locale.ROOT);
+        final Currency upperCaseCurrency = Currency.tryFromCode(upperCaseCode);
+        return upperCaseCurrency != null ? upperCaseCurrency : aliases.get(upperCaseCode);
+    }
+
+    /**
+     * @throws IllegalArgumentException when there is no currency of the code or alias
+     */
+    public Currency resolve(String code) {
+        final Currency currency = tryResolve(code);
+        return currency != null ? currency : Currency.fromCode(code);
+    }
+
+    private static boolean hasLowerCase(String code) {
+        for (int i = 0; i < code.length(); i++) {
+            if (Character.isLowerCase(code.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -14,6 +14,11 @@ public final class CurrencyPair implements Comparable<CurrencyPair>{
 
     private static final Set<Currency> ALLOWED_CRYPTO_QUOTES =
         Set.of(Currency.USDT, Currency.BTC, Currency.ETH, Currency.BNB);
+    private static final Currency[] CURRENCIES = Currency.values();
+    // canonical instances indexed by base and quote ordinals, null for fiat to crypto combinations
+    private static final CurrencyPair[][] PAIRS = createPairs();
+    private static final List<CurrencyPair> TRADEABLE_PAIRS = createTradeablePairs();
+    private static final boolean[][] TRADEABLE = createTradeableMatrix();
 
     public enum CurrencyPosition {BASE, QUOTE}
     public static final Comparator<CurrencyPair> COMPARATOR =
@@ -44,7 +49,26 @@ public final class CurrencyPair implements Comparable<CurrencyPair>{
     }
 
     public CurrencyPair reverse() {
-        return new CurrencyPair(quote, base);
+        return of(quote, base);
+    }
+
+    /**
+     * @return canonical instance of the pair
+     * @throws FiatCryptoCombinationException when the base is fiat and the quote is crypto
+     */
+    public static CurrencyPair of(Currency base, Currency quote) {
+        final CurrencyPair currencyPair = PAIRS[base.ordinal()][quote.ordinal()];
+        if (currencyPair == null) {
+            throw new FiatCryptoCombinationException(base, quote);
+        }
+        return currencyPair;
+    }
+
+    /**
+     * @return true when the pair is one of {@link #getTradeablePairs()}; constant time, no allocation
+     */
+    public static boolean isTradeable(Currency base, Currency quote) {
+        return TRADEABLE[base.ordinal()][quote.ordinal()];
     }
 
     public Instant getIntroduction() {
@@ -53,46 +77,34 @@ public final class CurrencyPair implements Comparable<CurrencyPair>{
             : quote.getIntroduction();
     }
 
+    /**
+     * @return immutable list of canonical instances
+     */
     public static List<CurrencyPair> getTradeablePairs() {
-        List<CurrencyPair> currencyPairs = new ArrayList<>();
-        for (Currency base : Currency.values()) {
-            for (Currency quote : Currency.values()) {
-                final boolean baseIsCrypto = !base.isFiat();
-                final boolean baseQuoteDiffer = base != quote;
-                final boolean quoteIsFiat = quote.isFiat();
-                final boolean quoteIsAllowedCrypto = ALLOWED_CRYPTO_QUOTES.contains(quote);
-                final boolean quoteIsAllowed = quoteIsFiat || quoteIsAllowedCrypto;
-                final boolean isUnsupportedCryptoPair = isUnsupportedCryptoPairs(base, quote);
-                if (baseIsCrypto && baseQuoteDiffer && quoteIsAllowed && !isUnsupportedCryptoPair) {
-                    currencyPairs.add(new CurrencyPair(base, quote));
-                }
-            }
-        }
-        currencyPairs.addAll(getSupportedFiatPairs());
-        return currencyPairs;
+        return TRADEABLE_PAIRS;
     }
 
     public static List<CurrencyPair> getSupportedFiatPairs() {
         List<CurrencyPair> currencyPairs = new ArrayList<>();
-        currencyPairs.add(new CurrencyPair(Currency.USD, Currency.CAD));
-        currencyPairs.add(new CurrencyPair(Currency.USD, Currency.CZK));
+        currencyPairs.add(of(Currency.USD, Currency.CAD));
+        currencyPairs.add(of(Currency.USD, Currency.CZK));
 
-        currencyPairs.add(new CurrencyPair(Currency.CAD, Currency.CZK));
+        currencyPairs.add(of(Currency.CAD, Currency.CZK));
 
-        currencyPairs.add(new CurrencyPair(Currency.EUR, Currency.USD));
-        currencyPairs.add(new CurrencyPair(Currency.EUR, Currency.CAD));
-        currencyPairs.add(new CurrencyPair(Currency.EUR, Currency.CZK));
-        currencyPairs.add(new CurrencyPair(Currency.EUR, Currency.GBP));
-        currencyPairs.add(new CurrencyPair(Currency.EUR, Currency.AUD));
+        currencyPairs.add(of(Currency.EUR, Currency.USD));
+        currencyPairs.add(of(Currency.EUR, Currency.CAD));
+        currencyPairs.add(of(Currency.EUR, Currency.CZK));
+        currencyPairs.add(of(Currency.EUR, Currency.GBP));
+        currencyPairs.add(of(Currency.EUR, Currency.AUD));
 
-        currencyPairs.add(new CurrencyPair(Currency.GBP, Currency.USD));
-        currencyPairs.add(new CurrencyPair(Currency.GBP, Currency.CAD));
-        currencyPairs.add(new CurrencyPair(Currency.GBP, Currency.CZK));
-        currencyPairs.add(new CurrencyPair(Currency.GBP, Currency.AUD));
+        currencyPairs.add(of(Currency.GBP, Currency.USD));
+        currencyPairs.add(of(Currency.GBP, Currency.CAD));
+        currencyPairs.add(of(Currency.GBP, Currency.CZK));
+        currencyPairs.add(of(Currency.GBP, Currency.AUD));
 
-        currencyPairs.add(new CurrencyPair(Currency.AUD, Currency.USD));
-        currencyPairs.add(new CurrencyPair(Currency.AUD, Currency.CAD));
-        currencyPairs.add(new CurrencyPair(Currency.AUD, Currency.CZK));
+        currencyPairs.add(of(Currency.AUD, Currency.USD));
+        currencyPairs.add(of(Currency.AUD, Currency.CAD));
+        currencyPairs.add(of(Currency.AUD, Currency.CZK));
 
         return currencyPairs;
     }
@@ -144,6 +156,45 @@ public final class CurrencyPair implements Comparable<CurrencyPair>{
 
     }
 
+    private static CurrencyPair[][] createPairs() {
+        final CurrencyPair[][] pairs = new CurrencyPair[CURRENCIES.length][CURRENCIES.length];
+        for (Currency base : CURRENCIES) {
+            for (Currency quote : CURRENCIES) {
+                if (!base.isFiat() || quote.isFiat()) {
+                    pairs[base.ordinal()][quote.ordinal()] = new CurrencyPair(base, quote);
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private static List<CurrencyPair> createTradeablePairs() {
+        List<CurrencyPair> currencyPairs = new ArrayList<>();
+        for (Currency base : CURRENCIES) {
+            for (Currency quote : CURRENCIES) {
+                final boolean baseIsCrypto = !base.isFiat();
+                final boolean baseQuoteDiffer = base != quote;
+                final boolean quoteIsFiat = quote.isFiat();
+                final boolean quoteIsAllowedCrypto = ALLOWED_CRYPTO_QUOTES.contains(quote);
+                final boolean quoteIsAllowed = quoteIsFiat || quoteIsAllowedCrypto;
+                final boolean isUnsupportedCryptoPair = isUnsupportedCryptoPairs(base, quote);
+                if (baseIsCrypto && baseQuoteDiffer && quoteIsAllowed && !isUnsupportedCryptoPair) {
+                    currencyPairs.add(of(base, quote));
+                }
+            }
+        }
+        currencyPairs.addAll(getSupportedFiatPairs());
+        return List.copyOf(currencyPairs);
+    }
+
+    private static boolean[][] createTradeableMatrix() {
+        final boolean[][] tradeable = new boolean[CURRENCIES.length][CURRENCIES.length];
+        for (CurrencyPair currencyPair : TRADEABLE_PAIRS) {
+            tradeable[currencyPair.base.ordinal()][currencyPair.quote.ordinal()] = true;
+        }
+        return tradeable;
+    }
+
     private static boolean isUnsupportedCryptoPairs(Currency base, Currency quote) {
         if (Currency.USDT.equals(base)) {
             return Currency.BTC.equals(quote) || Currency.ETH.equals(quote) || Currency.BNB.equals(quote);
@@ -4,6 +4,7 @@ import io.everytrade.server.plugin.api.connector.ConnectorDescriptor;
 import io.everytrade.server.plugin.api.connector.IConnector;
 import io.everytrade.server.plugin.api.parser.ICsvParser;
 import io.everytrade.server.plugin.api.parser.ParserDescriptor;
+import io.everytrade.server.plugin.api.parser.ParserOptions;
 import io.everytrade.server.plugin.api.rateprovider.IRateProvider;
 import io.everytrade.server.plugin.api.rateprovider.RateProviderDescriptor;
 import org.pf4j.ExtensionPoint;
@@ -54,6 +55,16 @@ public interface IPlugin extends ExtensionPoint {
      */
     ICsvParser createParserInstance(String parserId);
 
+    /**
+     * Instantiates a new parser with options. Plugins not supporting the options ignore them.
+     * @param parserId parser ID
+     * @param parserOptions options of the parser instance (e.g. parsing problem policy)
+     * @return a new parser instance
+     */
+    default ICsvParser createParserInstance(String parserId, ParserOptions parserOptions) {
+        return createParserInstance(parserId);
+    }
+
     /**
      * Gets all rate provider descriptors.
      * @return list of descriptors for each of the plugin's conversion rate provider.
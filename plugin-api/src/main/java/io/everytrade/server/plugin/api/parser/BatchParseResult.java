@@ -0,0 +1,55 @@
+package io.everytrade.server.plugin.api.parser;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Results of a batch import in the order of the imported files with statistics summed over all the files.
+ */
+public class BatchParseResult {
+    private final List<ImportFileResult> importFileResults;
+    private final int failedFileCount;
+    private final long transactionClusterCount;
+    private final Map<ParsingProblemType, Long> parsingProblemCounts = new EnumMap<>(ParsingProblemType.class);
+
+    public BatchParseResult(List<ImportFileResult> importFileResults) {
+        Objects.requireNonNull(importFileResults);
+        this.importFileResults = List.copyOf(importFileResults);
+        int failedFiles = 0;
+        long transactionClusters = 0;
+        for (ImportFileResult importFileResult : this.importFileResults) {
+            if (!importFileResult.isParsed()) {
+                failedFiles++;
+                continue;
+            }
+            final ParseResult parseResult = importFileResult.getParseResult();
+            transactionClusters += parseResult.getTransactionClusters().size();
+            for (ParsingProblemType type : ParsingProblemType.values()) {
+                parsingProblemCounts.merge(type, parseResult.getParsingProblemCount(type), Long::sum);
+            }
+        }
+        this.failedFileCount = failedFiles;
+        this.transactionClusterCount = transactionClusters;
+    }
+
+    public List<ImportFileResult> getImportFileResults() {
+        return importFileResults;
+    }
+
+    public int getFailedFileCount() {
+        return failedFileCount;
+    }
+
+    public long getTransactionClusterCount() {
+        return transactionClusterCount;
+    }
+
+    /**
+     * @return count of the parsing problems of the type in all the parsed files
+     */
+    public long getParsingProblemCount(ParsingProblemType parsingProblemType) {
+        return parsingProblemCounts.getOrDefault(parsingProblemType, 0L);
+    }
+}
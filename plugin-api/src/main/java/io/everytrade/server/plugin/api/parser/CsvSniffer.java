@@ -0,0 +1,195 @@
+package io.everytrade.server.plugin.api.parser;
+
+import io.everytrade.server.model.SupportedExchange;
+import io.everytrade.server.plugin.api.IPlugin;
+import io.everytrade.server.plugin.utils.CsvFileEntries;
+import io.everytrade.server.plugin.utils.HeaderMatcher;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads the header, resolves the parser and parses the content. A stream is sniffed and parsed in one pass over a
+ * single buffered stream. A file is opened once as a channel, its header is read from the channel and the channel is
+ * handed over to {@link ICsvParser#parse(FileChannel, String)}, so the parser can use its file specific reading. The
+ * header is read from the first document of compressed content.
+ */
+public final class CsvSniffer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // read ahead of the header sniffing, including the buffers of a decompressed document
+    private static final int SNIFF_LIMIT = 1024 * 1024;
+
+    private CsvSniffer() {
+    }
+
+    /**
+     * @return selection of the first descriptor supporting the header or null when the header is not supported
+     */
+    public static ParserSelection select(String header, List<ParserDescriptor> parserDescriptors) {
+        Objects.requireNonNull(header);
+        for (ParserDescriptor parserDescriptor : parserDescriptors) {
+            final HeaderMatcher.Match<SupportedExchange> match = parserDescriptor.matchHeader(header);
+            if (match != null) {
+                return new ParserSelection(header, match.getTemplate(), parserDescriptor, match.getValue());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @throws IllegalStateException when no parser of the plugin supports the header
+     * @throws UncheckedIOException when the file cannot be read
+     */
+    public static SniffedParseResult sniffAndParse(File file, IPlugin plugin) {
+        return sniffAndParse(file, plugin, ParserOptions.DEFAULT);
+    }
+
+    /**
+     * @param parserOptions options of the parser instance
+     * @see #sniffAndParse(File, IPlugin)
+     */
+    public static SniffedParseResult sniffAndParse(File file, IPlugin plugin, ParserOptions parserOptions) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final String header = CsvFileEntries.readHeader(channel);
+            final ParserSelection parserSelection = selectSupported(header, plugin);
+            final String parserId = parserSelection.getParserDescriptor().getId();
+            try (ICsvParser parser = plugin.createParserInstance(parserId, parserOptions)) {
+                return new SniffedParseResult(parserSelection, parser.parse(channel, header));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param inputStream content to be parsed, the stream is not closed
+     * @param charset charset of the content, UTF-8 when null
+     * @throws IllegalStateException when no parser of the plugin supports the header or when the header is not within
+     *                               the first 1 MB of the stream, e.g. zip content whose leading skipped entries
+     *                               (directories, macOS metadata) are bigger; such content has to be parsed from a file
+     * @throws UncheckedIOException when the stream cannot be read
+     */
+    public static SniffedParseResult sniffAndParse(InputStream inputStream, Charset charset, IPlugin plugin) {
+        return sniffAndParse(inputStream, charset, plugin, ParserOptions.DEFAULT);
+    }
+
+    /**
+     * @param parserOptions options of the parser instance
+     * @see #sniffAndParse(InputStream, Charset, IPlugin)
+     */
+    public static SniffedParseResult sniffAndParse(
+        InputStream inputStream,
+        Charset charset,
+        IPlugin plugin,
+        ParserOptions parserOptions
+    ) {
+        final ParseResult[] parseResult = {null};
+        final ParserSelection parserSelection = sniffAndParse(
+            inputStream,
+            plugin,
+            parserOptions,
+            charset,
+            (parser, bufferedStream, header) -> parseResult[0] = parser.parse(bufferedStream, charset, header)
+        );
+        return new SniffedParseResult(parserSelection, parseResult[0]);
+    }
+
+    /**
+     * Hands the parsed data to the sink, see {@link ICsvParser#parse(InputStream, Charset, String,
+     * ITransactionClusterSink)}.
+     * @return parser resolved from the header
+     */
+    public static ParserSelection sniffAndParse(
+        InputStream inputStream,
+        Charset charset,
+        IPlugin plugin,
+        ITransactionClusterSink sink
+    ) {
+        return sniffAndParse(inputStream, charset, plugin, ParserOptions.DEFAULT, sink);
+    }
+
+    /**
+     * @param parserOptions options of the parser instance
+     * @see #sniffAndParse(InputStream, Charset, IPlugin, ITransactionClusterSink)
+     */
+    public static ParserSelection sniffAndParse(
+        InputStream inputStream,
+        Charset charset,
+        IPlugin plugin,
+        ParserOptions parserOptions,
+        ITransactionClusterSink sink
+    ) {
+        return sniffAndParse(
+            inputStream,
+            plugin,
+            parserOptions,
+            charset,
+            (parser, bufferedStream, header) -> parser.parse(bufferedStream, charset, header, sink)
+        );
+    }
+
+    private static ParserSelection sniffAndParse(
+        InputStream inputStream,
+        IPlugin plugin,
+        ParserOptions parserOptions,
+        Charset charset,
+        IParsing parsing
+    ) {
+        final InputStream bufferedStream = new NonClosingBufferedInputStream(inputStream);
+        final String header;
+        try {
+            bufferedStream.mark(SNIFF_LIMIT);
+            header = CsvFileEntries.readHeader(bufferedStream, charset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            bufferedStream.reset();
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format(
+                "The header of the stream ends beyond %d bytes (e.g. after large skipped zip entries), "
+                    + "the stream cannot be sniffed. Parse it from a file.",
+                SNIFF_LIMIT
+            ), e);
+        }
+        final ParserSelection parserSelection = selectSupported(header, plugin);
+        final String parserId = parserSelection.getParserDescriptor().getId();
+        try (ICsvParser parser = plugin.createParserInstance(parserId, parserOptions)) {
+            parsing.parse(parser, bufferedStream, header);
+        }
+        return parserSelection;
+    }
+
+    private static ParserSelection selectSupported(String header, IPlugin plugin) {
+        final ParserSelection parserSelection = select(header, plugin.allParserDescriptors());
+        if (parserSelection == null) {
+            throw new IllegalStateException(String.format("Header '%s' is not supported.", header));
+        }
+        return parserSelection;
+    }
+
+    private interface IParsing {
+        void parse(ICsvParser parser, InputStream inputStream, String header);
+    }
+
+    /**
+     * Buffers the content for the sniffing and the parsing, the underlying stream is not closed.
+     */
+    private static class NonClosingBufferedInputStream extends BufferedInputStream {
+        NonClosingBufferedInputStream(InputStream in) {
+            super(in, BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,6 +1,25 @@
 package io.everytrade.server.plugin.api.parser;
 
+import io.everytrade.server.plugin.utils.CsvFileEntries;
+
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 
 public interface ICsvParser extends AutoCloseable {
     /**
@@ -17,6 +36,136 @@ public interface ICsvParser extends AutoCloseable {
      */
     ParseResult parse(File file, String header);
 
+    /**
+     * Parse the specified file and hand each transaction cluster and parsing problem to the sink as soon as it is
+     * available. The default implementation delegates to {@link #parse(File, String)}, parsers should override it
+     * to keep the memory footprint independent of the file size.
+     * @param file CSV file to be parsed.
+     * @param header CVS file's header that has used to identify this parser.
+     * @param sink receiver of the parsed data and parsing problems.
+     */
+    default void parse(File file, String header, ITransactionClusterSink sink) {
+        final ParseResult parseResult = parse(file, header);
+        parseResult.getTransactionClusters().forEach(sink::acceptTransactionCluster);
+        parseResult.getParsingProblems().forEach(sink::acceptParsingProblem);
+    }
+
+    /**
+     * Parse the file open as the channel, e.g. once its header has been read from the channel, so that the file is not
+     * opened again. The channel is read from its start and is not closed. The default implementation parses it as a
+     * stream, parsers should override it to use their file specific reading.
+     * @param channel channel of the CSV file to be parsed.
+     * @param header CVS file's header that has used to identify this parser.
+     * @return parsing result (parsed data and parsing process metadata like statistics, errors, etc.)
+     */
+    default ParseResult parse(FileChannel channel, String header) {
+        return parse(CsvFileEntries.newInputStream(channel), null, header);
+    }
+
+    /**
+     * Parse the content of the stream, e.g. an uploaded file read straight from the request body. The default
+     * implementation writes the content to a temporary file, parsers should override it to parse the stream directly.
+     * @param inputStream content to be parsed, the stream is not closed.
+     * @param charset charset of the content, UTF-8 when null.
+     * @param header CVS file's header that has used to identify this parser.
+     * @return parsing result (parsed data and parsing process metadata like statistics, errors, etc.)
+     */
+    default ParseResult parse(InputStream inputStream, Charset charset, String header) {
+        return parseTempFile(inputStream, charset, file -> parse(file, header));
+    }
+
+    /**
+     * Parse the content of the stream and hand the parsed data to the sink, see
+     * {@link #parse(InputStream, Charset, String)} and {@link #parse(File, String, ITransactionClusterSink)}.
+     */
+    default void parse(InputStream inputStream, Charset charset, String header, ITransactionClusterSink sink) {
+        parseTempFile(inputStream, charset, file -> {
+            parse(file, header, sink);
+            return null;
+        });
+    }
+
+    /**
+     * Parse the content of the channel, see {@link #parse(InputStream, Charset, String)}.
+     */
+    default ParseResult parse(ReadableByteChannel channel, Charset charset, String header) {
+        return parse(Channels.newInputStream(channel), charset, header);
+    }
+
+    /**
+     * Parse the content of the channel, see {@link #parse(InputStream, Charset, String, ITransactionClusterSink)}.
+     */
+    default void parse(ReadableByteChannel channel, Charset charset, String header, ITransactionClusterSink sink) {
+        parse(Channels.newInputStream(channel), charset, header, sink);
+    }
+
+    /**
+     * Parse several files, e.g. exports of consecutive months uploaded at once. The default implementation parses the
+     * files one by one, parsers may parse them concurrently. A file which cannot be parsed does not stop the others.
+     * @param importFiles files to be parsed with their headers.
+     * @return results in the order of the files and statistics of the whole batch.
+     */
+    default BatchParseResult parseAll(List<ImportFile> importFiles) {
+        final List<ImportFileResult> importFileResults = new ArrayList<>();
+        for (ImportFile importFile : importFiles) {
+            try {
+                importFileResults.add(
+                    new ImportFileResult(importFile, parse(importFile.getFile(), importFile.getHeader()))
+                );
+            } catch (RuntimeException e) {
+                importFileResults.add(new ImportFileResult(importFile, e));
+            }
+        }
+        return new BatchParseResult(importFileResults);
+    }
+
+    /**
+     * Parse a re-uploaded growing export, skipping the rows of the prior import. The default implementation parses
+     * the whole file and returns {@link ImportToken#EMPTY}, so the next import is a full one again. Parsers should
+     * override it to skip the rows imported before.
+     * @param file CSV file to be parsed.
+     * @param header CVS file's header that has used to identify this parser.
+     * @param priorImport token of the prior import of the export, {@link ImportToken#EMPTY} for the first import.
+     * @return parsing result of the new rows and the token of all the imported rows.
+     */
+    default IncrementalParseResult parseIncrementally(File file, String header, ImportToken priorImport) {
+        return new IncrementalParseResult(parse(file, header), ImportToken.EMPTY, 0);
+    }
+
+    /**
+     * Parse a re-uploaded growing export from the stream, see {@link #parseIncrementally(File, String, ImportToken)}.
+     */
+    default IncrementalParseResult parseIncrementally(
+        InputStream inputStream,
+        Charset charset,
+        String header,
+        ImportToken priorImport
+    ) {
+        return parseTempFile(inputStream, charset, file -> parseIncrementally(file, header, priorImport));
+    }
+
+    private <T> T parseTempFile(InputStream inputStream, Charset charset, Function<File, T> parsing) {
+        try {
+            final Path tempFile = Files.createTempFile("import", ".csv");
+            try {
+                if (charset == null || StandardCharsets.UTF_8.equals(charset)) {
+                    Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    // files are parsed as UTF-8, the reader is not closed to keep the stream open
+                    final Reader reader = new InputStreamReader(inputStream, charset);
+                    try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                        reader.transferTo(writer);
+                    }
+                }
+                return parsing.apply(tempFile.toFile());
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
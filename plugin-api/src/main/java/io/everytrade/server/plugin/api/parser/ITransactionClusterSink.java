@@ -0,0 +1,18 @@
+package io.everytrade.server.plugin.api.parser;
+
+/**
+ * Receives parsing output row by row, so the host does not have to hold the whole parse result in memory.
+ */
+public interface ITransactionClusterSink {
+    /**
+     * Called for each successfully converted row, in the order the rows appear in the file.
+     * @param transactionCluster parsed transaction cluster
+     */
+    void acceptTransactionCluster(TransactionCluster transactionCluster);
+
+    /**
+     * Called for each row that has been ignored or could not be parsed.
+     * @param parsingProblem problem description
+     */
+    void acceptParsingProblem(ParsingProblem parsingProblem);
+}
@@ -0,0 +1,55 @@
+package io.everytrade.server.plugin.api.parser;
+
+import io.everytrade.server.plugin.utils.CsvFileEntries;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * File of a batch import, see {@link ICsvParser#parseAll(java.util.List)}.
+ */
+public class ImportFile {
+    private final File file;
+    private final String header;
+
+    /**
+     * The header is detected as the first line of the file, of the first document of a compressed file.
+     */
+    public ImportFile(File file) {
+        this(file, null);
+    }
+
+    /**
+     * @param header header identifying the parser or null to detect it as the first line of the file
+     */
+    public ImportFile(File file, String header) {
+        Objects.requireNonNull(this.file = file);
+        this.header = header;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * @return the given header or the first line of the (first document of the) file
+     * @throws UncheckedIOException when the file cannot be read
+     */
+    public String getHeader() {
+        if (header != null) {
+            return header;
+        }
+        try {
+            return CsvFileEntries.readHeader(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return file.getName();
+    }
+}
@@ -0,0 +1,46 @@
+package io.everytrade.server.plugin.api.parser;
+
+import java.util.Objects;
+
+/**
+ * Outcome of one file of a batch import, either the parse result or the error which stopped the parsing.
+ */
+public class ImportFileResult {
+    private final ImportFile importFile;
+    private final ParseResult parseResult;
+    private final RuntimeException error;
+
+    public ImportFileResult(ImportFile importFile, ParseResult parseResult) {
+        Objects.requireNonNull(this.importFile = importFile);
+        Objects.requireNonNull(this.parseResult = parseResult);
+        this.error = null;
+    }
+
+    public ImportFileResult(ImportFile importFile, RuntimeException error) {
+        Objects.requireNonNull(this.importFile = importFile);
+        this.parseResult = null;
+        Objects.requireNonNull(this.error = error);
+    }
+
+    public ImportFile getImportFile() {
+        return importFile;
+    }
+
+    public boolean isParsed() {
+        return parseResult != null;
+    }
+
+    /**
+     * @return parse result or null when the file failed
+     */
+    public ParseResult getParseResult() {
+        return parseResult;
+    }
+
+    /**
+     * @return error of a failed file (unknown header, aborted parsing...) or null when the file is parsed
+     */
+    public RuntimeException getError() {
+        return error;
+    }
+}
@@ -0,0 +1,165 @@
+package io.everytrade.server.plugin.api.parser;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Opaque digest of the rows already imported from a growing export, see {@link #toBytes()} to store it and
+ * {@link #fromBytes(byte[])} to pass it to the next import. The digest keeps the sorted 64-bit fingerprints of the rows
+ * encoded as variable-length gaps, about 7 bytes per row for a million rows.
+ */
+public final class ImportToken {
+    public static final ImportToken EMPTY = new ImportToken(new long[0]);
+    private static final int VERSION = 1;
+    private final long[] fingerprints;
+
+    private ImportToken(long[] fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * @throws IllegalArgumentException when the bytes are not a token or its fingerprints are not strictly increasing
+     */
+    public static ImportToken fromBytes(byte[] bytes) {
+        final Decoder decoder = new Decoder(bytes);
+        if (decoder.next() != VERSION) {
+            throw new IllegalArgumentException("Unsupported import token version.");
+        }
+        final long count = decoder.next();
+        // each fingerprint takes one byte at least
+        if (count < 0 || count > bytes.length) {
+            throw new IllegalArgumentException("Malformed import token.");
+        }
+        final long[] fingerprints = new long[(int) count];
+        long fingerprint = 0;
+        for (int i = 0; i < fingerprints.length; i++) {
+            fingerprint += decoder.next();
+            // a zero or overflowing gap breaks the order the binary search relies on
+            if (i > 0 && Long.compareUnsigned(fingerprint, fingerprints[i - 1]) <= 0) {
+                throw new IllegalArgumentException("Malformed import token.");
+            }
+            fingerprints[i] = fingerprint;
+        }
+        if (decoder.hasNext()) {
+            throw new IllegalArgumentException("Malformed import token.");
+        }
+        return new ImportToken(fingerprints);
+    }
+
+    public byte[] toBytes() {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(fingerprints.length * 7 + 8);
+        writeVarLong(outputStream, VERSION);
+        writeVarLong(outputStream, fingerprints.length);
+        long previous = 0;
+        for (long fingerprint : fingerprints) {
+            // fingerprints are sorted as unsigned values, so the gaps are never negative
+            writeVarLong(outputStream, fingerprint - previous);
+            previous = fingerprint;
+        }
+        return outputStream.toByteArray();
+    }
+
+    public int getRowCount() {
+        return fingerprints.length;
+    }
+
+    public boolean contains(long fingerprint) {
+        return binarySearch(fingerprint) >= 0;
+    }
+
+    /**
+     * @return token of the rows of this token and the given ones
+     */
+    public ImportToken merge(long[] newFingerprints) {
+        final long[] sorted = newFingerprints.clone();
+        sortUnsigned(sorted);
+        final long[] merged = new long[fingerprints.length + sorted.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < fingerprints.length || j < sorted.length) {
+            final long next;
+            if (j == sorted.length
+                || i < fingerprints.length && Long.compareUnsigned(fingerprints[i], sorted[j]) <= 0) {
+                next = fingerprints[i++];
+            } else {
+                next = sorted[j++];
+            }
+            if (size == 0 || merged[size - 1] != next) {
+                merged[size++] = next;
+            }
+        }
+        return new ImportToken(size == merged.length ? merged : Arrays.copyOf(merged, size));
+    }
+
+    @Override
+    public String toString() {
+        return "ImportToken{" +
+            "rowCount=" + fingerprints.length +
+            '}';
+    }
+
+    private int binarySearch(long fingerprint) {
+        int low = 0;
+        int high = fingerprints.length - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = Long.compareUnsigned(fingerprints[middle], fingerprint);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static void sortUnsigned(long[] values) {
+        // flipping the sign bit maps the unsigned order to the signed one
+        for (int i = 0; i < values.length; i++) {
+            values[i] ^= Long.MIN_VALUE;
+        }
+        Arrays.sort(values);
+        for (int i = 0; i < values.length; i++) {
+            values[i] ^= Long.MIN_VALUE;
+        }
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream outputStream, long value) {
+        while ((value & ~0x7FL) != 0) {
+            outputStream.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        outputStream.write((int) value);
+    }
+
+    private static class Decoder {
+        private final byte[] bytes;
+        private int position;
+
+        Decoder(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        boolean hasNext() {
+            return position < bytes.length;
+        }
+
+        long next() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                if (position == bytes.length) {
+                    throw new IllegalArgumentException("Malformed import token.");
+                }
+                final byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed import token.");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.everytrade.server.plugin.api.parser;
+
+import java.util.Objects;
+
+/**
+ * Result of a re-import of a growing export: the rows not imported before and the token of all the imported rows.
+ * Rows are recognized by their content, a row whose values changed is imported again. Only the rows converted to
+ * transaction clusters are recorded in the token. Failed rows and rows ignored by the exchange parser (e.g. of
+ * unsupported transaction types) are not recorded, so they are reported again by each import.
+ */
+public class IncrementalParseResult {
+    private final ParseResult parseResult;
+    private final ImportToken importToken;
+    private final long skippedRowCount;
+
+    public IncrementalParseResult(ParseResult parseResult, ImportToken importToken, long skippedRowCount) {
+        Objects.requireNonNull(this.parseResult = parseResult);
+        Objects.requireNonNull(this.importToken = importToken);
+        this.skippedRowCount = skippedRowCount;
+    }
+
+    /**
+     * @return transaction clusters of the new rows and problems of the rows which failed
+     */
+    public ParseResult getParseResult() {
+        return parseResult;
+    }
+
+    /**
+     * @return token of the rows of the prior import and of the rows imported now, pass it to the next import
+     */
+    public ImportToken getImportToken() {
+        return importToken;
+    }
+
+    /**
+     * @return count of the rows skipped as imported before
+     */
+    public long getSkippedRowCount() {
+        return skippedRowCount;
+    }
+}
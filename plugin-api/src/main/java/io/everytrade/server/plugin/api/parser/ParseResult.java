@@ -1,17 +1,34 @@
 package io.everytrade.server.plugin.api.parser;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public class ParseResult {
     private final List<TransactionCluster> transactionClusters;
     private final List<ParsingProblem> parsingProblems;
+    private final Map<ParsingProblemType, Long> parsingProblemCounts;
 
     public ParseResult(List<TransactionCluster> transactionClusters, List<ParsingProblem> parsingProblems) {
+        this(transactionClusters, parsingProblems, countByType(parsingProblems));
+    }
+
+    /**
+     * @param parsingProblems      parsing problems kept whole, may be a sample of all the problems
+     * @param parsingProblemCounts counts of all the parsing problems by type
+     */
+    public ParseResult(
+        List<TransactionCluster> transactionClusters,
+        List<ParsingProblem> parsingProblems,
+        Map<ParsingProblemType, Long> parsingProblemCounts
+    ) {
         Objects.requireNonNull(transactionClusters);
         Objects.requireNonNull(parsingProblems);
+        Objects.requireNonNull(parsingProblemCounts);
         this.transactionClusters = List.copyOf(transactionClusters);
         this.parsingProblems = List.copyOf(parsingProblems);
+        this.parsingProblemCounts = Map.copyOf(parsingProblemCounts);
     }
 
     public List<TransactionCluster> getTransactionClusters() {
@@ -21,4 +38,20 @@ public class ParseResult {
     public List<ParsingProblem> getParsingProblems() {
         return parsingProblems;
     }
+
+    /**
+     * @return count of all the parsing problems of the type including those not kept in {@link #getParsingProblems()}
+     */
+    public long getParsingProblemCount(ParsingProblemType parsingProblemType) {
+        return parsingProblemCounts.getOrDefault(parsingProblemType, 0L);
+    }
+
+    private static Map<ParsingProblemType, Long> countByType(List<ParsingProblem> parsingProblems) {
+        Objects.requireNonNull(parsingProblems);
+        final Map<ParsingProblemType, Long> counts = new EnumMap<>(ParsingProblemType.class);
+        for (ParsingProblem parsingProblem : parsingProblems) {
+            counts.merge(parsingProblem.getPrarsingProblemType(), 1L, Long::sum);
+        }
+        return counts;
+    }
 }
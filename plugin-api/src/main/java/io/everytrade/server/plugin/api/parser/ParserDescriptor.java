@@ -1,37 +1,49 @@
 package io.everytrade.server.plugin.api.parser;
 
 import io.everytrade.server.model.SupportedExchange;
+import io.everytrade.server.plugin.utils.HeaderMatcher;
 
 import java.util.Map;
 import java.util.Objects;
-
-import static io.everytrade.server.plugin.utils.HeaderTemplateFinder.findHeaderTemplate;
+import java.util.Set;
 
 public class ParserDescriptor {
     private final String id;
     private final Map<String, SupportedExchange> exchangeHeaderTemplates;
+    private final HeaderMatcher<SupportedExchange> headerMatcher;
 
     public ParserDescriptor(String id, Map<String, SupportedExchange> exchangeHeaderTemplates) {
         Objects.requireNonNull(this.id = id);
         Objects.requireNonNull(exchangeHeaderTemplates);
         this.exchangeHeaderTemplates = Map.copyOf(exchangeHeaderTemplates);
+        this.headerMatcher = new HeaderMatcher<>(this.exchangeHeaderTemplates);
     }
 
     public String getId() {
         return id;
     }
 
+    public Set<String> getHeaderTemplates() {
+        return exchangeHeaderTemplates.keySet();
+    }
+
     public boolean isHeaderSupported(String header) {
-        final String headerTemplate = findHeaderTemplate(header, exchangeHeaderTemplates.keySet());
-        return  headerTemplate != null;
+        return headerMatcher.match(header) != null;
+    }
+
+    /**
+     * @return matching template with its exchange or null when the header is not supported
+     */
+    public HeaderMatcher.Match<SupportedExchange> matchHeader(String header) {
+        return headerMatcher.match(header);
     }
 
     public SupportedExchange getSupportedExchange(String header) {
-        final String headerTemplate = findHeaderTemplate(header, exchangeHeaderTemplates.keySet());
-        if (headerTemplate == null) {
+        final HeaderMatcher.Match<SupportedExchange> match = headerMatcher.match(header);
+        if (match == null) {
             throw new IllegalStateException(String.format("Header '%s' is not supported.", header));
         }
-        return exchangeHeaderTemplates.get(headerTemplate);
+        return match.getValue();
     }
 
     @Override
@@ -0,0 +1,49 @@
+package io.everytrade.server.plugin.api.parser;
+
+import java.util.Objects;
+
+/**
+ * Options of a parser instance, see {@link io.everytrade.server.plugin.api.IPlugin#createParserInstance(String,
+ * ParserOptions)}.
+ */
+public class ParserOptions {
+    public static final ParserOptions DEFAULT = new ParserOptions(ParsingProblemPolicy.UNBOUNDED);
+
+    private final ParsingProblemPolicy parsingProblemPolicy;
+    private final boolean suppressDuplicates;
+
+    /**
+     * @param parsingProblemPolicy bounds the parsing problems kept for one file and may abort the parsing of a file
+     *                             with too many failed rows
+     */
+    public ParserOptions(ParsingProblemPolicy parsingProblemPolicy) {
+        this(parsingProblemPolicy, false);
+    }
+
+    /**
+     * @param parsingProblemPolicy bounds the parsing problems kept for one file and may abort the parsing of a file
+     *                             with too many failed rows
+     * @param suppressDuplicates   report repeated rows of one parsing (e.g. of overlapping files in one zip) as ignored
+     *                             instead of converting them again, rows are identified by their uid where it exists
+     */
+    public ParserOptions(ParsingProblemPolicy parsingProblemPolicy, boolean suppressDuplicates) {
+        Objects.requireNonNull(this.parsingProblemPolicy = parsingProblemPolicy);
+        this.suppressDuplicates = suppressDuplicates;
+    }
+
+    public ParsingProblemPolicy getParsingProblemPolicy() {
+        return parsingProblemPolicy;
+    }
+
+    public boolean isSuppressDuplicates() {
+        return suppressDuplicates;
+    }
+
+    @Override
+    public String toString() {
+        return "ParserOptions{" +
+            "parsingProblemPolicy=" + parsingProblemPolicy +
+            ", suppressDuplicates=" + suppressDuplicates +
+            '}';
+    }
+}
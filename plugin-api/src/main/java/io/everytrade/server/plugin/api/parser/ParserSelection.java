@@ -0,0 +1,52 @@
+package io.everytrade.server.plugin.api.parser;
+
+import io.everytrade.server.model.SupportedExchange;
+
+import java.util.Objects;
+
+/**
+ * Parser resolved for a header, see {@link CsvSniffer}.
+ */
+public class ParserSelection {
+    private final String header;
+    private final String headerTemplate;
+    private final ParserDescriptor parserDescriptor;
+    private final SupportedExchange supportedExchange;
+
+    public ParserSelection(
+        String header,
+        String headerTemplate,
+        ParserDescriptor parserDescriptor,
+        SupportedExchange supportedExchange
+    ) {
+        Objects.requireNonNull(this.header = header);
+        Objects.requireNonNull(this.headerTemplate = headerTemplate);
+        Objects.requireNonNull(this.parserDescriptor = parserDescriptor);
+        Objects.requireNonNull(this.supportedExchange = supportedExchange);
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public String getHeaderTemplate() {
+        return headerTemplate;
+    }
+
+    public ParserDescriptor getParserDescriptor() {
+        return parserDescriptor;
+    }
+
+    public SupportedExchange getSupportedExchange() {
+        return supportedExchange;
+    }
+
+    @Override
+    public String toString() {
+        return "ParserSelection{" +
+            "parserId='" + parserDescriptor.getId() + '\'' +
+            ", supportedExchange=" + supportedExchange +
+            ", headerTemplate='" + headerTemplate + '\'' +
+            '}';
+    }
+}
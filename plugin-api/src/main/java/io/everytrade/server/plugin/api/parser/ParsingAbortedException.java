@@ -0,0 +1,11 @@
+package io.everytrade.server.plugin.api.parser;
+
+/**
+ * Thrown when the parsing is stopped by {@link ParsingProblemPolicy}, e.g. because most rows of the file fail.
+ */
+public class ParsingAbortedException extends RuntimeException {
+
+    public ParsingAbortedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,130 @@
+package io.everytrade.server.plugin.api.parser;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Applies a {@link ParsingProblemPolicy} to the output of one parsed file: transaction clusters and sampled parsing
+ * problems are passed to the delegate sink, the remaining problems are only counted. Not thread-safe, parsers call
+ * the sink from one thread.
+ */
+public class ParsingProblemCollector implements ITransactionClusterSink {
+    private final ITransactionClusterSink delegate;
+    private final ParsingProblemPolicy policy;
+    private final long[] problemCounts = new long[ParsingProblemType.values().length];
+    private final int[] typeSampleCounts = new int[ParsingProblemType.values().length];
+    private final Map<String, Integer> messageSampleCounts = new HashMap<>();
+    private long rowCount;
+    private long suppressedProblemCount;
+    private ParsingAbortedException abortException;
+
+    public ParsingProblemCollector(ITransactionClusterSink delegate, ParsingProblemPolicy policy) {
+        Objects.requireNonNull(this.delegate = delegate);
+        Objects.requireNonNull(this.policy = policy);
+    }
+
+    @Override
+    public void acceptTransactionCluster(TransactionCluster transactionCluster) {
+        rowCount++;
+        delegate.acceptTransactionCluster(transactionCluster);
+    }
+
+    @Override
+    public void acceptParsingProblem(ParsingProblem parsingProblem) {
+        rowCount++;
+        final int type = parsingProblem.getPrarsingProblemType().ordinal();
+        problemCounts[type]++;
+        if (isSampled(type, parsingProblem.getMessage())) {
+            delegate.acceptParsingProblem(parsingProblem);
+        } else {
+            suppressedProblemCount++;
+        }
+        checkFailedRowRate();
+    }
+
+    /**
+     * @return count of all problems of the type including the suppressed ones
+     */
+    public long getProblemCount(ParsingProblemType parsingProblemType) {
+        return problemCounts[parsingProblemType.ordinal()];
+    }
+
+    public Map<ParsingProblemType, Long> getProblemCounts() {
+        final Map<ParsingProblemType, Long> counts = new EnumMap<>(ParsingProblemType.class);
+        for (ParsingProblemType type : ParsingProblemType.values()) {
+            counts.put(type, problemCounts[type.ordinal()]);
+        }
+        return counts;
+    }
+
+    /**
+     * @return count of problems which were counted but not passed to the delegate sink
+     */
+    public long getSuppressedProblemCount() {
+        return suppressedProblemCount;
+    }
+
+    /**
+     * @return count of rows which ended up as a transaction cluster or as a parsing problem
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public boolean isAborted() {
+        return abortException != null;
+    }
+
+    /**
+     * Rethrows the abort of the parsing, parsers may have wrapped it into their own exceptions.
+     * @throws ParsingAbortedException when the parsing has been aborted
+     */
+    public void throwIfAborted() {
+        if (abortException != null) {
+            throw abortException;
+        }
+    }
+
+    private boolean isSampled(int type, String message) {
+        final boolean messageSample = isMessageSampled(message);
+        if (typeSampleCounts[type] < policy.getMaxSamplesPerType()) {
+            typeSampleCounts[type]++;
+            return true;
+        }
+        return messageSample;
+    }
+
+    private boolean isMessageSampled(String message) {
+        if (policy.getMaxSamplesPerMessage() == 0) {
+            return false;
+        }
+        final Integer messageSampleCount = messageSampleCounts.get(message);
+        if (messageSampleCount == null) {
+            if (messageSampleCounts.size() >= policy.getMaxDistinctMessages()) {
+                return false;
+            }
+            messageSampleCounts.put(message, 1);
+            return true;
+        }
+        if (messageSampleCount < policy.getMaxSamplesPerMessage()) {
+            messageSampleCounts.put(message, messageSampleCount + 1);
+            return true;
+        }
+        return false;
+    }
+
+    private void checkFailedRowRate() {
+        if (!policy.isAbortEnabled() || rowCount < policy.getMinRowCount()) {
+            return;
+        }
+        final long failedRowCount = problemCounts[ParsingProblemType.ROW_PARSING_FAILED.ordinal()];
+        if (failedRowCount > policy.getMaxFailedRowRate() * rowCount) {
+            abortException = new ParsingAbortedException(String.format(
+                "Parsing aborted, %d of %d rows failed to parse.", failedRowCount, rowCount
+            ));
+            throw abortException;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.everytrade.server.plugin.api.parser;
+
+/**
+ * Bounds the parsing problems kept for one parsed file. The first problems of each {@link ParsingProblemType} and of
+ * each distinct message are kept whole, the others are only counted. Optionally the parsing is aborted when the
+ * share of failed rows exceeds a threshold, which is typical for a file of a wrong format.
+ */
+public class ParsingProblemPolicy {
+    public static final ParsingProblemPolicy UNBOUNDED = new ParsingProblemPolicy(Integer.MAX_VALUE, 0);
+    private static final double NO_ABORT = 1.0;
+    private static final int DEFAULT_MAX_DISTINCT_MESSAGES = 1000;
+
+    private final int maxSamplesPerType;
+    private final int maxSamplesPerMessage;
+    private final int maxDistinctMessages;
+    private final double maxFailedRowRate;
+    private final int minRowCount;
+
+    public ParsingProblemPolicy(int maxSamplesPerType, int maxSamplesPerMessage) {
+        this(maxSamplesPerType, maxSamplesPerMessage, NO_ABORT, 0);
+    }
+
+    public ParsingProblemPolicy(
+        int maxSamplesPerType,
+        int maxSamplesPerMessage,
+        double maxFailedRowRate,
+        int minRowCount
+    ) {
+        this(maxSamplesPerType, maxSamplesPerMessage, DEFAULT_MAX_DISTINCT_MESSAGES, maxFailedRowRate, minRowCount);
+    }
+
+    /**
+     * @param maxSamplesPerType    count of problems of each type kept whole
+     * @param maxSamplesPerMessage count of problems with the same message kept whole on top of the problems kept per
+     *                             type
+     * @param maxDistinctMessages  count of distinct messages whose problems are counted
+     * @param maxFailedRowRate     parsing is aborted when the share of rows failed to parse exceeds it, 1.0 never
+     *                             aborts
+     * @param minRowCount          count of rows read before the share of failed rows is checked
+     */
+    public ParsingProblemPolicy(
+        int maxSamplesPerType,
+        int maxSamplesPerMessage,
+        int maxDistinctMessages,
+        double maxFailedRowRate,
+        int minRowCount
+    ) {
+        if (maxSamplesPerType < 0 || maxSamplesPerMessage < 0 || maxDistinctMessages < 0 || minRowCount < 0) {
+            throw new IllegalArgumentException("Limits of parsing problems must not be negative.");
+        }
+        if (!(maxFailedRowRate >= 0 && maxFailedRowRate <= NO_ABORT)) {
+            throw new IllegalArgumentException(String.format("Illegal failed row rate %s.", maxFailedRowRate));
+        }
+        this.maxSamplesPerType = maxSamplesPerType;
+        this.maxSamplesPerMessage = maxSamplesPerMessage;
+        this.maxDistinctMessages = maxDistinctMessages;
+        this.maxFailedRowRate = maxFailedRowRate;
+        this.minRowCount = minRowCount;
+    }
+
+    public int getMaxSamplesPerType() {
+        return maxSamplesPerType;
+    }
+
+    public int getMaxSamplesPerMessage() {
+        return maxSamplesPerMessage;
+    }
+
+    public int getMaxDistinctMessages() {
+        return maxDistinctMessages;
+    }
+
+    public double getMaxFailedRowRate() {
+        return maxFailedRowRate;
+    }
+
+    public int getMinRowCount() {
+        return minRowCount;
+    }
+
+    public boolean isAbortEnabled() {
+        return maxFailedRowRate < NO_ABORT;
+    }
+
+    @Override
+    public String toString() {
+        return "ParsingProblemPolicy{" +
+            "maxSamplesPerType=" + maxSamplesPerType +
+            ", maxSamplesPerMessage=" + maxSamplesPerMessage +
+            ", maxDistinctMessages=" + maxDistinctMessages +
+            ", maxFailedRowRate=" + maxFailedRowRate +
+            ", minRowCount=" + minRowCount +
+            '}';
+    }
+}
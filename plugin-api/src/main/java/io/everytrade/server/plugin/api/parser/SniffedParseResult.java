@@ -0,0 +1,24 @@
+package io.everytrade.server.plugin.api.parser;
+
+import java.util.Objects;
+
+/**
+ * Parse result together with the parser resolved from the header of the parsed content.
+ */
+public class SniffedParseResult {
+    private final ParserSelection parserSelection;
+    private final ParseResult parseResult;
+
+    public SniffedParseResult(ParserSelection parserSelection, ParseResult parseResult) {
+        Objects.requireNonNull(this.parserSelection = parserSelection);
+        Objects.requireNonNull(this.parseResult = parseResult);
+    }
+
+    public ParserSelection getParserSelection() {
+        return parserSelection;
+    }
+
+    public ParseResult getParseResult() {
+        return parseResult;
+    }
+}
@@ -0,0 +1,273 @@
+package io.everytrade.server.plugin.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads the CSV documents of a plain, gzip or zip file or stream. Compressed content is decompressed as a stream while
+ * reading, nothing is extracted to the disk. The compression is recognized by the leading bytes, a zip file may
+ * contain several documents. Documents are read as UTF-8 unless another charset is given, a leading byte order mark is
+ * skipped.
+ */
+public final class CsvFileEntries {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC = 0x1F8B;
+    private static final int ZIP_MAGIC = 0x504B0304;
+    private static final char BOM = '\uFEFF';
+    // metadata added by macOS archivers
+    private static final String MAC_OS_METADATA = "__MACOSX/";
+
+    public enum Compression {
+        NONE, GZIP, ZIP
+    }
+
+    public interface IEntryConsumer {
+        /**
+         * @param name   name of the zip entry or of the file
+         * @param reader reader of the document, closing it does not close the other documents
+         */
+        void accept(String name, BufferedReader reader) throws IOException;
+    }
+
+    private CsvFileEntries() {
+    }
+
+    public static Compression detectCompression(File file) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file), Integer.BYTES)) {
+            return detectCompression(inputStream);
+        }
+    }
+
+    /**
+     * Peeks at the leading bytes of the file open as the channel, the position of the channel is not changed.
+     */
+    public static Compression detectCompression(FileChannel channel) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(newInputStream(channel), Integer.BYTES)) {
+            return detectCompression(inputStream);
+        }
+    }
+
+    /**
+     * Peeks at the leading bytes of the stream, the stream is reset to its position afterwards.
+     * @param inputStream stream supporting {@link InputStream#mark(int)}
+     */
+    public static Compression detectCompression(InputStream inputStream) throws IOException {
+        inputStream.mark(Integer.BYTES);
+        final byte[] magic = inputStream.readNBytes(Integer.BYTES);
+        inputStream.reset();
+        if (magic.length >= 2 && ((magic[0] & 0xFF) << 8 | (magic[1] & 0xFF)) == GZIP_MAGIC) {
+            return Compression.GZIP;
+        }
+        if (magic.length == Integer.BYTES
+            && ((magic[0] & 0xFF) << 24 | (magic[1] & 0xFF) << 16 | (magic[2] & 0xFF) << 8 | (magic[3] & 0xFF))
+            == ZIP_MAGIC) {
+            return Compression.ZIP;
+        }
+        return Compression.NONE;
+    }
+
+    /**
+     * Estimates the size of the file's documents once decompressed without decompressing them: the size of a plain
+     * file, the size stored in the gzip trailer or the sum of the document sizes stored in the zip central directory.
+     * The gzip trailer keeps the size modulo 4 GB and a zip entry may lack its size, so the estimate is never less than
+     * the size of the file itself.
+     */
+    public static long estimateDecompressedSize(File file) throws IOException {
+        final long fileSize = file.length();
+        switch (detectCompression(file)) {
+            case GZIP:
+                try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+                    randomAccessFile.seek(fileSize - Integer.BYTES);
+                    // little-endian ISIZE of the last member
+                    final long size = Integer.toUnsignedLong(Integer.reverseBytes(randomAccessFile.readInt()));
+                    return Math.max(size, fileSize);
+                }
+            case ZIP:
+                long size = 0;
+                try (ZipFile zipFile = new ZipFile(file, StandardCharsets.UTF_8)) {
+                    final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                    while (entries.hasMoreElements()) {
+                        final ZipEntry entry = entries.nextElement();
+                        if (isDocument(entry)) {
+                            size += Math.max(entry.getSize(), entry.getCompressedSize());
+                        }
+                    }
+                }
+                return Math.max(size, fileSize);
+            default:
+                return fileSize;
+        }
+    }
+
+    public static void forEach(File file, IEntryConsumer consumer) throws IOException {
+        forEach(file, StandardCharsets.UTF_8, consumer);
+    }
+
+    /**
+     * Hands over the documents of the file one by one in the order they are stored. Directories and macOS metadata of
+     * zip files are skipped.
+     */
+    public static void forEach(File file, Charset charset, IEntryConsumer consumer) throws IOException {
+        try (InputStream inputStream = new FileInputStream(file)) {
+            forEach(inputStream, file.getName(), charset, consumer);
+        }
+    }
+
+    /**
+     * Hands over the documents of the stream like {@link #forEach(File, Charset, IEntryConsumer)}, the stream is not
+     * closed.
+     * @param name name of a plain or gzip document
+     * @param charset charset of the documents, UTF-8 when null
+     */
+    public static void forEach(InputStream inputStream, String name, Charset charset, IEntryConsumer consumer)
+        throws IOException {
+        final InputStream bufferedStream = new BufferedInputStream(new NonClosingInputStream(inputStream), BUFFER_SIZE);
+        final Charset documentCharset = charset == null ? StandardCharsets.UTF_8 : charset;
+        switch (detectCompression(bufferedStream)) {
+            case GZIP:
+                consumer.accept(name, newReader(new GZIPInputStream(bufferedStream, BUFFER_SIZE), documentCharset));
+                break;
+            case ZIP:
+                final ZipInputStream zipInputStream = new ZipInputStream(bufferedStream, StandardCharsets.UTF_8);
+                ZipEntry entry;
+                while ((entry = zipInputStream.getNextEntry()) != null) {
+                    if (isDocument(entry)) {
+                        consumer.accept(
+                            entry.getName(),
+                            newReader(new NonClosingInputStream(zipInputStream), documentCharset)
+                        );
+                    }
+                }
+                break;
+            default:
+                consumer.accept(name, newReader(bufferedStream, documentCharset));
+        }
+    }
+
+    /**
+     * @return the first line of the first document or an empty string when there is none
+     */
+    public static String readHeader(File file) throws IOException {
+        try (InputStream inputStream = new FileInputStream(file)) {
+            return readHeader(inputStream, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Reads the first line of the first document of the file open as the channel, the channel is not closed.
+     * @return the first line of the first document or an empty string when there is none
+     */
+    public static String readHeader(FileChannel channel) throws IOException {
+        return readHeader(newInputStream(channel), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the first line of the first document, the stream is not closed. The stream may be read ahead beyond the
+     * first line, mark it to parse it from its start afterwards.
+     * @param charset charset of the documents, UTF-8 when null
+     * @return the first line of the first document or an empty string when there is none
+     */
+    public static String readHeader(InputStream inputStream, Charset charset) throws IOException {
+        final InputStream bufferedStream = new BufferedInputStream(new NonClosingInputStream(inputStream), BUFFER_SIZE);
+        final InputStream document;
+        switch (detectCompression(bufferedStream)) {
+            case GZIP:
+                document = new GZIPInputStream(bufferedStream, BUFFER_SIZE);
+                break;
+            case ZIP:
+                final ZipInputStream zipInputStream = new ZipInputStream(bufferedStream, StandardCharsets.UTF_8);
+                ZipEntry entry;
+                do {
+                    entry = zipInputStream.getNextEntry();
+                } while (entry != null && !isDocument(entry));
+                if (entry == null) {
+                    return "";
+                }
+                document = zipInputStream;
+                break;
+            default:
+                document = bufferedStream;
+        }
+        final String firstLine = newReader(document, charset).readLine();
+        return firstLine == null ? "" : firstLine;
+    }
+
+    /**
+     * Creates a reader of an uncompressed document skipping the byte order mark.
+     */
+    public static BufferedReader newReader(InputStream inputStream, Charset charset) throws IOException {
+        final BufferedReader reader = new BufferedReader(
+            new InputStreamReader(inputStream, charset == null ? StandardCharsets.UTF_8 : charset), BUFFER_SIZE
+        );
+        reader.mark(1);
+        if (reader.read() != BOM) {
+            reader.reset();
+        }
+        return reader;
+    }
+
+    /**
+     * Reads the file open as the channel from its start. The stream uses positional reads, so it neither changes the
+     * position of the channel nor interferes with other readers of the channel, and it does not close the channel.
+     */
+    public static InputStream newInputStream(FileChannel channel) {
+        return new ChannelInputStream(channel);
+    }
+
+    private static boolean isDocument(ZipEntry entry) {
+        return !entry.isDirectory() && !entry.getName().startsWith(MAC_OS_METADATA);
+    }
+
+    private static class NonClosingInputStream extends FilterInputStream {
+        NonClosingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class ChannelInputStream extends InputStream {
+        private final FileChannel channel;
+        private long position;
+
+        ChannelInputStream(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            final int read = channel.read(ByteBuffer.wrap(b, off, len), position);
+            if (read > 0) {
+                position += read;
+            }
+            return read;
+        }
+    }
+}
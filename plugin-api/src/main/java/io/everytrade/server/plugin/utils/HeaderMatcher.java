@@ -0,0 +1,130 @@
+package io.everytrade.server.plugin.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Matches file headers against a fixed set of header templates, each template mapped to a value (e.g. supported
+ * exchange). Build it once and reuse it - regex templates are compiled and exact templates are indexed in the
+ * constructor.
+ * <p>
+ * A header matches a template when
+ * <ol>
+ *     <li>it equals the template or</li>
+ *     <li>it equals the template after both are normalized - byte order marks and quotes are removed or</li>
+ *     <li>the template is a regex (starts with '^' and ends with '$') which finds a match in the header or in the
+ *     normalized header.</li>
+ * </ol>
+ * Normalized templates which collide with a template of a different value are matched only exactly.
+ */
+public class HeaderMatcher<T> {
+    private static final char BOM = '\uFEFF';
+    private static final char QUOTE = '"';
+    private final Map<String, Match<T>> exactMatches = new HashMap<>();
+    private final Map<String, Match<T>> normalizedMatches = new HashMap<>();
+    private final List<RegexTemplate<T>> regexTemplates = new ArrayList<>();
+
+    public HeaderMatcher(Map<String, T> headerTemplates) {
+        Objects.requireNonNull(headerTemplates);
+        final Set<String> ambiguousTemplates = new HashSet<>();
+        for (Map.Entry<String, T> entry : headerTemplates.entrySet()) {
+            final Match<T> match = new Match<>(entry.getKey(), entry.getValue());
+            exactMatches.put(match.template, match);
+            if (isRegex(match.template)) {
+                regexTemplates.add(new RegexTemplate<>(Pattern.compile(match.template), match));
+                continue;
+            }
+            final String normalizedTemplate = normalize(match.template);
+            final Match<T> previous = normalizedMatches.putIfAbsent(normalizedTemplate, match);
+            if (previous != null && !Objects.equals(previous.value, match.value)) {
+                ambiguousTemplates.add(normalizedTemplate);
+            }
+        }
+        ambiguousTemplates.forEach(normalizedMatches::remove);
+    }
+
+    /**
+     * @return matching template and its value or null when no template matches the header
+     */
+    public Match<T> match(String header) {
+        Objects.requireNonNull(header);
+        final Match<T> exactMatch = exactMatches.get(header);
+        if (exactMatch != null) {
+            return exactMatch;
+        }
+        final String normalizedHeader = normalize(header);
+        final Match<T> normalizedMatch = normalizedMatches.get(normalizedHeader);
+        if (normalizedMatch != null) {
+            return normalizedMatch;
+        }
+        for (RegexTemplate<T> regexTemplate : regexTemplates) {
+            if (
+                regexTemplate.pattern.matcher(header).find()
+                    || regexTemplate.pattern.matcher(normalizedHeader).find()
+            ) {
+                return regexTemplate.match;
+            }
+        }
+        return null;
+    }
+
+    static boolean isRegex(String headerTemplate) {
+        return headerTemplate.startsWith("^") && headerTemplate.endsWith("$");
+    }
+
+    static String normalize(String header) {
+        if (header.indexOf(BOM) < 0 && header.indexOf(QUOTE) < 0) {
+            return header;
+        }
+        final StringBuilder builder = new StringBuilder(header.length());
+        for (int i = 0; i < header.length(); i++) {
+            final char c = header.charAt(i);
+            if (c != BOM && c != QUOTE) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    public static class Match<T> {
+        private final String template;
+        private final T value;
+
+        public Match(String template, T value) {
+            Objects.requireNonNull(this.template = template);
+            this.value = value;
+        }
+
+        public String getTemplate() {
+            return template;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return "Match{" +
+                "template='" + template + '\'' +
+                ", value=" + value +
+                '}';
+        }
+    }
+
+    private static class RegexTemplate<T> {
+        private final Pattern pattern;
+        private final Match<T> match;
+
+        RegexTemplate(Pattern pattern, Match<T> match) {
+            this.pattern = pattern;
+            this.match = match;
+        }
+    }
+}
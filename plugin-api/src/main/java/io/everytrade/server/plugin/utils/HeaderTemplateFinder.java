@@ -4,6 +4,9 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Pattern;
 
+/**
+ * Compiles the regex templates on every call; use {@link HeaderMatcher} when the same templates are matched repeatedly.
+ */
 public class HeaderTemplateFinder {
     private HeaderTemplateFinder() {
     }
@@ -0,0 +1,105 @@
+package io.everytrade.server.model;
+
+import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.DefaultUnivocityExchangeSpecificParser;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.BinanceBeanV1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tradeable pair validation of every row of a generated Binance file. {@link #listLookup} reproduces the former
+ * validation - a fresh tradeable pair list and a linear scan per row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CurrencyPairBenchmark {
+    private static final String HEADER = "Date(UTC),Market,Type,Price,Amount,Total,Fee,Fee Coin\n";
+    private static final String[] MARKETS = {"BTCUSDT", "ETHBTC", "LTCBNB", "XRPETH", "ADAUSDT", "DOGEBTC"};
+
+    @Param({"1000000"})
+    private int rowCount;
+
+    private File file;
+    private List<CurrencyPair> rowPairs;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = File.createTempFile("binance-benchmark", ".csv");
+        try (FileWriter writer = new FileWriter(file, StandardCharsets.UTF_8)) {
+            writer.append(HEADER);
+            for (int i = 0; i < rowCount; i++) {
+                writer.append(String.format(
+                    "2020-05-28 15:03:21,%s,BUY,0.025,1.5,0.0375,0.001,BNB\n", MARKETS[i % MARKETS.length]
+                ));
+            }
+        }
+        final List<ExchangeBean> beans = new DefaultUnivocityExchangeSpecificParser(BinanceBeanV1.class)
+            .parse(file)
+            .getExchangeBeans();
+        rowPairs = new ArrayList<>(beans.size());
+        for (ExchangeBean bean : beans) {
+            final ImportedTransactionBean transaction = bean.toTransactionCluster().getMain();
+            rowPairs.add(CurrencyPair.of(transaction.getBase(), transaction.getQuote()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public void listLookup(Blackhole blackhole) {
+        for (CurrencyPair rowPair : rowPairs) {
+            final List<CurrencyPair> tradeablePairs = new ArrayList<>();
+            for (CurrencyPair tradeablePair : CurrencyPair.getTradeablePairs()) {
+                tradeablePairs.add(new CurrencyPair(tradeablePair.getBase(), tradeablePair.getQuote()));
+            }
+            blackhole.consume(
+                tradeablePairs.contains(new CurrencyPair(rowPair.getBase(), rowPair.getQuote()))
+            );
+        }
+    }
+
+    @Benchmark
+    public void matrixLookup(Blackhole blackhole) {
+        for (CurrencyPair rowPair : rowPairs) {
+            blackhole.consume(CurrencyPair.isTradeable(rowPair.getBase(), rowPair.getQuote()));
+        }
+    }
+
+    @Benchmark
+    public void parseFile(Blackhole blackhole) {
+        new DefaultUnivocityExchangeSpecificParser(BinanceBeanV1.class).parse(
+            file,
+            bean -> blackhole.consume(bean.toTransactionCluster()),
+            blackhole::consume
+        );
+    }
+}
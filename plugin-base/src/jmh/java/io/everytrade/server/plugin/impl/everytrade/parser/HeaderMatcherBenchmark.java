@@ -0,0 +1,69 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+import io.everytrade.server.plugin.utils.HeaderMatcher;
+import io.everytrade.server.plugin.utils.HeaderTemplateFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Detection of every header registered in {@link EverytradeCsvMultiParser} plus a few headers matched by regex
+ * templates and an unknown header.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeaderMatcherBenchmark {
+    private static final List<String> REGEX_MATCHED_HEADERS = List.of(
+        "Date (+01),Instrument,Trade ID,Order ID,Side,Quantity,Price,Volume,Fee,Rebate,Total",
+        "\"Email\",\"Date (+01)\",\"Instrument\",\"Trade ID\",\"Order ID\",\"Side\",\"Quantity\",\"Price\"," +
+            "\"Volume\",\"Fee\",\"Rebate\",\"Total\",\"Taker\"",
+        "Timestamp,Transaction Type,Asset,Quantity Transacted,USD Spot Price at Transaction,USD Subtotal," +
+            "USD Total (inclusive of fees),USD Fees,Notes",
+        "unknown,header"
+    );
+
+    private Set<String> headerTemplates;
+    private HeaderMatcher<String> headerMatcher;
+    private List<String> headers;
+
+    @Setup
+    public void setUp() {
+        headerTemplates = EverytradeCsvMultiParser.DESCRIPTOR.getHeaderTemplates();
+        headerMatcher = new HeaderMatcher<>(headerTemplates.stream().collect(Collectors.toMap(t -> t, t -> t)));
+        headers = new ArrayList<>();
+        headerTemplates.stream().filter(t -> !t.startsWith("^")).forEach(headers::add);
+        headers.addAll(REGEX_MATCHED_HEADERS);
+    }
+
+    @Benchmark
+    public void headerTemplateFinder(Blackhole blackhole) {
+        for (String header : headers) {
+            blackhole.consume(HeaderTemplateFinder.findHeaderTemplate(header, headerTemplates));
+        }
+    }
+
+    @Benchmark
+    public void headerMatcher(Blackhole blackhole) {
+        for (String header : headers) {
+            blackhole.consume(headerMatcher.match(header));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duplicate detection of row fingerprints by {@link LongHashSet} compared with a {@code HashSet<Long>}. Run with
+ * {@code -PjmhProfilers=gc} to compare the allocation per million rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LongHashSetBenchmark {
+    @Param({"1000000"})
+    private int rowCount;
+
+    private long[] fingerprints;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        fingerprints = new long[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            // every tenth row repeats an earlier one
+            fingerprints[i] = i % 10 == 9 ? fingerprints[random.nextInt(i)] : random.nextLong();
+        }
+    }
+
+    @Benchmark
+    public int longHashSet() {
+        final LongHashSet set = new LongHashSet();
+        int duplicates = 0;
+        for (long fingerprint : fingerprints) {
+            if (!set.add(fingerprint)) {
+                duplicates++;
+            }
+        }
+        return duplicates;
+    }
+
+    @Benchmark
+    public int boxedHashSet() {
+        final Set<Long> set = new HashSet<>();
+        int duplicates = 0;
+        for (long fingerprint : fingerprints) {
+            if (!set.add(fingerprint)) {
+                duplicates++;
+            }
+        }
+        return duplicates;
+    }
+}
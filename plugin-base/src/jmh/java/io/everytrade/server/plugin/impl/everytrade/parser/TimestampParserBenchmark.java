@@ -0,0 +1,73 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of one timestamp by {@link TimestampParser} compared with a formatter created per call (former
+ * {@link ParserUtils#parse(String, String)}) and with a shared formatter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimestampParserBenchmark {
+    @Param({"yyyy-MM-dd HH:mm:ss|2020-05-28 15:03:21", "dd.MM.yyyy HH:mm|28.05.2020 15:03", "M/d/yy h:mm a|5/8/20 3:03 PM"})
+    public String patternAndValue;
+
+    private String pattern;
+    private String value;
+    private DateTimeFormatter formatter;
+    private TimestampParser timestampParser;
+
+    @Setup
+    public void setUp() {
+        final String[] parts = patternAndValue.split("\\|");
+        pattern = parts[0];
+        value = parts[1];
+        formatter = DateTimeFormatter.ofPattern(pattern, Locale.US).withZone(ZoneOffset.UTC);
+        timestampParser = TimestampParser.ofPattern(pattern);
+    }
+
+    @Benchmark
+    public Instant formatterPerCall() {
+        return DateTimeFormatter.ofPattern(pattern, Locale.US).withZone(ZoneOffset.UTC).parse(value, Instant::from);
+    }
+
+    @Benchmark
+    public Instant sharedFormatter() {
+        return formatter.parse(value, Instant::from);
+    }
+
+    @Benchmark
+    public Instant timestampParser() {
+        return timestampParser.parse(value);
+    }
+
+    @Benchmark
+    public Instant isoFormatter() {
+        return Instant.parse("2020-05-28T15:03:21.123Z");
+    }
+
+    @Benchmark
+    public Instant isoTimestampParser() {
+        return TimestampParser.ISO_OFFSET_DATE_TIME.parse("2020-05-28T15:03:21.123Z");
+    }
+}
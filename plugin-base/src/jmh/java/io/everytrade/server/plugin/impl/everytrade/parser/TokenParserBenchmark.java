@@ -0,0 +1,80 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+import io.everytrade.server.model.Currency;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of token cell values by {@link TokenParser} compared with the former split/replaceAll code. Run with
+ * {@code -PjmhProfilers=gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenParserBenchmark {
+    private String amountAndCurrency = "0.5 BTC";
+    private String pair = "BTC/USD";
+    private String formattedAmount = "1,234.5$";
+    private String plainAmount = "-0.00512345";
+
+    @Benchmark
+    public void amountAndCurrencySplit(Blackhole blackhole) {
+        final String[] tokens = amountAndCurrency.split(" ");
+        blackhole.consume(new BigDecimal(tokens[0]));
+        blackhole.consume(Currency.fromCode(tokens[1]));
+    }
+
+    @Benchmark
+    public void amountAndCurrencyTokenParser(Blackhole blackhole) {
+        blackhole.consume(TokenParser.amountToken(amountAndCurrency, ' ', 0));
+        blackhole.consume(TokenParser.currencyToken(amountAndCurrency, ' ', 1));
+    }
+
+    @Benchmark
+    public void pairSplit(Blackhole blackhole) {
+        final String[] tokens = pair.split("/");
+        blackhole.consume(Currency.fromCode(tokens[0]));
+        blackhole.consume(Currency.fromCode(tokens[1]));
+    }
+
+    @Benchmark
+    public void pairTokenParser(Blackhole blackhole) {
+        blackhole.consume(TokenParser.currencyToken(pair, '/', 0));
+        blackhole.consume(TokenParser.currencyToken(pair, '/', 1));
+    }
+
+    @Benchmark
+    public BigDecimal formattedAmountReplaceAll() {
+        return new BigDecimal(formattedAmount.replaceAll(ExchangeBean.IGNORED_CHARS_IN_NUMBER, ""));
+    }
+
+    @Benchmark
+    public BigDecimal formattedAmountTokenParser() {
+        return TokenParser.amount(formattedAmount);
+    }
+
+    @Benchmark
+    public BigDecimal plainAmountBigDecimal() {
+        return new BigDecimal(plainAmount);
+    }
+
+    @Benchmark
+    public BigDecimal plainAmountTokenParser() {
+        return TokenParser.amount(plainAmount);
+    }
+}
@@ -0,0 +1,133 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+import com.univocity.parsers.common.ParsingContext;
+import com.univocity.parsers.common.processor.AbstractRowProcessor;
+import com.univocity.parsers.common.processor.BeanProcessor;
+import com.univocity.parsers.common.processor.RowProcessor;
+import com.univocity.parsers.csv.CsvParser;
+import com.univocity.parsers.csv.CsvParserSettings;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.BinanceBeanV1;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.CoinmateBeanV2;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.KrakenBeanV1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean mapping by {@link BeanRowMapper} compared to univocity's reflective {@link BeanProcessor}. Both variants parse
+ * the same generated content, so the difference is the cost of mapping the rows to beans.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanRowMapperBenchmark {
+
+    public enum Sample {
+        KRAKEN(
+            KrakenBeanV1.class,
+            ",",
+            "txid,ordertxid,pair,time,type,ordertype,price,cost,fee,vol,margin,misc,ledgers\n",
+            "T%d,O,XXBTZUSD,2019-07-29 17:04:41,buy,limit,9480.3,18.9606,0.0493,0.002,0,,\"LX,JX\"\n"
+        ),
+        BINANCE(
+            BinanceBeanV1.class,
+            ";",
+            "Date(UTC);Market;Type;Price;Amount;Total;Fee;Fee Coin\n",
+            "2020-02-04 16:19:07;LTCBTC;BUY;0.007393;1.61;0.01190273;0.00161;LTC\n"
+        ),
+        COINMATE(
+            CoinmateBeanV2.class,
+            ";",
+            "?Transaction id;Date;Email;Name;Type;Type detail;Currency amount;Amount;Currency price;Price;"
+                + "Currency fee;Fee;Currency total;Total;Description;Status;Currency first balance after;"
+                + "First balance after;Currency second balance after;Second balance after\n",
+            "%d;2020-02-10 19:08:30;mail;name;Quick trade;SELL;BTC;-0.047668;EUR;9011.62834249;EUR;0.85913259;"
+                + "EUR;428.70716724;;OK;BTC;1.99655368;EUR;83230.41972657\n"
+        );
+
+        private final Class<? extends ExchangeBean> beanClass;
+        private final String delimiter;
+        private final String header;
+        private final String row;
+
+        Sample(Class<? extends ExchangeBean> beanClass, String delimiter, String header, String row) {
+            this.beanClass = beanClass;
+            this.delimiter = delimiter;
+            this.header = header;
+            this.row = row;
+        }
+    }
+
+    @Param({"KRAKEN", "BINANCE", "COINMATE"})
+    private Sample sample;
+
+    @Param({"100000"})
+    private int rowCount;
+
+    private String content;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final StringBuilder builder = new StringBuilder(sample.header);
+        for (int i = 0; i < rowCount; i++) {
+            builder.append(String.format(sample.row, i));
+        }
+        content = builder.toString();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void beanProcessor(Blackhole blackhole) {
+        parse(new BeanProcessor<>((Class<ExchangeBean>) sample.beanClass) {
+            @Override
+            public void beanProcessed(ExchangeBean bean, ParsingContext context) {
+                blackhole.consume(bean);
+            }
+        });
+    }
+
+    @Benchmark
+    public void rowMapper(Blackhole blackhole) {
+        parse(new AbstractRowProcessor() {
+            private IRowMapper<? extends ExchangeBean> rowMapper;
+
+            @Override
+            public void rowProcessed(String[] row, ParsingContext context) {
+                if (rowMapper == null) {
+                    rowMapper = BeanRowMapper.create(
+                        sample.beanClass,
+                        context.headers(),
+                        context.extractedFieldIndexes(),
+                        context.columnsReordered()
+                    );
+                }
+                blackhole.consume(rowMapper.map(row));
+            }
+        });
+    }
+
+    private void parse(RowProcessor processor) {
+        final CsvParserSettings parserSettings = new CsvParserSettings();
+        parserSettings.setHeaderExtractionEnabled(true);
+        parserSettings.getFormat().setDelimiter(sample.delimiter);
+        parserSettings.getFormat().setComment('\0');
+        parserSettings.setProcessor(processor);
+        new CsvParser(parserSettings).parse(new StringReader(content));
+    }
+}
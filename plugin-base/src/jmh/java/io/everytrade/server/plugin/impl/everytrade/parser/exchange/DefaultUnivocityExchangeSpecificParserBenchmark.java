@@ -0,0 +1,75 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.KrakenBeanV1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the Kraken trades parser on a generated file with respect to the count of parsing threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DefaultUnivocityExchangeSpecificParserBenchmark {
+    private static final String HEADER
+        = "txid,ordertxid,pair,time,type,ordertype,price,cost,fee,vol,margin,misc,ledgers\n";
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"500000"})
+    private int rowCount;
+
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = File.createTempFile("kraken-benchmark", ".csv");
+        try (FileWriter writer = new FileWriter(file, StandardCharsets.UTF_8)) {
+            writer.append(HEADER);
+            for (int i = 0; i < rowCount; i++) {
+                writer.append(String.format(
+                    "T%d,O%d,XXBTZUSD,2019-07-29 17:04:41,buy,limit,9480.3,18.9606,0.0493,0.002,0,,L%d\n", i, i, i
+                ));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        new DefaultUnivocityExchangeSpecificParser(
+            KrakenBeanV1.class,
+            ",",
+            null,
+            parallelism,
+            DefaultUnivocityExchangeSpecificParser.DEFAULT_CHUNK_SIZE
+        ).parse(file, blackhole::consume, blackhole::consume);
+    }
+}
@@ -0,0 +1,73 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.GeneralBytesBeanV2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of a generated General Bytes file where 90% of rows are ignored for their status.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IgnoredRowsBenchmark {
+    private static final String HEADER = "Terminal SN;Server Time;Terminal Time;Local Transaction Id;" +
+        "Remote Transaction Id;Type;Cash Amount;Cash Currency;Crypto Amount;Crypto Currency;Used Discount;" +
+        "Actual Discount (%);Destination Address;Related Remote Transaction Id;Identity;Status;Phone Number;" +
+        "Transaction Detail;Transaction Note;Rate Incl. Fee;Rate Without Fee;Fixed Transaction Fee;" +
+        "Expected Profit Percent Setting;Expected Profit Value;Crypto Setting Name;Transaction Scoring Result;" +
+        "Expense;Expense Currency;\n";
+    private static final String ROW = "B1;2020-12-10 15:02:41;2020-12-10 16:02:41;L%d;R%d;BUY;100;CZK;0.04595383;" +
+        "LTC;;0.00;x;;;%s;;;;2176.097183;2176.0974;0;0;0;LTC test;;0.0001;LTC;\n";
+    private static final int IGNORED_PER_TEN_ROWS = 9;
+
+    @Param({"200000"})
+    private int rowCount;
+
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = File.createTempFile("general-bytes-benchmark", ".csv");
+        try (FileWriter writer = new FileWriter(file, StandardCharsets.UTF_8)) {
+            writer.append(HEADER);
+            for (int i = 0; i < rowCount; i++) {
+                final String status = i % 10 < IGNORED_PER_TEN_ROWS ? "ERROR (INVALID UNKNOWN ERROR)" : "COMPLETED (0)";
+                writer.append(String.format(ROW, i, i, status));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        new DefaultUnivocityExchangeSpecificParser(GeneralBytesBeanV2.class, ";")
+            .parse(file, blackhole::consume, blackhole::consume);
+    }
+}
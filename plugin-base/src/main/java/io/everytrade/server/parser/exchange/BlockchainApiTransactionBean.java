@@ -53,7 +53,7 @@ public class BlockchainApiTransactionBean {
 
     public TransactionCluster toTransactionCluster() {
         try {
-            new CurrencyPair(base, quote);
+            CurrencyPair.of(base, quote);
         } catch (CurrencyPair.FiatCryptoCombinationException e) {
             throw new IllegalArgumentException(e.getMessage());
         }
@@ -110,7 +110,7 @@ public class EveryTradeApiTransactionBean {
         final Currency base = Currency.fromCode(Objects.requireNonNull(this.base));
         final Currency quote = Currency.fromCode(Objects.requireNonNull(this.quote));
         try {
-            new CurrencyPair(base, quote);
+            CurrencyPair.of(base, quote);
         } catch (CurrencyPair.FiatCryptoCombinationException e) {
             throw new DataValidationException(e.getMessage());
         }
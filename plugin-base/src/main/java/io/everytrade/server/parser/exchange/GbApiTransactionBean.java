@@ -132,7 +132,7 @@ public class GbApiTransactionBean {
         final Currency baseCurrency = Currency.fromCode(base);
         final Currency quoteCurrency = Currency.fromCode(quote);
         try {
-            new CurrencyPair(baseCurrency, quoteCurrency);
+            CurrencyPair.of(baseCurrency, quoteCurrency);
         } catch (CurrencyPair.FiatCryptoCombinationException e) {
             throw new DataValidationException(e.getMessage());
         }
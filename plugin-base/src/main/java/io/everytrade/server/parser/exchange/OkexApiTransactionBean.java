@@ -60,7 +60,7 @@ public class OkexApiTransactionBean {
 
     public TransactionCluster toTransactionCluster() {
         try {
-            new CurrencyPair(instrumentIdBase, instrumentIdQuote);
+            CurrencyPair.of(instrumentIdBase, instrumentIdQuote);
         } catch (CurrencyPair.FiatCryptoCombinationException e) {
             throw new DataValidationException(e.getMessage());
         }
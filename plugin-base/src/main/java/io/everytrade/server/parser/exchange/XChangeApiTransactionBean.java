@@ -2,6 +2,7 @@ package io.everytrade.server.parser.exchange;
 
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
+import io.everytrade.server.model.CurrencyAliases;
 import io.everytrade.server.model.CurrencyPair;
 import io.everytrade.server.model.SupportedExchange;
 import io.everytrade.server.model.TransactionType;
@@ -17,11 +18,15 @@ import org.knowm.xchange.instrument.Instrument;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean.FEE_UID_PART;
 
 public class XChangeApiTransactionBean {
+    private static final CurrencyAliases CURRENCY_ALIASES
+        = CurrencyAliases.DEFAULT.with(createCommonlyUsedCodeAliases());
     private final String id;
     private final Instant timestamp;
     private final TransactionType type;
@@ -53,7 +58,7 @@ public class XChangeApiTransactionBean {
 
     public TransactionCluster toTransactionCluster() {
         try {
-            new CurrencyPair(base, quote);
+            CurrencyPair.of(base, quote);
         } catch (CurrencyPair.FiatCryptoCombinationException e) {
             throw new DataValidationException(e.getMessage());
         }
@@ -118,12 +123,21 @@ public class XChangeApiTransactionBean {
     }
 
     private Currency convert(org.knowm.xchange.currency.Currency currency) {
-        try {
-            return Currency.fromCode(currency.getCurrencyCode());
-        } catch (IllegalArgumentException e) {
-            final org.knowm.xchange.currency.Currency currencyConverted =
-                org.knowm.xchange.currency.Currency.getInstance(currency.getCurrencyCode()).getCommonlyUsedCurrency();
-            return Currency.fromCode(currencyConverted.getCurrencyCode());
+        return CURRENCY_ALIASES.resolve(currency.getCurrencyCode());
+    }
+
+    // XChange codes mapped to the commonly used codes of the same currency
+    private static Map<String, Currency> createCommonlyUsedCodeAliases() {
+        final Map<String, Currency> aliases = new HashMap<>();
+        for (String code : org.knowm.xchange.currency.Currency.getAvailableCurrencyCodes()) {
+            final String commonlyUsedCode = org.knowm.xchange.currency.Currency.getInstanceNoCreate(code)
+                .getCommonlyUsedCurrency()
+                .getCurrencyCode();
+            final Currency currency = Currency.tryFromCode(commonlyUsedCode);
+            if (!code.equals(commonlyUsedCode) && currency != null) {
+                aliases.put(code, currency);
+            }
         }
+        return aliases;
     }
 }
@@ -6,6 +6,7 @@ import io.everytrade.server.plugin.api.connector.ConnectorDescriptor;
 import io.everytrade.server.plugin.api.connector.IConnector;
 import io.everytrade.server.plugin.api.parser.ICsvParser;
 import io.everytrade.server.plugin.api.parser.ParserDescriptor;
+import io.everytrade.server.plugin.api.parser.ParserOptions;
 import io.everytrade.server.plugin.api.rateprovider.IRateProvider;
 import io.everytrade.server.plugin.impl.everytrade.parser.EverytradeCsvMultiParser;
 import io.everytrade.server.plugin.impl.everytrade.rateprovider.CoinPaprikaRateProvider;
@@ -115,8 +116,13 @@ public class EveryTradePlugin implements IPlugin {
 
     @Override
     public ICsvParser createParserInstance(String parserId) {
+        return createParserInstance(parserId, ParserOptions.DEFAULT);
+    }
+
+    @Override
+    public ICsvParser createParserInstance(String parserId, ParserOptions parserOptions) {
         if (parserId.equals(EverytradeCsvMultiParser.DESCRIPTOR.getId())) {
-            return new EverytradeCsvMultiParser();
+            return new EverytradeCsvMultiParser(parserOptions);
         }
         return null;
     }
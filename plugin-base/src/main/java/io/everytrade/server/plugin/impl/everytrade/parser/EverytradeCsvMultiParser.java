@@ -6,14 +6,25 @@ import io.everytrade.server.plugin.api.IPlugin;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.CoinbaseExchangeSpecificParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.HitBtcBeanV2;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.PoloniexBeanV2;
-import io.everytrade.server.plugin.utils.HeaderTemplateFinder;
+import io.everytrade.server.plugin.utils.CsvFileEntries;
+import io.everytrade.server.plugin.utils.HeaderMatcher;
+import io.everytrade.server.plugin.api.parser.BatchParseResult;
 import io.everytrade.server.plugin.api.parser.ICsvParser;
+import io.everytrade.server.plugin.api.parser.ImportFile;
+import io.everytrade.server.plugin.api.parser.ImportFileResult;
+import io.everytrade.server.plugin.api.parser.ImportToken;
+import io.everytrade.server.plugin.api.parser.IncrementalParseResult;
+import io.everytrade.server.plugin.api.parser.ITransactionClusterSink;
 import io.everytrade.server.plugin.api.parser.ParseResult;
 import io.everytrade.server.plugin.api.parser.ParserDescriptor;
+import io.everytrade.server.plugin.api.parser.ParserOptions;
 import io.everytrade.server.plugin.api.parser.ParsingProblem;
+import io.everytrade.server.plugin.api.parser.ParsingProblemCollector;
+import io.everytrade.server.plugin.api.parser.ParsingProblemPolicy;
 import io.everytrade.server.plugin.api.parser.ParsingProblemType;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
 import io.everytrade.server.plugin.impl.everytrade.EveryTradePlugin;
+import io.everytrade.server.plugin.impl.everytrade.parser.exception.ParsingProcessException;
 import io.everytrade.server.plugin.impl.everytrade.parser.exception.UnknownHeaderException;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.BitfinexExchangeSpecificParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.DefaultUnivocityExchangeSpecificParser;
@@ -47,60 +58,90 @@ import io.everytrade.server.plugin.impl.everytrade.parser.exchange.binance.v2.Bi
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Parses the files of all known header templates. The parser of each template is created once at class
+ * initialization and keeps no state of a parsing, so one instance may parse several files concurrently.
+ */
 public class EverytradeCsvMultiParser implements ICsvParser {
     private static final String ID = EveryTradePlugin.ID + IPlugin.PLUGIN_PATH_SEPARATOR + "everytradeParser";
     private static final Map<String, ExchangeParseDetail> EXCHANGE_PARSE_DETAILS = new HashMap<>();
     private static final String DELIMITER_COMMA = ",";
     private static final String DELIMITER_SEMICOLON = ";";
     private static final String LINE_SEPARATOR = "\n";
+    // threads parsing one file of the exchanges whose exports grow to hundreds of MB, used for big files only
+    private static final int FILE_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    public static final int DEFAULT_BATCH_PARALLELISM
+        = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    public static final long DEFAULT_MAX_IN_FLIGHT_BYTES = 256L * 1024 * 1024;
+    private static final int MAX_HEADER_LENGTH = 64 * 1024;
+    private static final String STREAM_DOCUMENT_NAME = "stream";
+    private static final String DUPLICATE_ROW = "Duplicate row.";
 
     static {
         EXCHANGE_PARSE_DETAILS.put(
             "Date(UTC);Market;Type;Price;Amount;Total;Fee;Fee Coin",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(BinanceBeanV1.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(
+                    BinanceBeanV1.class, DELIMITER_SEMICOLON, null, FILE_PARALLELISM
+                ),
                 SupportedExchange.BINANCE
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "Date(UTC),Market,Type,Price,Amount,Total,Fee,Fee Coin",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(BinanceBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(
+                    BinanceBeanV1.class, DELIMITER_COMMA, null, FILE_PARALLELISM
+                ),
                 SupportedExchange.BINANCE
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "Date(UTC);Pair;Type;Order Price;Order Amount;AvgTrading Price;Filled;Total;status",
             new ExchangeParseDetail(
-                () -> new BinanceExchangeSpecificParser(DELIMITER_SEMICOLON),
+                new BinanceExchangeSpecificParser(DELIMITER_SEMICOLON),
                 SupportedExchange.BINANCE
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "Date(UTC),Pair,Type,Order Price,Order Amount,AvgTrading Price,Filled,Total,status",
             new ExchangeParseDetail(
-                BinanceExchangeSpecificParser::new,
+                new BinanceExchangeSpecificParser(),
                 SupportedExchange.BINANCE
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "#,PAIR,AMOUNT,PRICE,FEE,FEE CURRENCY,DATE,ORDER ID",
             new ExchangeParseDetail(
-                BitfinexExchangeSpecificParser::new,
+                new BitfinexExchangeSpecificParser(),
                 SupportedExchange.BITFINEX
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "#,PAIR,AMOUNT,PRICE,FEE,FEE PERC,FEE CURRENCY,DATE,ORDER ID",
             new ExchangeParseDetail(
-                BitfinexExchangeSpecificParser::new,
+                new BitfinexExchangeSpecificParser(),
                 SupportedExchange.BITFINEX
             )
         );
@@ -108,7 +149,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
             "Trade Date;Product;Trade Type;Traded Price;Currency 1;Amount (Currency 1);Fee;USD Rate (Currency);" +
                 "Currency 2;Amount (Currency 2);Order ID;Details",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(BitflyerBeanV1.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(BitflyerBeanV1.class, DELIMITER_SEMICOLON),
                 SupportedExchange.BITFLYER
             )
         );
@@ -116,21 +157,21 @@ public class EverytradeCsvMultiParser implements ICsvParser {
             "\uFEFF\"transactTime\",\"symbol\",\"execType\",\"side\",\"lastQty\",\"lastPx\",\"execCost\"," +
                 "\"commission\",\"execComm\",\"ordType\",\"orderQty\",\"leavesQty\",\"price\",\"text\",\"orderID\"",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(BitmexBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(BitmexBeanV1.class),
                 SupportedExchange.BITMEX
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "Type,Datetime,Account,Amount,Value,Rate,Fee,Sub Type",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(BitstampBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(BitstampBeanV1.class),
                 SupportedExchange.BITSTAMP
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "OrderUuid,Exchange,Type,Quantity,Limit,CommissionPaid,Price,Opened,Closed",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(BittrexBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(BittrexBeanV1.class),
                 SupportedExchange.BITTREX
             )
         );
@@ -138,7 +179,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
             "Uuid,Exchange,TimeStamp,OrderType,Limit,Quantity,QuantityRemaining,Commission,Price,PricePerUnit,"
                 + "IsConditional,Condition,ConditionTarget,ImmediateOrCancel,Closed",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(BittrexBeanV2.class),
+                new DefaultUnivocityExchangeSpecificParser(BittrexBeanV2.class),
                 SupportedExchange.BITTREX
             )
         );
@@ -146,14 +187,14 @@ public class EverytradeCsvMultiParser implements ICsvParser {
             "Uuid,Exchange,TimeStamp,OrderType,Limit,Quantity,QuantityRemaining,Commission,Price,PricePerUnit," +
                 "IsConditional,Condition,ConditionTarget,ImmediateOrCancel,Closed,TimeInForceTypeId,TimeInForce",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(BittrexBeanV3.class),
+                new DefaultUnivocityExchangeSpecificParser(BittrexBeanV3.class),
                 SupportedExchange.BITTREX
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "portfolio,trade id,product,side,created at,size,size unit,price,fee,total,price/fee/total unit",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(CoinbaseProBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(CoinbaseProBeanV1.class),
                 SupportedExchange.COINBASE_PRO
             )
         );
@@ -161,7 +202,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
             "ID;Date;Type;Amount;Amount Currency;Price;Price Currency;Fee;Fee Currency;Total;" +
                 "Total Currency;Description;Status",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(CoinmateBeanV1.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(CoinmateBeanV1.class, DELIMITER_SEMICOLON),
                 SupportedExchange.COINMATE
             )
         );
@@ -170,7 +211,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
                 "Description;Status;First balance after;First balance after Currency;Second balance after;" +
                 "Second balance after Currency",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(CoinmateBeanV1.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(CoinmateBeanV1.class, DELIMITER_SEMICOLON),
                 SupportedExchange.COINMATE
             )
         );
@@ -179,7 +220,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
                 "Description;Status;First balance after;First balance after Currency;Second balance after;" +
                 "Second balance after Currency",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(CoinmateBeanV1.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(CoinmateBeanV1.class, DELIMITER_SEMICOLON),
                 SupportedExchange.COINMATE
             )
         );
@@ -188,49 +229,49 @@ public class EverytradeCsvMultiParser implements ICsvParser {
                 "Currency fee;Fee;Currency total;Total;Description;Status;Currency first balance after;" +
                 "First balance after;Currency second balance after;Second balance after",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(CoinmateBeanV2.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(CoinmateBeanV2.class, DELIMITER_SEMICOLON),
                 SupportedExchange.COINMATE
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "date;action;currency;base_currency;price;amount;base_amount",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(CoinsquareBeanV1.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(CoinsquareBeanV1.class, DELIMITER_SEMICOLON),
                 SupportedExchange.COINSQUARE
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "date;from_currency;from_amount;to_currency;to_amount",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(CoinsquareBeanV2.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(CoinsquareBeanV2.class, DELIMITER_SEMICOLON),
                 SupportedExchange.COINSQUARE
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "UID;DATE;SYMBOL;ACTION;QUANTY;PRICE;FEE",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(EveryTradeBeanV1.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(EveryTradeBeanV1.class, DELIMITER_SEMICOLON),
                 SupportedExchange.EVERYTRADE
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "UID;DATE;SYMBOL;ACTION;QUANTY;VOLUME;FEE",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(EveryTradeBeanV2.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(EveryTradeBeanV2.class, DELIMITER_SEMICOLON),
                 SupportedExchange.EVERYTRADE
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "UID,DATE,SYMBOL,ACTION,QUANTY,PRICE,FEE",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(EveryTradeBeanV1.class, DELIMITER_COMMA),
+                new DefaultUnivocityExchangeSpecificParser(EveryTradeBeanV1.class, DELIMITER_COMMA),
                 SupportedExchange.EVERYTRADE
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "UID,DATE,SYMBOL,ACTION,QUANTY,VOLUME,FEE",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(EveryTradeBeanV2.class, DELIMITER_COMMA),
+                new DefaultUnivocityExchangeSpecificParser(EveryTradeBeanV2.class, DELIMITER_COMMA),
                 SupportedExchange.EVERYTRADE
             )
         );
@@ -239,7 +280,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
                 "Cash Currency;Crypto Amount;Crypto Currency;Used Discount;Actual Discount (%);Destination address;" +
                 "Related Remote Transaction Id;Identity;Status;Phone Number;Transaction Detail;",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(GeneralBytesBeanV1.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(GeneralBytesBeanV1.class, DELIMITER_SEMICOLON),
                 SupportedExchange.GENERAL_BYTES
             )
         );
@@ -251,7 +292,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
                 "Rate incl. Fee;Rate without Fee;Fixed Transaction Fee;Expected Profit Percent Setting;" +
                 "Expected Profit Value;",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(GeneralBytesBeanV1.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(GeneralBytesBeanV1.class, DELIMITER_SEMICOLON),
                 SupportedExchange.GENERAL_BYTES
             )
         );
@@ -262,7 +303,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
                 "Rate incl. Fee;Rate without Fee;Fixed Transaction Fee;Expected Profit Percent Setting;" +
                 "Expected Profit Value;Crypto Setting Name;",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(GeneralBytesBeanV1.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(GeneralBytesBeanV1.class, DELIMITER_SEMICOLON),
                 SupportedExchange.GENERAL_BYTES
             )
         );
@@ -273,7 +314,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
                 "Rate incl. Fee,Rate without Fee,Fixed Transaction Fee,Expected Profit Percent Setting," +
                 "Expected Profit Value,Crypto Setting Name",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(GeneralBytesBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(GeneralBytesBeanV1.class),
                 SupportedExchange.GENERAL_BYTES
             )
         );
@@ -284,38 +325,22 @@ public class EverytradeCsvMultiParser implements ICsvParser {
                 "Rate Incl. Fee;Rate Without Fee;Fixed Transaction Fee;Expected Profit Percent Setting;" +
                 "Expected Profit Value;Crypto Setting Name;Transaction Scoring Result;Expense;Expense Currency;",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(GeneralBytesBeanV2.class, DELIMITER_SEMICOLON),
+                new DefaultUnivocityExchangeSpecificParser(GeneralBytesBeanV2.class, DELIMITER_SEMICOLON),
                 SupportedExchange.GENERAL_BYTES
             )
         );
         //
-        EXCHANGE_PARSE_DETAILS.put(
-            "^\"Date \\(.*\\)\",\"Instrument\",\"Trade ID\",\"Order ID\",\"Side\",\"Quantity\",\"Price\",\"Volume\"," +
-                "\"Fee\",\"Rebate\",\"Total\"$",
-            new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(HitBtcBeanV1.class),
-                SupportedExchange.HITBTC
-            )
-        );
-        EXCHANGE_PARSE_DETAILS.put(
-            "^\"Email\",\"Date \\(.*\\)\",\"Instrument\",\"Trade ID\",\"Order ID\",\"Side\",\"Quantity\"," +
-                "\"Price\",\"Volume\",\"Fee\",\"Rebate\",\"Total\",\"Taker\"$",
-            new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(HitBtcBeanV2.class),
-                SupportedExchange.HITBTC
-            )
-        );
         EXCHANGE_PARSE_DETAILS.put(
             "^Date \\(.*\\),Instrument,Trade ID,Order ID,Side,Quantity,Price,Volume,Fee,Rebate,Total$",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(HitBtcBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(HitBtcBeanV1.class),
                 SupportedExchange.HITBTC
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "^Email,Date \\(.*\\),Instrument,Trade ID,Order ID,Side,Quantity,Price,Volume,Fee,Rebate,Total,Taker$",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(HitBtcBeanV2.class),
+                new DefaultUnivocityExchangeSpecificParser(HitBtcBeanV2.class),
                 SupportedExchange.HITBTC
             )
         );
@@ -323,36 +348,34 @@ public class EverytradeCsvMultiParser implements ICsvParser {
         EXCHANGE_PARSE_DETAILS.put(
             "\uFEFF\"Time\",\"Type\",\"Pair\",\"Side\",\"Price\",\"Amount\",\"Total\",\"Fee\"",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(HuobiBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(HuobiBeanV1.class),
                 SupportedExchange.HUOBI
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "txid,ordertxid,pair,time,type,ordertype,price,cost,fee,vol,margin,misc,ledgers",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(KrakenBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(
+                    KrakenBeanV1.class, DELIMITER_COMMA, null, FILE_PARALLELISM
+                ),
                 SupportedExchange.KRAKEN
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "txid,ordertxid,pair,time,type,ordertype,price,cost,fee,vol,misc,ledgers",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(KrakenBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(
+                    KrakenBeanV1.class, DELIMITER_COMMA, null, FILE_PARALLELISM
+                ),
                 SupportedExchange.KRAKEN
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "txid,ordertxid,pair,time,type,ordertype,price,cost,fee,vol,ledgers",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(KrakenBeanV1.class),
-                SupportedExchange.KRAKEN
-            )
-        );
-        EXCHANGE_PARSE_DETAILS.put(
-            "\"txid\",\"ordertxid\",\"pair\",\"time\",\"type\",\"ordertype\",\"price\",\"cost\",\"fee\",\"vol\"," +
-                "\"margin\",\"misc\",\"ledgers\"",
-            new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(KrakenBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(
+                    KrakenBeanV1.class, DELIMITER_COMMA, null, FILE_PARALLELISM
+                ),
                 SupportedExchange.KRAKEN
             )
         );
@@ -361,7 +384,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
                 "fiat_amount,fiat_fee,fiat_per_btc,currency,exchange_rate,transaction_released_at,online_provider," +
                 "reference",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(LocalBitcoinsBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(LocalBitcoinsBeanV1.class),
                 SupportedExchange.LOCALBITCOINS
             )
         );
@@ -369,7 +392,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
             "\uFEFFOrder ID,\uFEFFTrade ID,\uFEFFTrade Time,\uFEFFPairs,\uFEFFAmount,\uFEFFPrice,\uFEFFTotal," +
                 "\uFEFFtaker/maker,\uFEFFFee,\uFEFFunit",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(OkexBeanV1.class, DELIMITER_COMMA, LINE_SEPARATOR),
+                new DefaultUnivocityExchangeSpecificParser(OkexBeanV1.class, DELIMITER_COMMA, LINE_SEPARATOR),
                 SupportedExchange.OKEX
             )
         );
@@ -377,21 +400,21 @@ public class EverytradeCsvMultiParser implements ICsvParser {
             "type,fiat_currency,amount_fiat,amount_btc,rate,fee_fiat,fee_btc,market_rate_usd,payment_method,partner," +
                 "status,completed_at,trade_hash,offer_hash",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(PaxfulBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(PaxfulBeanV1.class),
                 SupportedExchange.PAXFUL
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "Date,Market,Category,Type,Price,Amount,Total,Fee,Order Number,Base Total Less Fee,Quote Total Less Fee",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(PoloniexBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(PoloniexBeanV1.class),
                 SupportedExchange.POLONIEX
             )
         );
         EXCHANGE_PARSE_DETAILS.put(
             "Date,Market,Category,Type,Price,Amount,Total,Fee,Order Number,Base Total Less Fee,Quote Total Less Fee,Fee Currency,Fee Total",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(PoloniexBeanV2.class),
+                new DefaultUnivocityExchangeSpecificParser(PoloniexBeanV2.class),
                 SupportedExchange.POLONIEX
             )
         );
@@ -399,7 +422,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
             "Transaction Type,Date,Amount Debited,Debit Currency,Amount Credited,Credit Currency,Exchange Rate," +
                 "Credit/Debit,Spot Rate",
             new ExchangeParseDetail(
-                () -> new DefaultUnivocityExchangeSpecificParser(ShakePayBeanV1.class),
+                new DefaultUnivocityExchangeSpecificParser(ShakePayBeanV1.class),
                 SupportedExchange.SHAKEPAY
             )
         );
@@ -407,15 +430,7 @@ public class EverytradeCsvMultiParser implements ICsvParser {
             "^Timestamp,Transaction Type,Asset,Quantity Transacted,[A-Z]{3} Spot Price at Transaction,[A-Z]{3} " +
                 "Subtotal,[A-Z]{3} Total \\(inclusive of fees\\),[A-Z]{3} Fees,Notes$",
             new ExchangeParseDetail(
-                CoinbaseExchangeSpecificParser::new,
-                SupportedExchange.COINBASE
-            )
-        );
-        EXCHANGE_PARSE_DETAILS.put(
-            "^\"Timestamp\",\"Transaction Type\",\"Asset\",\"Quantity Transacted\",\"[A-Z]{3} Spot Price at Transaction\",\"[A-Z]{3} " +
-                "Subtotal\",\"[A-Z]{3} Total \\(inclusive of fees\\)\",\"[A-Z]{3} Fees\",\"Notes\"$",
-            new ExchangeParseDetail(
-                CoinbaseExchangeSpecificParser::new,
+                new CoinbaseExchangeSpecificParser(),
                 SupportedExchange.COINBASE
             )
         );
@@ -432,8 +447,70 @@ public class EverytradeCsvMultiParser implements ICsvParser {
                 )
             )
     );
+    private static final HeaderMatcher<ExchangeParseDetail> HEADER_MATCHER = new HeaderMatcher<>(EXCHANGE_PARSE_DETAILS);
     private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final ParsingProblemPolicy parsingProblemPolicy;
+    private final int batchParallelism;
+    private final long maxInFlightBytes;
+    private final boolean suppressDuplicates;
 
+    public EverytradeCsvMultiParser() {
+        this(ParsingProblemPolicy.UNBOUNDED);
+    }
+
+    public EverytradeCsvMultiParser(ParserOptions parserOptions) {
+        this(
+            parserOptions.getParsingProblemPolicy(),
+            DEFAULT_BATCH_PARALLELISM,
+            DEFAULT_MAX_IN_FLIGHT_BYTES,
+            parserOptions.isSuppressDuplicates()
+        );
+    }
+
+    /**
+     * @param parsingProblemPolicy bounds the parsing problems kept for one file and may abort the parsing of a file
+     *                             with too many failed rows
+     */
+    public EverytradeCsvMultiParser(ParsingProblemPolicy parsingProblemPolicy) {
+        this(parsingProblemPolicy, DEFAULT_BATCH_PARALLELISM, DEFAULT_MAX_IN_FLIGHT_BYTES);
+    }
+
+    /**
+     * @param batchParallelism count of files parsed concurrently by {@link #parseAll(List)}
+     * @param maxInFlightBytes total (decompressed) size of the files parsed concurrently by {@link #parseAll(List)},
+     *                         a bigger file is parsed alone
+     */
+    public EverytradeCsvMultiParser(
+        ParsingProblemPolicy parsingProblemPolicy,
+        int batchParallelism,
+        long maxInFlightBytes
+    ) {
+        this(parsingProblemPolicy, batchParallelism, maxInFlightBytes, false);
+    }
+
+    /**
+     * @param suppressDuplicates whether a row repeating a row parsed before (e.g. in overlapping exports within one
+     *                           zip file) is reported as ignored instead of being converted to a transaction cluster.
+     *                           Rows are compared by the 64-bit fingerprints of their uids, or of their content when
+     *                           the export has no uids, see {@link ExchangeBean#rowFingerprint()}.
+     */
+    public EverytradeCsvMultiParser(
+        ParsingProblemPolicy parsingProblemPolicy,
+        int batchParallelism,
+        long maxInFlightBytes,
+        boolean suppressDuplicates
+    ) {
+        Objects.requireNonNull(this.parsingProblemPolicy = parsingProblemPolicy);
+        if (batchParallelism < 1) {
+            throw new IllegalArgumentException(String.format("Illegal batch parallelism %d.", batchParallelism));
+        }
+        this.batchParallelism = batchParallelism;
+        if (maxInFlightBytes < 1) {
+            throw new IllegalArgumentException(String.format("Illegal in-flight limit %d.", maxInFlightBytes));
+        }
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.suppressDuplicates = suppressDuplicates;
+    }
 
     @Override
     public String getId() {
@@ -442,44 +519,407 @@ public class EverytradeCsvMultiParser implements ICsvParser {
 
     @Override
     public ParseResult parse(File file, String header) {
-        final String headerTemplate = HeaderTemplateFinder.findHeaderTemplate(header, EXCHANGE_PARSE_DETAILS.keySet());
-        if (headerTemplate == null) {
-            throw new UnknownHeaderException(String.format("Unknown header: '%s'", header));
-        }
-        final ExchangeParseDetail exchangeParseDetail = EXCHANGE_PARSE_DETAILS.get(headerTemplate);
-        final IExchangeSpecificParser exchangeParser = exchangeParseDetail.getParserFactory().get();
-        List<? extends ExchangeBean> listBeans = exchangeParser.parse(file);
-        final List<ParsingProblem> parsingProblems = new ArrayList<>(exchangeParser.getParsingProblems());
-
-        List<TransactionCluster> transactionClusters = new ArrayList<>();
-        for (ExchangeBean p : listBeans) {
-            try {
-                final TransactionCluster transactionCluster = p.toTransactionCluster();
+        return collect(sink -> parseCollectingProblems(file, header, sink, null));
+    }
+
+    @Override
+    public void parse(File file, String header, ITransactionClusterSink sink) {
+        parseCollectingProblems(file, header, sink, null);
+    }
+
+    /**
+     * Parses the channel like a file, without opening the file again.
+     */
+    @Override
+    public ParseResult parse(FileChannel channel, String header) {
+        return collect(sink -> parseCollectingProblems(channel, STREAM_DOCUMENT_NAME, header, sink, null));
+    }
+
+    @Override
+    public ParseResult parse(InputStream inputStream, Charset charset, String header) {
+        return collect(sink -> parseCollectingProblems(inputStream, charset, header, sink, null));
+    }
+
+    /**
+     * Parses the stream without writing it to the disk. Like files, gzip and zip content is decompressed while parsing.
+     */
+    @Override
+    public void parse(InputStream inputStream, Charset charset, String header, ITransactionClusterSink sink) {
+        parseCollectingProblems(inputStream, charset, header, sink, null);
+    }
+
+    /**
+     * Parses a re-uploaded growing export. Rows of the prior import are skipped before they are converted to
+     * transaction clusters, so only the new rows are converted and returned. Rows are compared by their content (see
+     * {@link ExchangeBean#contentFingerprint()}), a row whose values changed since the prior import is imported again.
+     * @param priorImport token of the prior import of the export, {@link ImportToken#EMPTY} for the first import
+     * @return clusters of the new rows and the token of all the imported rows
+     */
+    @Override
+    public IncrementalParseResult parseIncrementally(File file, String header, ImportToken priorImport) {
+        final ImportedRows importedRows = new ImportedRows(priorImport);
+        final ParseResult parseResult = collect(sink -> parseCollectingProblems(file, header, sink, importedRows));
+        return importedRows.toResult(parseResult);
+    }
+
+    /**
+     * Parses a re-uploaded growing export from the stream without writing it to the disk, see
+     * {@link #parseIncrementally(File, String, ImportToken)}.
+     */
+    @Override
+    public IncrementalParseResult parseIncrementally(
+        InputStream inputStream,
+        Charset charset,
+        String header,
+        ImportToken priorImport
+    ) {
+        final ImportedRows importedRows = new ImportedRows(priorImport);
+        final ParseResult parseResult = collect(
+            sink -> parseCollectingProblems(inputStream, charset, header, sink, importedRows)
+        );
+        return importedRows.toResult(parseResult);
+    }
+
+    private ParseResult collect(Function<ITransactionClusterSink, ParsingProblemCollector> parsing) {
+        final List<TransactionCluster> transactionClusters = new ArrayList<>();
+        final List<ParsingProblem> parsingProblems = new ArrayList<>();
+        final ParsingProblemCollector collector = parsing.apply(new ITransactionClusterSink() {
+            @Override
+            public void acceptTransactionCluster(TransactionCluster transactionCluster) {
                 transactionClusters.add(transactionCluster);
-            } catch (DataValidationException e) {
-                parsingProblems.add(
-                    new ParsingProblem(p.rowToString(), e.getMessage(), ParsingProblemType.ROW_PARSING_FAILED)
+            }
+
+            @Override
+            public void acceptParsingProblem(ParsingProblem parsingProblem) {
+                parsingProblems.add(parsingProblem);
+            }
+        });
+        return new ParseResult(transactionClusters, parsingProblems, collector.getProblemCounts());
+    }
+
+    /**
+     * Detects the headers and parses the files concurrently on at most {@code batchParallelism} threads. A file is
+     * started only when the total size of the files being parsed stays within {@code maxInFlightBytes}.
+     */
+    @Override
+    public BatchParseResult parseAll(List<ImportFile> importFiles) {
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(batchParallelism, importFiles.size()))
+        );
+        final InFlightLimit inFlightLimit = new InFlightLimit(maxInFlightBytes);
+        try {
+            final List<Future<ImportFileResult>> futures = new ArrayList<>();
+            for (ImportFile importFile : importFiles) {
+                final long size = inFlightLimit.acquire(estimateDecompressedSize(importFile.getFile()));
+                futures.add(executor.submit(() -> {
+                    try {
+                        return new ImportFileResult(importFile, parse(importFile.getFile(), importFile.getHeader()));
+                    } catch (RuntimeException e) {
+                        return new ImportFileResult(importFile, e);
+                    } finally {
+                        inFlightLimit.release(size);
+                    }
+                }));
+            }
+            final List<ImportFileResult> importFileResults = new ArrayList<>();
+            for (Future<ImportFileResult> future : futures) {
+                importFileResults.add(future.get());
+            }
+            final BatchParseResult batchParseResult = new BatchParseResult(importFileResults);
+            log.info(
+                "{} file(s) parsed, {} failed, {} transaction cluster(s) parsed successfully.",
+                importFiles.size() - batchParseResult.getFailedFileCount(),
+                batchParseResult.getFailedFileCount(),
+                batchParseResult.getTransactionClusterCount()
+            );
+            return batchParseResult;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParsingProcessException("Parsing error. Batch import interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new ParsingProcessException(String.format("Parsing error. %s", e.getCause().getMessage()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Compressed files are charged by the size of their decompressed content, which is what the parsing buffers and
+     * turns into beans. An unreadable file is charged by its size, its parsing fails anyway.
+     */
+    private static long estimateDecompressedSize(File file) {
+        try {
+            return CsvFileEntries.estimateDecompressedSize(file);
+        } catch (IOException e) {
+            return file.length();
+        }
+    }
+
+    /**
+     * Gzip and zip files are decompressed while parsing. The header of each compressed document is read from the
+     * document itself, so the given header is used for plain files only.
+     */
+    private ParsingProblemCollector parseCollectingProblems(
+        File file,
+        String header,
+        ITransactionClusterSink sink,
+        ImportedRows importedRows
+    ) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return parseCollectingProblems(channel, file.getName(), header, sink, importedRows);
+        } catch (IOException e) {
+            throw new ParsingProcessException(String.format("Parsing error. %s", e.getMessage()));
+        }
+    }
+
+    /**
+     * @param name name of a plain or gzip document
+     */
+    private ParsingProblemCollector parseCollectingProblems(
+        FileChannel channel,
+        String name,
+        String header,
+        ITransactionClusterSink sink,
+        ImportedRows importedRows
+    ) {
+        return parseCollectingProblems(sink, importedRows, (countingSink, exchangeBeanConsumer) -> {
+            if (CsvFileEntries.detectCompression(channel) == CsvFileEntries.Compression.NONE) {
+                findParser(header).parse(channel, exchangeBeanConsumer, countingSink::acceptParsingProblem);
+            } else {
+                CsvFileEntries.forEach(
+                    CsvFileEntries.newInputStream(channel),
+                    name,
+                    null,
+                    (entryName, reader) -> parseEntry(entryName, reader, null, exchangeBeanConsumer, countingSink)
                 );
             }
+        });
+    }
+
+    private ParsingProblemCollector parseCollectingProblems(
+        InputStream inputStream,
+        Charset charset,
+        String header,
+        ITransactionClusterSink sink,
+        ImportedRows importedRows
+    ) {
+        return parseCollectingProblems(sink, importedRows, (countingSink, exchangeBeanConsumer) -> {
+            final InputStream bufferedStream = new BufferedInputStream(inputStream);
+            final String plainHeader
+                = CsvFileEntries.detectCompression(bufferedStream) == CsvFileEntries.Compression.NONE ? header : null;
+            CsvFileEntries.forEach(
+                bufferedStream,
+                STREAM_DOCUMENT_NAME,
+                charset,
+                (name, reader) -> parseEntry(name, reader, plainHeader, exchangeBeanConsumer, countingSink)
+            );
+        });
+    }
+
+    /**
+     * @param importedRows rows of the prior import or null to parse all the rows
+     */
+    private ParsingProblemCollector parseCollectingProblems(
+        ITransactionClusterSink sink,
+        ImportedRows importedRows,
+        IParsing parsing
+    ) {
+        final ParsingProblemCollector collector = new ParsingProblemCollector(sink, parsingProblemPolicy);
+        final CountingTransactionClusterSink countingSink = new CountingTransactionClusterSink(collector);
+        final LongHashSet rowFingerprints = suppressDuplicates ? new LongHashSet() : null;
+
+        try {
+            parsing.parse(
+                countingSink,
+                exchangeBean -> acceptExchangeBean(exchangeBean, rowFingerprints, importedRows, countingSink)
+            );
+        } catch (IOException e) {
+            throw new ParsingProcessException(String.format("Parsing error. %s", e.getMessage()));
+        } catch (RuntimeException e) {
+            collector.throwIfAborted();
+            throw e;
         }
 
         log.info(
             "{} transaction cluster(s) with {} transactions parsed successfully.",
-            transactionClusters.size(),
-            countTransactions(transactionClusters)
+            countingSink.transactionClusterCount,
+            countingSink.transactionCount
+        );
+        if (countingSink.parsingProblemCount > 0) {
+            log.warn(
+                "{} row(s) not parsed, {} of the problem(s) not reported.",
+                countingSink.parsingProblemCount,
+                collector.getSuppressedProblemCount()
+            );
+        }
+        return collector;
+    }
+
+    /**
+     * @param knownHeader header of the document or null to read it from the document
+     */
+    private void parseEntry(
+        String name,
+        BufferedReader reader,
+        String knownHeader,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        ITransactionClusterSink sink
+    ) throws IOException {
+        reader.mark(MAX_HEADER_LENGTH);
+        final String firstLine = reader.readLine();
+        reader.reset();
+        final String header = knownHeader == null ? firstLine : knownHeader;
+        if (firstLine == null) {
+            log.info("Empty document '{}' skipped.", name);
+            return;
+        }
+        final IExchangeSpecificParser exchangeParser;
+        try {
+            exchangeParser = findParser(header);
+        } catch (UnknownHeaderException e) {
+            throw new UnknownHeaderException(String.format("%s Document: '%s'", e.getMessage(), name));
+        }
+        exchangeParser.parse(
+            reader,
+            exchangeBeanConsumer,
+            sink::acceptParsingProblem
         );
-        if (!parsingProblems.isEmpty()) {
-            log.warn("{} row(s) not parsed.", parsingProblems.size());
+    }
+
+    private static IExchangeSpecificParser findParser(String header) {
+        final HeaderMatcher.Match<ExchangeParseDetail> match = HEADER_MATCHER.match(header);
+        if (match == null) {
+            throw new UnknownHeaderException(String.format("Unknown header: '%s'", header));
+        }
+        return match.getValue().getParser();
+    }
+
+    /**
+     * @param rowFingerprints fingerprints of the rows converted so far or null when duplicates are not suppressed; a row
+     *                        which failed is not recorded, so a later corrected copy of it is still converted
+     * @param importedRows    rows of the prior import or null to convert all the rows
+     */
+    private static void acceptExchangeBean(
+        ExchangeBean exchangeBean,
+        LongHashSet rowFingerprints,
+        ImportedRows importedRows,
+        ITransactionClusterSink sink
+    ) {
+        // an imported row is recognized by its content, so new fills of an imported order and changed rows are kept
+        final long contentFingerprint = importedRows == null ? 0 : exchangeBean.contentFingerprint();
+        if (contentFingerprint != 0 && importedRows.skipImportedBefore(contentFingerprint)) {
+            return;
         }
+        final long rowFingerprint = rowFingerprints == null ? 0 : exchangeBean.rowFingerprint();
+        if (rowFingerprint != 0 && rowFingerprints.contains(rowFingerprint)) {
+            sink.acceptParsingProblem(
+                new ParsingProblem(exchangeBean.rowToString(), DUPLICATE_ROW, ParsingProblemType.PARSED_ROW_IGNORED)
+            );
+            return;
+        }
+        final TransactionCluster transactionCluster;
+        try {
+            transactionCluster = exchangeBean.toTransactionCluster();
+        } catch (DataValidationException e) {
+            sink.acceptParsingProblem(
+                new ParsingProblem(
+                    exchangeBean.rowToString(), e.getMessage(), ParsingProblemType.ROW_PARSING_FAILED
+                )
+            );
+            return;
+        }
+        sink.acceptTransactionCluster(transactionCluster);
+        if (rowFingerprints != null && rowFingerprint != 0) {
+            rowFingerprints.add(rowFingerprint);
+        }
+        if (contentFingerprint != 0) {
+            importedRows.newFingerprints.add(contentFingerprint);
+        }
+    }
+
+    /**
+     * Rows of the prior import and the rows imported by the current parsing, rows which failed are not imported.
+     */
+    private static class ImportedRows {
+        private final ImportToken priorImport;
+        private final LongHashSet newFingerprints = new LongHashSet();
+        private long skippedRowCount;
+
+        ImportedRows(ImportToken priorImport) {
+            Objects.requireNonNull(this.priorImport = priorImport);
+        }
+
+        boolean skipImportedBefore(long rowFingerprint) {
+            if (priorImport.contains(rowFingerprint)) {
+                skippedRowCount++;
+                return true;
+            }
+            return false;
+        }
+
+        IncrementalParseResult toResult(ParseResult parseResult) {
+            return new IncrementalParseResult(
+                parseResult,
+                priorImport.merge(newFingerprints.toArray()),
+                skippedRowCount
+            );
+        }
+    }
 
-        return new ParseResult(transactionClusters, parsingProblems);
+    private interface IParsing {
+        void parse(ITransactionClusterSink sink, Consumer<ExchangeBean> exchangeBeanConsumer) throws IOException;
     }
 
-    private int countTransactions(List<TransactionCluster> transactionClusters) {
-        int counter = 0;
-        for (TransactionCluster transactionCluster : transactionClusters) {
-            counter = counter + 1 + transactionCluster.getRelated().size();
+    private static class InFlightLimit {
+        private final long maxBytes;
+        private long bytes;
+
+        InFlightLimit(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        /**
+         * @return the acquired size, at most the whole limit
+         */
+        synchronized long acquire(long size) throws InterruptedException {
+            final long acquired = Math.min(Math.max(size, 0), maxBytes);
+            while (bytes + acquired > maxBytes) {
+                wait();
+            }
+            bytes += acquired;
+            return acquired;
+        }
+
+        synchronized void release(long size) {
+            bytes -= size;
+            notifyAll();
+        }
+    }
+
+    private static class CountingTransactionClusterSink implements ITransactionClusterSink {
+        private final ITransactionClusterSink delegate;
+        private int transactionClusterCount;
+        private int transactionCount;
+        private int parsingProblemCount;
+
+        CountingTransactionClusterSink(ITransactionClusterSink delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void acceptTransactionCluster(TransactionCluster transactionCluster) {
+            transactionClusterCount++;
+            transactionCount = transactionCount + 1 + transactionCluster.getRelated().size();
+            delegate.acceptTransactionCluster(transactionCluster);
+        }
+
+        @Override
+        public void acceptParsingProblem(ParsingProblem parsingProblem) {
+            parsingProblemCount++;
+            delegate.acceptParsingProblem(parsingProblem);
         }
-        return counter;
     }
 }
@@ -3,24 +3,25 @@ package io.everytrade.server.plugin.impl.everytrade.parser;
 import io.everytrade.server.model.SupportedExchange;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.IExchangeSpecificParser;
 
-import java.util.function.Supplier;
-
+/**
+ * Parser of one header template. The parser is created once and shared by all parsings of files with the template,
+ * see {@link IExchangeSpecificParser#parse(java.io.File, java.util.function.Consumer, java.util.function.Consumer)}.
+ */
 public class ExchangeParseDetail {
 
-    private final Supplier<IExchangeSpecificParser> parserFactory;
+    private final IExchangeSpecificParser parser;
     private final SupportedExchange supportedExchange;
 
     public ExchangeParseDetail(
-
-        Supplier<IExchangeSpecificParser> exchangeSpecificParser,
+        IExchangeSpecificParser parser,
         SupportedExchange supportedExchange
     ) {
-        this.parserFactory = exchangeSpecificParser;
+        this.parser = parser;
         this.supportedExchange = supportedExchange;
     }
 
-    public Supplier<IExchangeSpecificParser> getParserFactory() {
-        return parserFactory;
+    public IExchangeSpecificParser getParser() {
+        return parser;
     }
 
     public SupportedExchange getSupportedExchange() {
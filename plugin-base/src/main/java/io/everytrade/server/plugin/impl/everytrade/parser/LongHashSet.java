@@ -0,0 +1,144 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+/**
+ * Set of primitive longs with open addressing and linear probing. The values are kept in one long array without boxing,
+ * a million values take 16 MB (a table of 2^21 slots) instead of about 64 MB of a {@code HashSet<Long>}. Not
+ * thread-safe.
+ */
+public final class LongHashSet {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = 1 << 30;
+    // zero marks a free slot, the value itself is tracked separately
+    private static final long FREE = 0L;
+    private long[] table;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    private boolean containsFree;
+
+    public LongHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize count of values which fit without growing the table
+     */
+    public LongHashSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException(String.format("Illegal expected size %d.", expectedSize));
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @return true when the value was not in the set yet
+     */
+    public boolean add(long value) {
+        if (value == FREE) {
+            if (containsFree) {
+                return false;
+            }
+            containsFree = true;
+            size++;
+            return true;
+        }
+        int index = slot(value);
+        long current;
+        while ((current = table[index]) != FREE) {
+            if (current == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        if (++size > resizeThreshold) {
+            grow();
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == FREE) {
+            return containsFree;
+        }
+        int index = slot(value);
+        long current;
+        while ((current = table[index]) != FREE) {
+            if (current == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return count of slots of the table, 8 bytes each
+     */
+    public int capacity() {
+        return table.length;
+    }
+
+    /**
+     * @return the values in no particular order
+     */
+    public long[] toArray() {
+        final long[] values = new long[size];
+        int index = 0;
+        if (containsFree) {
+            values[index++] = FREE;
+        }
+        for (long value : table) {
+            if (value != FREE) {
+                values[index++] = value;
+            }
+        }
+        return values;
+    }
+
+    private int slot(long value) {
+        // the values may be weak hashes, the mix spreads them over the low bits
+        long hash = value * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) hash & mask;
+    }
+
+    private void grow() {
+        if (table.length == MAX_CAPACITY) {
+            throw new IllegalStateException(String.format("Set of %d values cannot grow.", size));
+        }
+        final long[] oldTable = table;
+        allocate(oldTable.length << 1);
+        for (long value : oldTable) {
+            if (value != FREE) {
+                int index = slot(value);
+                while (table[index] != FREE) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        mask = capacity - 1;
+        // load factor 0.75
+        resizeThreshold = Math.min(capacity - 1, capacity - (capacity >>> 2));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long capacity = Math.max(DEFAULT_CAPACITY >>> 4, 1);
+        while (capacity - (capacity >>> 2) < expectedSize) {
+            capacity <<= 1;
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(String.format("Expected size %d is too big.", expectedSize));
+        }
+        return (int) capacity;
+    }
+}
@@ -0,0 +1,154 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+import com.univocity.parsers.common.DataValidationException;
+import io.everytrade.server.model.Currency;
+import io.everytrade.server.model.CurrencyPair;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+/**
+ * Splits concatenated market symbols (e.g. XXBTZUSD, BTCUSDT) into currency pairs. Currency codes and their
+ * exchange-specific aliases are kept in a prefix trie and a suffix trie; a symbol is split by one forward and one
+ * backward walk over its characters without any allocation. A symbol which can be split in more than one way is
+ * reported as ambiguous. Instances are immutable and thread-safe.
+ */
+public final class MarketSymbolDecoder {
+    // split points are kept in a long bit mask
+    private static final int MAX_CODE_LENGTH = Long.SIZE - 1;
+
+    private final Node prefixes = new Node();
+    private final Node suffixes = new Node();
+    private final BiPredicate<Currency, Currency> pairFilter;
+
+    /**
+     * @param codes      currency codes and aliases
+     * @param pairFilter accepts base and quote of a split, other splits of a symbol are ignored
+     */
+    public MarketSymbolDecoder(Map<String, Currency> codes, BiPredicate<Currency, Currency> pairFilter) {
+        Objects.requireNonNull(this.pairFilter = pairFilter);
+        for (Map.Entry<String, Currency> entry : codes.entrySet()) {
+            final String code = entry.getKey();
+            if (code.isEmpty() || code.length() > MAX_CODE_LENGTH) {
+                throw new IllegalArgumentException(String.format("Illegal currency code '%s'.", code));
+            }
+            final Currency currency = Objects.requireNonNull(entry.getValue());
+            Node prefixNode = prefixes;
+            Node suffixNode = suffixes;
+            for (int i = 0; i < code.length(); i++) {
+                prefixNode = prefixNode.addChild(code.charAt(i));
+                suffixNode = suffixNode.addChild(code.charAt(code.length() - 1 - i));
+            }
+            prefixNode.setCurrency(currency);
+            suffixNode.setCurrency(currency);
+        }
+    }
+
+    /**
+     * @return codes of all currencies extended by the aliases
+     */
+    public static Map<String, Currency> currencyCodes(Map<String, Currency> aliases) {
+        final Map<String, Currency> codes = new HashMap<>();
+        for (Currency currency : Currency.values()) {
+            codes.put(currency.code(), currency);
+        }
+        codes.putAll(aliases);
+        return codes;
+    }
+
+    /**
+     * @return the only accepted pair the symbol consists of or null when there is none
+     * @throws DataValidationException when the symbol can be split into more accepted pairs
+     */
+    public CurrencyPair decode(CharSequence symbol) {
+        final int length = symbol.length();
+        long prefixEnds = 0;
+        Node node = prefixes;
+        for (int i = 0; i < length - 1 && i < MAX_CODE_LENGTH; i++) {
+            node = node.child(symbol.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.hasCurrency()) {
+                prefixEnds |= 1L << (i + 1);
+            }
+        }
+
+        CurrencyPair result = null;
+        node = suffixes;
+        for (int start = length - 1; start > 0 && prefixEnds != 0; start--) {
+            node = node.child(symbol.charAt(start));
+            if (node == null) {
+                break;
+            }
+            if (!node.hasCurrency() || start > MAX_CODE_LENGTH || (prefixEnds & (1L << start)) == 0) {
+                continue;
+            }
+            final Currency base = find(prefixes, symbol, start).currency;
+            final Currency quote = node.currency;
+            if ((base.isFiat() && !quote.isFiat()) || !pairFilter.test(base, quote)) {
+                continue;
+            }
+            if (result != null) {
+                throw ambiguousSymbol(symbol);
+            }
+            result = CurrencyPair.of(base, quote);
+        }
+        return result;
+    }
+
+    private static Node find(Node root, CharSequence symbol, int end) {
+        Node node = root;
+        for (int i = 0; i < end; i++) {
+            node = node.child(symbol.charAt(i));
+        }
+        return node;
+    }
+
+    private static DataValidationException ambiguousSymbol(CharSequence symbol) {
+        return new DataValidationException(String.format("Ambiguous market symbol %s.", symbol));
+    }
+
+    private static class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private Currency currency;
+
+        Node child(char label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == label) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node addChild(char label) {
+            final Node existing = child(label);
+            if (existing != null) {
+                return existing;
+            }
+            final Node child = new Node();
+            final int size = labels.length;
+            labels = Arrays.copyOf(labels, size + 1);
+            children = Arrays.copyOf(children, size + 1);
+            labels[size] = label;
+            children[size] = child;
+            return child;
+        }
+
+        boolean hasCurrency() {
+            return currency != null;
+        }
+
+        void setCurrency(Currency currency) {
+            this.currency = currency;
+        }
+    }
+}
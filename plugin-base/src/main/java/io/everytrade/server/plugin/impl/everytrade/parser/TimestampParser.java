@@ -0,0 +1,346 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parses UTC timestamps. The formats prevailing in exchange exports are read directly from the characters:
+ * <ul>
+ *     <li>yyyy-MM-dd HH:mm:ss (optionally followed by a fraction of second),</li>
+ *     <li>dd.MM.yyyy HH:mm,</li>
+ *     <li>M/d/yy h:mm a,</li>
+ *     <li>ISO-8601 date time with 'Z' or an offset ({@link #ISO_OFFSET_DATE_TIME}).</li>
+ * </ul>
+ * Other patterns as well as values not matching the fast path exactly (e.g. field values out of range) are handed
+ * over to the {@link DateTimeFormatter}, so the fast path never changes the result nor the error of a parse.
+ * Instances are immutable and thread-safe.
+ */
+public final class TimestampParser {
+    private static final int MAX_FRACTION_DIGITS = 9;
+    public static final TimestampParser ISO_OFFSET_DATE_TIME
+        = new TimestampParser(Shape.ISO_DATE_TIME, DateTimeFormatter.ISO_OFFSET_DATE_TIME, MAX_FRACTION_DIGITS);
+    private static final Map<String, TimestampParser> PARSERS = new ConcurrentHashMap<>();
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int DAYS_PER_CYCLE = 146097;
+    private static final long DAYS_0000_TO_1970 = 719468L;
+    private static final int[] POWERS_OF_TEN
+        = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+
+    private final Shape shape;
+    private final DateTimeFormatter formatter;
+    private final int maxFractionDigits;
+
+    private enum Shape {
+        YEAR_MONTH_DAY_TIME("yyyy-MM-dd HH:mm:ss"),
+        DAY_MONTH_YEAR_TIME("dd.MM.yyyy HH:mm"),
+        MONTH_DAY_YEAR_TIME_AM_PM("M/d/yy h:mm a"),
+        ISO_DATE_TIME(null),
+        OTHER(null);
+
+        private final String pattern;
+
+        Shape(String pattern) {
+            this.pattern = pattern;
+        }
+
+        static Shape of(String pattern) {
+            for (Shape shape : values()) {
+                if (pattern.equals(shape.pattern)) {
+                    return shape;
+                }
+            }
+            return OTHER;
+        }
+    }
+
+    /**
+     * @param pattern           pattern of the formatter used to choose the fast path
+     * @param formatter         formatter parsing the values the fast path does not handle; its zone is set to UTC
+     * @param maxFractionDigits count of fraction of second digits the formatter accepts after the pattern's seconds,
+     *                          zero when it accepts none
+     */
+    public TimestampParser(String pattern, DateTimeFormatter formatter, int maxFractionDigits) {
+        this(Shape.of(Objects.requireNonNull(pattern)), formatter.withZone(ZoneOffset.UTC), maxFractionDigits);
+    }
+
+    private TimestampParser(Shape shape, DateTimeFormatter formatter, int maxFractionDigits) {
+        if (maxFractionDigits < 0 || maxFractionDigits > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException(String.format("Illegal fraction digits count %d.", maxFractionDigits));
+        }
+        this.shape = shape;
+        this.formatter = formatter;
+        this.maxFractionDigits = maxFractionDigits;
+    }
+
+    /**
+     * @return shared parser of the pattern (locale US, zone UTC)
+     */
+    public static TimestampParser ofPattern(String pattern) {
+        return PARSERS.computeIfAbsent(
+            pattern,
+            p -> new TimestampParser(p, DateTimeFormatter.ofPattern(p, Locale.US), 0)
+        );
+    }
+
+    /**
+     * @throws java.time.format.DateTimeParseException when the value cannot be parsed
+     */
+    public Instant parse(CharSequence value) {
+        final Instant instant = parseFast(value);
+        return instant != null ? instant : formatter.parse(value, Instant::from);
+    }
+
+    /**
+     * Non-throwing variant of {@link #parse(CharSequence)}. Values not matching the pattern are rejected by the
+     * formatter's unresolved parse without creating an exception.
+     *
+     * @return the instant or null when the value cannot be parsed
+     */
+    public Instant tryParse(CharSequence value) {
+        final Instant instant = parseFast(value);
+        if (instant != null) {
+            return instant;
+        }
+        final ParsePosition position = new ParsePosition(0);
+        if (formatter.parseUnresolved(value, position) == null || position.getIndex() != value.length()) {
+            return null;
+        }
+        try {
+            // the value has the pattern's shape but its fields may still be out of range
+            return formatter.parse(value, Instant::from);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses only the values the fast path reads directly, i.e. values exactly matching one of the formats listed
+     * above with all fields in range. Nothing is handed over to the formatter.
+     *
+     * @return the instant or null when the fast path does not handle the value
+     */
+    public Instant tryParseFast(CharSequence value) {
+        return parseFast(value);
+    }
+
+    private Instant parseFast(CharSequence value) {
+        switch (shape) {
+            case YEAR_MONTH_DAY_TIME:
+                return parseYearMonthDayTime(value, ' ', value.length(), 0);
+            case ISO_DATE_TIME:
+                return parseIsoDateTime(value);
+            case DAY_MONTH_YEAR_TIME:
+                return parseDayMonthYearTime(value);
+            case MONTH_DAY_YEAR_TIME_AM_PM:
+                return parseMonthDayYearTimeAmPm(value);
+            default:
+                return null;
+        }
+    }
+
+    // yyyy-MM-dd?HH:mm:ss[.S+]
+    private Instant parseYearMonthDayTime(CharSequence value, char dateTimeSeparator, int end, int offsetSeconds) {
+        if (
+            end < 19
+                || value.charAt(4) != '-'
+                || value.charAt(7) != '-'
+                || value.charAt(10) != dateTimeSeparator
+                || value.charAt(13) != ':'
+                || value.charAt(16) != ':'
+        ) {
+            return null;
+        }
+        final int nano = parseFraction(value, 19, end);
+        if (nano < 0) {
+            return null;
+        }
+        return toInstant(
+            digits(value, 0, 4), digits(value, 5, 2), digits(value, 8, 2),
+            digits(value, 11, 2), digits(value, 14, 2), digits(value, 17, 2), nano, offsetSeconds
+        );
+    }
+
+    // yyyy-MM-ddTHH:mm:ss[.S+](Z|+HH:MM|-HH:MM)
+    private Instant parseIsoDateTime(CharSequence value) {
+        final int length = value.length();
+        if (length < 20) {
+            return null;
+        }
+        final int offsetSeconds;
+        final int end;
+        if (value.charAt(length - 1) == 'Z') {
+            offsetSeconds = 0;
+            end = length - 1;
+        } else {
+            end = length - 6;
+            final char sign = value.charAt(end);
+            if ((sign != '+' && sign != '-') || value.charAt(length - 3) != ':') {
+                return null;
+            }
+            final int offsetHours = digits(value, end + 1, 2);
+            final int offsetMinutes = digits(value, length - 2, 2);
+            if (
+                offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59
+                    || (offsetHours == 18 && offsetMinutes > 0)
+            ) {
+                return null;
+            }
+            offsetSeconds = (sign == '+' ? 1 : -1) * (offsetHours * 3600 + offsetMinutes * 60);
+        }
+        return parseYearMonthDayTime(value, 'T', end, offsetSeconds);
+    }
+
+    // dd.MM.yyyy HH:mm
+    private Instant parseDayMonthYearTime(CharSequence value) {
+        if (
+            value.length() != 16
+                || value.charAt(2) != '.'
+                || value.charAt(5) != '.'
+                || value.charAt(10) != ' '
+                || value.charAt(13) != ':'
+        ) {
+            return null;
+        }
+        return toInstant(
+            digits(value, 6, 4), digits(value, 3, 2), digits(value, 0, 2),
+            digits(value, 11, 2), digits(value, 14, 2), 0, 0, 0
+        );
+    }
+
+    // M/d/yy h:mm a
+    private Instant parseMonthDayYearTimeAmPm(CharSequence value) {
+        final int monthEnd = numberEnd(value, 0);
+        if (!isChar(value, monthEnd, '/')) {
+            return null;
+        }
+        final int dayEnd = numberEnd(value, monthEnd + 1);
+        if (!isChar(value, dayEnd, '/') || !isChar(value, dayEnd + 3, ' ')) {
+            return null;
+        }
+        final int yearStart = dayEnd + 1;
+        final int hourStart = dayEnd + 4;
+        final int hourEnd = numberEnd(value, hourStart);
+        if (
+            !isChar(value, hourEnd, ':')
+                || !isChar(value, hourEnd + 3, ' ')
+                || !isChar(value, hourEnd + 5, 'M')
+                || hourEnd + 6 != value.length()
+        ) {
+            return null;
+        }
+        final char amPm = value.charAt(hourEnd + 4);
+        final int clockHour = digits(value, hourStart, hourEnd - hourStart);
+        final int year = digits(value, yearStart, 2);
+        if ((amPm != 'A' && amPm != 'P') || clockHour < 1 || clockHour > 12 || year < 0) {
+            return null;
+        }
+        return toInstant(
+            2000 + year, digits(value, 0, monthEnd), digits(value, monthEnd + 1, dayEnd - monthEnd - 1),
+            clockHour % 12 + (amPm == 'P' ? 12 : 0), digits(value, hourEnd + 1, 2), 0, 0, 0
+        );
+    }
+
+    /**
+     * @return nano of second of the optional fraction between start and end, -1 when the fraction is not valid
+     */
+    private int parseFraction(CharSequence value, int start, int end) {
+        if (start == end) {
+            return 0;
+        }
+        final int digitCount = end - start - 1;
+        if (value.charAt(start) != '.' || digitCount < 1 || digitCount > maxFractionDigits) {
+            return -1;
+        }
+        final int fraction = digits(value, start + 1, digitCount);
+        return fraction < 0 ? -1 : fraction * POWERS_OF_TEN[MAX_FRACTION_DIGITS - digitCount];
+    }
+
+    private static boolean isChar(CharSequence value, int index, char c) {
+        return index >= 0 && index < value.length() && value.charAt(index) == c;
+    }
+
+    /**
+     * @return index following one or two digits starting at the index, -1 when there is no digit
+     */
+    private static int numberEnd(CharSequence value, int start) {
+        if (start >= value.length() || !isDigit(value.charAt(start))) {
+            return -1;
+        }
+        final int next = start + 1;
+        return next < value.length() && isDigit(value.charAt(next)) ? next + 1 : next;
+    }
+
+    /**
+     * @return non-negative value of the digits, -1 when the range contains a non-digit or exceeds the value
+     */
+    private static int digits(CharSequence value, int start, int count) {
+        if (start + count > value.length()) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            final char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @return the instant or null when a field is missing (negative) or out of its range
+     */
+    private static Instant toInstant(
+        int year, int month, int day, int hour, int minute, int second, int nano, int offsetSeconds
+    ) {
+        if (
+            year < 1
+                || month < 1 || month > 12
+                || day < 1 || day > lengthOfMonth(year, month)
+                || hour < 0 || hour > 23
+                || minute < 0 || minute > 59
+                || second < 0 || second > 59
+        ) {
+            return null;
+        }
+        final long epochSecond = epochDay(year, month, day) * SECONDS_PER_DAY
+            + hour * 3600 + minute * 60 + second - offsetSeconds;
+        return Instant.ofEpochSecond(epochSecond, nano);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // days from 1970-01-01 of a proleptic Gregorian date with a positive year
+    private static long epochDay(int year, int month, int day) {
+        final int marchBasedYear = month <= 2 ? year - 1 : year;
+        final int era = marchBasedYear / 400;
+        final int yearOfEra = marchBasedYear - era * 400;
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return (long) era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
+}
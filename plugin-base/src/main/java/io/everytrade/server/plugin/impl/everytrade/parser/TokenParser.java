@@ -0,0 +1,212 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+import com.univocity.parsers.common.DataValidationException;
+import io.everytrade.server.model.Currency;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Regex-free parsing of cell values made of tokens, e.g. "0.5 BTC", "BTC/USD" or "1,234.5$". Currency codes are looked
+ * up directly in the characters of the value and amounts are parsed in one pass without intermediate strings, so the
+ * only allocation is the resulting {@link BigDecimal}.
+ */
+public final class TokenParser {
+    private static final Currency[] CURRENCIES_BY_CODE = Arrays.stream(Currency.values())
+        .sorted(Comparator.comparing(Currency::code))
+        .toArray(Currency[]::new);
+    private static final int MAX_CODE_LENGTH = Arrays.stream(CURRENCIES_BY_CODE)
+        .mapToInt(currency -> currency.code().length())
+        .max()
+        .orElse(0);
+    // largest unscaled value which can take one more digit without overflow
+    private static final long MAX_UNSCALED = (Long.MAX_VALUE - 9) / 10;
+    private static final int BUFFER_SIZE = 64;
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[BUFFER_SIZE]);
+
+    private TokenParser() {
+    }
+
+    /**
+     * @return currency of the index-th token of the value
+     * @throws DataValidationException  when the value has no such token
+     * @throws IllegalArgumentException when the token is not a currency code, same as {@link Currency#fromCode(String)}
+     */
+    public static Currency currencyToken(String value, char separator, int index) {
+        return currencyToken(value, separator, index, false);
+    }
+
+    /**
+     * @param ignoreCase whether e.g. "btc" is a code of {@link Currency#BTC}
+     * @see #currencyToken(String, char, int)
+     */
+    public static Currency currencyToken(String value, char separator, int index, boolean ignoreCase) {
+        final int start = tokenStart(value, separator, index);
+        final int end = tokenEnd(value, separator, start);
+        final Currency currency = currency(value, start, end, ignoreCase);
+        if (currency == null) {
+            final String code = value.substring(start, end);
+            return Currency.fromCode(ignoreCase ? code.toUpperCase() : code);
+        }
+        return currency;
+    }
+
+    /**
+     * The token is parsed strictly like {@link BigDecimal#BigDecimal(String)}, characters ignored in numbers are not
+     * skipped.
+     *
+     * @return amount of the index-th token of the value or null when the token is empty
+     * @throws DataValidationException when the value has no such token
+     * @throws NumberFormatException   when the token is not a number
+     */
+    public static BigDecimal amountToken(String value, char separator, int index) {
+        final int start = tokenStart(value, separator, index);
+        return amount(value, start, tokenEnd(value, separator, start), false);
+    }
+
+    /**
+     * @return amount of the value without characters ignored in numbers (',', '$' and white spaces) or null when
+     * nothing else remains
+     * @throws NumberFormatException when the value is not a number
+     */
+    public static BigDecimal amount(CharSequence value) {
+        return amount(value, 0, value.length());
+    }
+
+    /**
+     * Plain decimals whose digits fit into a long are accumulated directly into the unscaled value, other values
+     * (more digits, exponents, illegal characters) fall back to {@link BigDecimal#BigDecimal(char[], int, int)}.
+     *
+     * @see #amount(CharSequence)
+     */
+    public static BigDecimal amount(CharSequence value, int start, int end) {
+        return amount(value, start, end, true);
+    }
+
+    private static BigDecimal amount(CharSequence value, int start, int end, boolean skipIgnoredChars) {
+        long unscaled = 0;
+        int scale = 0;
+        int digits = 0;
+        boolean negative = false;
+        boolean signAllowed = true;
+        boolean fraction = false;
+        boolean empty = true;
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (skipIgnoredChars && isIgnoredInNumber(c)) {
+                continue;
+            }
+            empty = false;
+            if (c >= '0' && c <= '9') {
+                if (unscaled > MAX_UNSCALED) {
+                    return slowAmount(value, start, end, skipIgnoredChars);
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                digits++;
+                if (fraction) {
+                    scale++;
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else if ((c == '-' || c == '+') && signAllowed) {
+                negative = c == '-';
+            } else {
+                return slowAmount(value, start, end, skipIgnoredChars);
+            }
+            signAllowed = false;
+        }
+        if (empty) {
+            return null;
+        }
+        if (digits == 0) {
+            return slowAmount(value, start, end, skipIgnoredChars);
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+
+    private static BigDecimal slowAmount(CharSequence value, int start, int end, boolean skipIgnoredChars) {
+        char[] buffer = BUFFER.get();
+        if (end - start > buffer.length) {
+            buffer = new char[end - start];
+        }
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (!skipIgnoredChars || !isIgnoredInNumber(c)) {
+                buffer[length++] = c;
+            }
+        }
+        return length == 0 ? null : new BigDecimal(buffer, 0, length);
+    }
+
+    /**
+     * @return the only currency whose code the value ends with or null when there is none or more of them
+     */
+    public static Currency currencySuffix(CharSequence value) {
+        Currency result = null;
+        for (int length = 1; length <= Math.min(MAX_CODE_LENGTH, value.length()); length++) {
+            final Currency currency = currency(value, value.length() - length, value.length(), false);
+            if (currency != null) {
+                if (result != null) {
+                    return null;
+                }
+                result = currency;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return currency of the code between start and end or null when there is none
+     */
+    public static Currency currency(CharSequence value, int start, int end, boolean ignoreCase) {
+        int low = 0;
+        int high = CURRENCIES_BY_CODE.length - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = compare(CURRENCIES_BY_CODE[middle].code(), value, start, end, ignoreCase);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return CURRENCIES_BY_CODE[middle];
+            }
+        }
+        return null;
+    }
+
+    private static int compare(String code, CharSequence value, int start, int end, boolean ignoreCase) {
+        final int length = Math.min(code.length(), end - start);
+        for (int i = 0; i < length; i++) {
+            final char c = ignoreCase ? Character.toUpperCase(value.charAt(start + i)) : value.charAt(start + i);
+            if (code.charAt(i) != c) {
+                return code.charAt(i) - c;
+            }
+        }
+        return code.length() - (end - start);
+    }
+
+    private static int tokenStart(String value, char separator, int index) {
+        int start = 0;
+        for (int i = 0; i < index; i++) {
+            final int separatorIndex = value.indexOf(separator, start);
+            if (separatorIndex < 0) {
+                throw new DataValidationException(String.format("Missing token %d in value '%s'.", index, value));
+            }
+            start = separatorIndex + 1;
+        }
+        return start;
+    }
+
+    private static int tokenEnd(String value, char separator, int start) {
+        final int separatorIndex = value.indexOf(separator, start);
+        return separatorIndex < 0 ? value.length() : separatorIndex;
+    }
+
+    // same characters as ExchangeBean.IGNORED_CHARS_IN_NUMBER
+    private static boolean isIgnoredInNumber(char c) {
+        return c == ',' || c == '$' || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -2,9 +2,27 @@ package io.everytrade.server.plugin.impl.everytrade.parser.exception;
 
 import com.univocity.parsers.common.DataValidationException;
 
+/**
+ * Signals a row which is skipped on purpose (unsupported status, transaction type...). The exception is thrown for
+ * every such row and caught by the parser, so it carries no stack trace.
+ */
 public class DataIgnoredException extends DataValidationException {
+    private final String reason;
 
     public DataIgnoredException(String message) {
         super(message);
+        this.reason = message;
+    }
+
+    /**
+     * @return the message without the parser state details, which are expensive to render for every ignored row
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
     }
 }
@@ -0,0 +1,455 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+import com.univocity.parsers.annotations.Nested;
+import com.univocity.parsers.annotations.Parsed;
+import com.univocity.parsers.annotations.helpers.AnnotationHelper;
+import com.univocity.parsers.common.ArgumentUtils;
+import com.univocity.parsers.common.DataProcessingException;
+import com.univocity.parsers.common.NormalizedString;
+import com.univocity.parsers.conversions.Conversion;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Maps rows to beans annotated with univocity {@code @Parsed} setters without univocity's reflective bean processing.
+ * Setters and the constructor are bound once per bean class to direct calls, columns are resolved once per header and
+ * the conversions are built from the same annotations (and by the same rules) as univocity does, so the beans are
+ * populated exactly as by {@link com.univocity.parsers.common.processor.BeanProcessor}. Beans using features which
+ * are not supported here (annotated fields, nested beans, primitive setters...) have no mapper and have to be
+ * processed by univocity.
+ * <p>
+ * A mapper reuses its conversions and buffers, so it must not be shared by concurrent parsings, its {@link Plan}
+ * may be.
+ */
+public final class BeanRowMapper<T> implements IRowMapper<T> {
+    private static final NormalizedString[] NO_HEADERS = new NormalizedString[0];
+    private static final ClassValue<Optional<BeanSetters>> BEAN_SETTERS = new ClassValue<>() {
+        @Override
+        protected Optional<BeanSetters> computeValue(Class<?> beanClass) {
+            return Optional.ofNullable(BeanSetters.of(beanClass));
+        }
+    };
+
+    private final Supplier<Object> constructor;
+    // setters and conversions by the column of the row, null where no setter is mapped
+    private final Setter[] readOrder;
+    private final Conversion<Object, Object>[][] conversions;
+    private final boolean converting;
+    // setters of fields without column and their values
+    private final Setter[] missing;
+    private final Object[] valuesForMissing;
+    private final Object[] values;
+
+    private BeanRowMapper(Plan<T> plan, Conversion<Object, Object>[][] conversions) {
+        this.constructor = plan.constructor;
+        this.readOrder = plan.readOrder;
+        this.conversions = conversions;
+        this.converting = Arrays.stream(conversions).anyMatch(chain -> chain != null && chain.length > 0);
+        this.missing = plan.missing;
+        this.valuesForMissing = plan.valuesForMissing;
+        this.values = new Object[readOrder.length];
+    }
+
+    /**
+     * @return mapper of the rows or null when the bean class is not supported
+     * @see #plan(Class, String[], int[], boolean)
+     */
+    public static <T> BeanRowMapper<T> create(
+        Class<T> beanClass,
+        String[] headers,
+        int[] extractedIndexes,
+        boolean columnsReordered
+    ) {
+        final Plan<T> plan = plan(beanClass, headers, extractedIndexes, columnsReordered);
+        return plan == null ? null : plan.newMapper();
+    }
+
+    /**
+     * @param headers          headers of the parsed input, null when headers are not known
+     * @param extractedIndexes indexes of the selected columns or null when all columns are processed, see
+     *                         {@link com.univocity.parsers.common.Context#extractedFieldIndexes()}
+     * @param columnsReordered whether the row contains just the selected columns, see
+     *                         {@link com.univocity.parsers.common.Context#columnsReordered()}
+     * @return columns of the setters for the given header or null when the bean class is not supported
+     */
+    public static <T> Plan<T> plan(
+        Class<T> beanClass,
+        String[] headers,
+        int[] extractedIndexes,
+        boolean columnsReordered
+    ) {
+        final BeanSetters beanSetters = BEAN_SETTERS.get(beanClass).orElse(null);
+        if (beanSetters == null) {
+            return null;
+        }
+        return beanSetters.createPlan(
+            headers == null ? NO_HEADERS : NormalizedString.toIdentifierGroupArray(headers),
+            extractedIndexes,
+            columnsReordered
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T map(String[] row) {
+        final int last = Math.min(row.length, readOrder.length);
+        for (int i = 0; i < last; i++) {
+            if (readOrder[i] != null) {
+                values[i] = convert(i, row[i], row);
+            }
+        }
+        final int length = converting ? readOrder.length : last;
+        for (int i = last; i < length; i++) {
+            if (readOrder[i] != null) {
+                values[i] = convert(i, null, row);
+            }
+        }
+
+        final Object bean = constructor.get();
+        for (int i = 0; i < length; i++) {
+            if (readOrder[i] != null) {
+                readOrder[i].set(bean, values[i]);
+            }
+        }
+        for (int i = 0; i < missing.length; i++) {
+            if (valuesForMissing[i] != null) {
+                missing[i].set(bean, valuesForMissing[i]);
+            }
+        }
+        return (T) bean;
+    }
+
+    private Object convert(int column, String value, String[] row) {
+        try {
+            return applyConversions(conversions[column], value);
+        } catch (DataProcessingException e) {
+            e.setRow(row);
+            e.setColumnIndex(column);
+            e.markAsNonFatal();
+            throw e;
+        } catch (RuntimeException e) {
+            final DataProcessingException exception = new DataProcessingException(
+                "Error processing data conversions", column, row, e
+            );
+            exception.markAsNonFatal();
+            throw exception;
+        }
+    }
+
+    // univocity conversions are untyped, the arrays are created with wildcards and cast once
+    @SuppressWarnings("unchecked")
+    private static <A> A uncheckedCast(Object array) {
+        return (A) array;
+    }
+
+    private static Object applyConversions(Conversion<Object, Object>[] chain, Object value) {
+        Object result = value;
+        for (Conversion<Object, Object> conversion : chain) {
+            result = conversion.execute(result);
+        }
+        return result;
+    }
+
+    /**
+     * Columns of the setters of a bean class resolved for one header. A plan is immutable and may be shared, each
+     * parsing creates its own mapper.
+     */
+    public static final class Plan<T> {
+        private final Supplier<Object> constructor;
+        private final Setter[] readOrder;
+        private final Setter[] missing;
+        private final Object[] valuesForMissing;
+
+        private Plan(Supplier<Object> constructor, Setter[] readOrder, Setter[] missing, Object[] valuesForMissing) {
+            this.constructor = constructor;
+            this.readOrder = readOrder;
+            this.missing = missing;
+            this.valuesForMissing = valuesForMissing;
+        }
+
+        /**
+         * @return mapper with its own conversions, which are not thread-safe
+         */
+        public BeanRowMapper<T> newMapper() {
+            final Conversion<Object, Object>[][] conversions = uncheckedCast(new Conversion<?, ?>[readOrder.length][]);
+            for (int i = 0; i < readOrder.length; i++) {
+                if (readOrder[i] != null) {
+                    conversions[i] = readOrder[i].createConversions();
+                }
+            }
+            return new BeanRowMapper<>(this, conversions);
+        }
+    }
+
+    private static final class BeanSetters {
+        private final Supplier<Object> constructor;
+        private final List<Setter> setters;
+        private final int lastIndex;
+
+        private BeanSetters(Supplier<Object> constructor, List<Setter> setters) {
+            this.constructor = constructor;
+            this.setters = setters;
+            this.lastIndex = setters.stream().mapToInt(setter -> setter.index).max().orElse(-1);
+        }
+
+        static BeanSetters of(Class<?> beanClass) {
+            if (hasParsedFields(beanClass)) {
+                return null;
+            }
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final List<Setter> setters = new ArrayList<>();
+            final Set<Object> columns = new HashSet<>();
+            try {
+                for (Method method : beanClass.getMethods()) {
+                    final Parsed parsed = AnnotationHelper.findAnnotation(method, Parsed.class);
+                    if (method.isBridge() || method.isSynthetic() || parsed == null) {
+                        if (AnnotationHelper.findAnnotation(method, Nested.class) != null) {
+                            return null;
+                        }
+                        continue;
+                    }
+                    if (method.getParameterCount() != 1 || method.getParameterTypes()[0].isPrimitive()) {
+                        return null;
+                    }
+                    final Setter setter = Setter.of(lookup, method, parsed);
+                    if (setter == null || !columns.add(setter.index >= 0 ? setter.index : setter.fieldName)) {
+                        return null;
+                    }
+                    setters.add(setter);
+                }
+                return setters.isEmpty() ? null : new BeanSetters(bindConstructor(lookup, beanClass), setters);
+            } catch (Throwable e) {
+                // not accessible to direct calls, leave it to univocity
+                return null;
+            }
+        }
+
+        <T> Plan<T> createPlan(NormalizedString[] headers, int[] extractedIndexes, boolean columnsReordered) {
+            final Setter[] fieldOrder = new Setter[Math.max(headers.length, lastIndex + 1)];
+            for (Setter setter : setters) {
+                if (setter.index >= 0) {
+                    fieldOrder[setter.index] = setter;
+                    continue;
+                }
+                final int[] positions = ArgumentUtils.indexesOf(headers, setter.fieldName);
+                if (positions.length == 0 && headers.length == 0) {
+                    // univocity fails the parsing, let it report the error
+                    return null;
+                }
+                for (int position : positions) {
+                    fieldOrder[position] = setter;
+                }
+            }
+
+            Setter[] readOrder = fieldOrder;
+            if (extractedIndexes != null) {
+                for (int i = 0; i < fieldOrder.length; i++) {
+                    if (!contains(extractedIndexes, i)) {
+                        fieldOrder[i] = null;
+                    }
+                }
+                if (columnsReordered) {
+                    readOrder = new Setter[extractedIndexes.length];
+                    for (int i = 0; i < extractedIndexes.length; i++) {
+                        final int index = extractedIndexes[i];
+                        if (index >= 0 && index < fieldOrder.length) {
+                            readOrder[i] = fieldOrder[index];
+                        }
+                    }
+                }
+            }
+
+            final Set<Setter> unmapped = new LinkedHashSet<>(setters);
+            unmapped.removeAll(Arrays.asList(readOrder));
+            final Setter[] missing = unmapped.toArray(new Setter[0]);
+            final Object[] valuesForMissing = new Object[missing.length];
+            final Plan<T> plan = new Plan<>(constructor, readOrder, missing, valuesForMissing);
+            try {
+                for (int i = 0; i < missing.length; i++) {
+                    valuesForMissing[i] = applyConversions(missing[i].createConversions(), null);
+                }
+                plan.newMapper();
+            } catch (RuntimeException e) {
+                // univocity reports the error with all its details
+                return null;
+            }
+            return plan;
+        }
+
+        private static boolean hasParsedFields(Class<?> beanClass) {
+            for (Class<?> type = beanClass; type != null && type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (AnnotationHelper.findAnnotation(field, Parsed.class) != null
+                        || AnnotationHelper.findAnnotation(field, Nested.class) != null) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Supplier<Object> bindConstructor(
+            MethodHandles.Lookup lookup,
+            Class<?> beanClass
+        ) throws Throwable {
+            if (Modifier.isAbstract(beanClass.getModifiers())) {
+                throw new IllegalArgumentException(String.format("Abstract bean class %s.", beanClass.getName()));
+            }
+            final MethodHandle constructor = lookup.findConstructor(beanClass, MethodType.methodType(void.class));
+            return (Supplier<Object>) LambdaMetafactory.metafactory(
+                lookup,
+                "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                constructor,
+                MethodType.methodType(beanClass)
+            ).getTarget().invokeExact();
+        }
+
+        private static boolean contains(int[] values, int value) {
+            for (int v : values) {
+                if (v == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Setter {
+        private final Method method;
+        private final BiConsumer<Object, Object> invoker;
+        private final int index;
+        private final NormalizedString fieldName;
+
+        private Setter(Method method, BiConsumer<Object, Object> invoker, int index, NormalizedString fieldName) {
+            this.method = method;
+            this.invoker = invoker;
+            this.index = index;
+            this.fieldName = fieldName;
+        }
+
+        @SuppressWarnings("unchecked")
+        static Setter of(MethodHandles.Lookup lookup, Method method, Parsed parsed) throws Throwable {
+            NormalizedString fieldName = null;
+            if (parsed.index() < 0) {
+                // several alternative names and names derived from the setter are left to univocity
+                if (parsed.field().length != 1 || parsed.field()[0].isEmpty()) {
+                    return null;
+                }
+                fieldName = NormalizedString.valueOf(parsed.field()[0]);
+            }
+            final MethodHandle handle = lookup.unreflect(method);
+            final BiConsumer<Object, Object> invoker = (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                MethodType.methodType(BiConsumer.class),
+                MethodType.methodType(void.class, Object.class, Object.class),
+                handle,
+                MethodType.methodType(void.class, method.getDeclaringClass(), method.getParameterTypes()[0])
+            ).getTarget().invokeExact();
+            return new Setter(method, invoker, parsed.index(), fieldName);
+        }
+
+        /**
+         * Same conversions as univocity sets up for the setter: the conversions of all univocity annotations followed
+         * by the default conversion of the parameter type, unless the last conversion already produces that type.
+         */
+        @SuppressWarnings("unchecked")
+        Conversion<Object, Object>[] createConversions() {
+            final List<Conversion<Object, Object>> chain = new ArrayList<>();
+            Conversion<Object, Object> lastConversion = null;
+            for (Annotation annotation : AnnotationHelper.findAllAnnotationsInPackage(method, Parsed.class.getPackage())) {
+                final Conversion<Object, Object> conversion = AnnotationHelper.getConversion(method, annotation);
+                if (conversion != null) {
+                    chain.add(conversion);
+                    lastConversion = conversion;
+                }
+            }
+            final Parsed parsed = AnnotationHelper.findAnnotation(method, Parsed.class);
+            if (parsed.applyDefaultConversion()) {
+                final Conversion<Object, Object> defaultConversion = AnnotationHelper.getDefaultConversion(method);
+                if (isDefaultConversionApplied(lastConversion, defaultConversion)) {
+                    chain.add(defaultConversion);
+                }
+            }
+            return uncheckedCast(chain.toArray(new Conversion<?, ?>[0]));
+        }
+
+        void set(Object bean, Object value) {
+            try {
+                invoker.accept(bean, value);
+            } catch (DataProcessingException e) {
+                e.markAsNonFatal();
+                e.setValue(value);
+                e.setDetails(unableToSet(value));
+                throw e;
+            } catch (RuntimeException e) {
+                final DataProcessingException exception = new DataProcessingException(unableToSet(value), e);
+                exception.markAsNonFatal();
+                exception.setValue(value);
+                throw exception;
+            }
+        }
+
+        // same message as univocity's
+        private String unableToSet(Object value) {
+            if (value == null) {
+                return String.format("Unable to set value 'null' to method '%s'", method.getName());
+            }
+            return String.format(
+                "Unable to set value '{value}' of type '%s' to method '%s'", value.getClass().getName(), method.getName()
+            );
+        }
+
+        private static boolean isDefaultConversionApplied(
+            Conversion<?, ?> lastConversion,
+            Conversion<?, ?> defaultConversion
+        ) {
+            if (defaultConversion == null) {
+                return false;
+            }
+            if (lastConversion == null) {
+                return true;
+            }
+            if (lastConversion.getClass() == defaultConversion.getClass()) {
+                return false;
+            }
+            return returnType(lastConversion, "execute") != returnType(defaultConversion, "execute")
+                || returnType(lastConversion, "revert") != returnType(defaultConversion, "revert");
+        }
+
+        private static Class<?> returnType(Conversion<?, ?> conversion, String methodName) {
+            Class<?> result = null;
+            for (Method method : conversion.getClass().getMethods()) {
+                if (method.getName().equals(methodName) && !method.isSynthetic() && !method.isBridge()
+                    && method.getParameterCount() == 1 && method.getReturnType() != void.class) {
+                    if (result != null) {
+                        throw new IllegalStateException(String.format(
+                            "Ambiguous method %s of conversion %s.", methodName, conversion.getClass().getName()
+                        ));
+                    }
+                    result = method.getReturnType();
+                }
+            }
+            return result;
+        }
+    }
+}
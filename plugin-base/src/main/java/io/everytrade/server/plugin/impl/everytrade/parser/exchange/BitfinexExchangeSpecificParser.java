@@ -1,86 +1,146 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
 
 import io.everytrade.server.plugin.api.parser.ParsingProblem;
-import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
+import io.everytrade.server.plugin.api.parser.ParsingProblemType;
+import io.everytrade.server.plugin.impl.everytrade.parser.TimestampParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exception.ParsingProcessException;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.BitfinexBeanV1;
 
-import java.io.File;
-import java.time.format.DateTimeParseException;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
+/**
+ * Bitfinex exports dates in a pattern chosen by the user. The pattern is inferred from a sample of rows at the start
+ * of the file; the sampled beans are held back until the pattern is known, the following beans get their date
+ * converted as they are parsed.
+ */
 public class BitfinexExchangeSpecificParser implements IExchangeSpecificParser {
     private static final String DELIMITER = ",";
-    private List<ParsingProblem> parsingProblems = List.of();
+    private static final String DEFAULT_PATTERN = "dd-MM-yy HH:mm:ss";
+    private static final String DEFAULT_PATTERN_MILLIS = "dd-MM-yy HH:mm:ss.SSS";
+    private static final List<String> PATTERNS = List.of(
+        DEFAULT_PATTERN,
+        "yy-MM-dd HH:mm:ss",
+        "MM-dd-yy HH:mm:ss",
+        DEFAULT_PATTERN_MILLIS,
+        "yy-MM-dd HH:mm:ss.SSS",
+        "MM-dd-yy HH:mm:ss.SSS"
+    );
+    private static final String MILLIS_SUFFIX = ".SSS";
+    private static final int SAMPLE_SIZE = 1000;
+    private final DefaultUnivocityExchangeSpecificParser univocityParser
+        = new DefaultUnivocityExchangeSpecificParser(BitfinexBeanV1.class, DELIMITER);
 
     @Override
-    public List<? extends ExchangeBean> parse(File inputFile) {
-        final DefaultUnivocityExchangeSpecificParser parser
-            = new DefaultUnivocityExchangeSpecificParser(BitfinexBeanV1.class, DELIMITER);
-        final List<? extends ExchangeBean> exchangeBeans = parser.parse(inputFile);
-        final List<BitfinexBeanV1> bitfinexBeans = new ArrayList<>();
-        for (ExchangeBean exchangeBean : exchangeBeans) {
-            if (!(exchangeBean instanceof BitfinexBeanV1)){
+    public void parse(
+        FileChannel channel,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer
+    ) {
+        final DateConvertingConsumer dateConvertingConsumer
+            = new DateConvertingConsumer(exchangeBeanConsumer, parsingProblemConsumer);
+        univocityParser.parse(channel, dateConvertingConsumer, parsingProblemConsumer);
+        dateConvertingConsumer.flush();
+    }
+
+    @Override
+    public void parse(
+        Reader reader,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer
+    ) {
+        final DateConvertingConsumer dateConvertingConsumer
+            = new DateConvertingConsumer(exchangeBeanConsumer, parsingProblemConsumer);
+        univocityParser.parse(reader, dateConvertingConsumer, parsingProblemConsumer);
+        dateConvertingConsumer.flush();
+    }
+
+    private static class DateConvertingConsumer implements Consumer<ExchangeBean> {
+        private final Consumer<ExchangeBean> exchangeBeanConsumer;
+        private final Consumer<ParsingProblem> parsingProblemConsumer;
+        private final Set<String> candidatePatterns = new LinkedHashSet<>(PATTERNS);
+        private final List<BitfinexBeanV1> sample = new ArrayList<>();
+        private TimestampParser timestampParser;
+
+        DateConvertingConsumer(
+            Consumer<ExchangeBean> exchangeBeanConsumer,
+            Consumer<ParsingProblem> parsingProblemConsumer
+        ) {
+            this.exchangeBeanConsumer = exchangeBeanConsumer;
+            this.parsingProblemConsumer = parsingProblemConsumer;
+        }
+
+        @Override
+        public void accept(ExchangeBean exchangeBean) {
+            if (!(exchangeBean instanceof BitfinexBeanV1)) {
                 throw new ParsingProcessException(String.format(
                     "Unexpected parsed bean class: %s", exchangeBean.getClass()
                 ));
             }
-            bitfinexBeans.add((BitfinexBeanV1) exchangeBean);
+            final BitfinexBeanV1 bean = (BitfinexBeanV1) exchangeBean;
+            if (timestampParser != null) {
+                convertDate(bean);
+                return;
+            }
+            sample.add(bean);
+            eliminatePatterns(bean.getDate());
+            if (candidatePatterns.size() <= 1 || sample.size() >= SAMPLE_SIZE) {
+                flush();
+            }
         }
-        parsingProblems = parser.getParsingProblems();
-        final String datePattern = evalDatePattern(bitfinexBeans);
-        return updateDate(bitfinexBeans, datePattern);
-    }
 
-    @Override
-    public List<ParsingProblem> getParsingProblems() {
-        return parsingProblems;
-    }
-
-    private List<? extends ExchangeBean> updateDate(List<BitfinexBeanV1> beans, String datePattern) {
-        for (BitfinexBeanV1 bean : beans) {
-            final String date = bean.getDate();
-            bean.setDateConverted(ParserUtils.parse(datePattern, date));
+        /**
+         * Chooses the pattern (if not chosen yet) and hands over the sampled beans.
+         */
+        void flush() {
+            if (timestampParser == null) {
+                timestampParser = TimestampParser.ofPattern(choosePattern());
+            }
+            for (BitfinexBeanV1 bean : sample) {
+                convertDate(bean);
+            }
+            sample.clear();
         }
-        return beans;
-    }
 
-    private String evalDatePattern(List<BitfinexBeanV1> exchangeBeans) {
-        final String defaultPattern = "dd-MM-yy HH:mm:ss";
-        final String defaultPatternMillis = "dd-MM-yy HH:mm:ss.SSS";
-        final Set<String> patterns = new HashSet<>(Set.of(
-            defaultPattern,
-            "yy-MM-dd HH:mm:ss",
-            "MM-dd-yy HH:mm:ss",
-            defaultPatternMillis,
-            "yy-MM-dd HH:mm:ss.SSS",
-            "MM-dd-yy HH:mm:ss.SSS"
-        ));
-        for (BitfinexBeanV1 bitfinexBeanV1 : exchangeBeans) {
-            final String date = bitfinexBeanV1.getDate();
-            Iterator<String> iterator = patterns.iterator();
+        private void eliminatePatterns(String date) {
+            final Iterator<String> iterator = candidatePatterns.iterator();
             while (iterator.hasNext()) {
-                try {
-                    ParserUtils.parse(iterator.next(), date);
-                } catch (DateTimeParseException e) {
+                if (date == null || TimestampParser.ofPattern(iterator.next()).tryParse(date) == null) {
                     iterator.remove();
                 }
             }
-            if (patterns.size() == 1) {
-                return patterns.iterator().next();
+        }
+
+        private String choosePattern() {
+            if (candidatePatterns.size() == 1) {
+                return candidatePatterns.iterator().next();
             }
-            if (patterns.isEmpty()) {
-                return defaultPattern;
+            if (!candidatePatterns.isEmpty()
+                && candidatePatterns.stream().allMatch(pattern -> pattern.endsWith(MILLIS_SUFFIX))) {
+                return DEFAULT_PATTERN_MILLIS;
             }
+            return DEFAULT_PATTERN;
         }
-        final long count = patterns.stream().filter(p -> p.endsWith(".SSS")).count();
-        if (patterns.size() == count) {
-            return defaultPatternMillis;
+
+        private void convertDate(BitfinexBeanV1 bean) {
+            final Instant date = bean.getDate() == null ? null : timestampParser.tryParse(bean.getDate());
+            if (date == null) {
+                parsingProblemConsumer.accept(new ParsingProblem(
+                    bean.rowToString(),
+                    String.format("Unparseable date '%s'.", bean.getDate()),
+                    ParsingProblemType.ROW_PARSING_FAILED
+                ));
+                return;
+            }
+            bean.setDateConverted(date);
+            exchangeBeanConsumer.accept(bean);
         }
-        return defaultPattern;
     }
 }
@@ -0,0 +1,152 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits a CSV file into byte ranges which end at record boundaries, so that each range can be parsed independently.
+ * Line separators inside quoted values are not treated as boundaries. The first chunk always contains just the header
+ * record.
+ */
+public class CsvFileSplitter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte LINE_FEED = '\n';
+    private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private enum State {
+        FIELD_START, UNQUOTED, QUOTED, QUOTE_IN_QUOTED
+    }
+
+    private CsvFileSplitter() {
+    }
+
+    public static List<Chunk> split(File file, char delimiter, char quote, long chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return split(channel, delimiter, quote, chunkSize);
+        }
+    }
+
+    /**
+     * Splits the file open as the channel. The channel is read by positional reads, its position is not changed.
+     */
+    public static List<Chunk> split(FileChannel channel, char delimiter, char quote, long chunkSize) throws IOException {
+        final List<Chunk> chunks = new ArrayList<>();
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        State state = State.FIELD_START;
+        long position = skipBom(channel);
+        long chunkStart = 0;
+        long chunkLineOffset = 0;
+        long lineCount = 0;
+        while (channel.read(buffer, position) > 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                final byte b = buffer.get();
+                position++;
+                if (b == LINE_FEED) {
+                    lineCount++;
+                }
+                boolean recordEnd = false;
+                switch (state) {
+                    case FIELD_START:
+                    case UNQUOTED:
+                        if (b == LINE_FEED) {
+                            recordEnd = true;
+                            state = State.FIELD_START;
+                        } else if (b == delimiter) {
+                            state = State.FIELD_START;
+                        } else if (state == State.FIELD_START && b == quote) {
+                            state = State.QUOTED;
+                        } else if (state == State.UNQUOTED || (b != ' ' && b != '\t')) {
+                            // leading whitespace does not start an unquoted value
+                            state = State.UNQUOTED;
+                        }
+                        break;
+                    case QUOTED:
+                        if (b == quote) {
+                            state = State.QUOTE_IN_QUOTED;
+                        }
+                        break;
+                    case QUOTE_IN_QUOTED:
+                        if (b == quote) {
+                            state = State.QUOTED;
+                        } else if (b == LINE_FEED) {
+                            recordEnd = true;
+                            state = State.FIELD_START;
+                        } else if (b == delimiter) {
+                            state = State.FIELD_START;
+                        } else {
+                            state = State.UNQUOTED;
+                        }
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown state " + state);
+                }
+                final boolean isHeaderEnd = chunks.isEmpty();
+                if (recordEnd && (isHeaderEnd || position - chunkStart >= chunkSize)) {
+                    chunks.add(new Chunk(chunkStart, position, chunkLineOffset));
+                    chunkStart = position;
+                    chunkLineOffset = lineCount;
+                }
+            }
+            buffer.clear();
+        }
+        if (position > chunkStart) {
+            chunks.add(new Chunk(chunkStart, position, chunkLineOffset));
+        }
+        return chunks;
+    }
+
+    private static long skipBom(FileChannel channel) throws IOException {
+        final ByteBuffer bom = ByteBuffer.allocate(UTF_8_BOM.length);
+        int read;
+        do {
+            read = channel.read(bom, bom.position());
+        } while (read > 0 && bom.hasRemaining());
+        if (bom.hasRemaining() || !Arrays.equals(bom.array(), UTF_8_BOM)) {
+            return 0;
+        }
+        return UTF_8_BOM.length;
+    }
+
+    public static class Chunk {
+        private final long start;
+        private final long end;
+        private final long lineOffset;
+
+        public Chunk(long start, long end, long lineOffset) {
+            this.start = start;
+            this.end = end;
+            this.lineOffset = lineOffset;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+
+        /**
+         * @return count of lines in the file preceding this chunk
+         */
+        public long getLineOffset() {
+            return lineOffset;
+        }
+
+        @Override
+        public String toString() {
+            return "Chunk{" +
+                "start=" + start +
+                ", end=" + end +
+                ", lineOffset=" + lineOffset +
+                '}';
+        }
+    }
+}
@@ -1,28 +1,45 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
 
 import com.univocity.parsers.common.Context;
-import com.univocity.parsers.common.processor.BeanListProcessor;
+import com.univocity.parsers.common.ParsingContext;
+import com.univocity.parsers.common.processor.BeanProcessor;
 import com.univocity.parsers.csv.CsvParserSettings;
 import io.everytrade.server.plugin.api.parser.ParsingProblem;
 import io.everytrade.server.plugin.api.parser.ParsingProblemType;
 import io.everytrade.server.plugin.impl.everytrade.parser.exception.DataIgnoredException;
 import io.everytrade.server.plugin.impl.everytrade.parser.exception.ParsingProcessException;
 
-import java.io.File;
-import java.io.FileReader;
+import java.io.IOException;
 import java.io.Reader;
-import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public class DefaultUnivocityExchangeSpecificParser implements IExchangeSpecificParser {
+    public static final long DEFAULT_CHUNK_SIZE = 8L * 1024 * 1024;
     private static final String DEFAUL_DELIMITER = ",";
+    private static final int SEQUENTIAL = 1;
+    // files of one template mostly differ just in the letter case or spaces of the header
+    private static final int MAX_ROW_MAPPER_PLANS = 16;
     private final Class<? extends ExchangeBean> exchangeBean;
     private final String delimiter;
     private final String lineSeparator;
-    private List<ParsingProblem> parsingProblems = List.of();
+    private final int parallelism;
+    private final long chunkSize;
+    // column resolutions by the parsed header, shared by concurrent parsings
+    private final Map<List<Object>, Optional<BeanRowMapper.Plan<? extends ExchangeBean>>> rowMapperPlans
+        = new ConcurrentHashMap<>();
 
     public DefaultUnivocityExchangeSpecificParser(Class<? extends ExchangeBean> exchangeBean) {
         this(exchangeBean, DEFAUL_DELIMITER, null);
@@ -39,58 +56,226 @@ public class DefaultUnivocityExchangeSpecificParser implements IExchangeSpecific
         Class<? extends ExchangeBean> exchangeBean,
         String delimiter,
         String lineSeparator
+    ) {
+        this(exchangeBean, delimiter, lineSeparator, SEQUENTIAL);
+    }
+
+    public DefaultUnivocityExchangeSpecificParser(
+        Class<? extends ExchangeBean> exchangeBean,
+        String delimiter,
+        String lineSeparator,
+        int parallelism
+    ) {
+        this(exchangeBean, delimiter, lineSeparator, parallelism, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param parallelism count of threads parsing the file; with values greater than one the file is split into chunks
+     *                    at record boundaries and the chunks are parsed concurrently. Rows are handed over in the file
+     *                    order regardless of this setting.
+     * @param chunkSize   minimal size of one chunk in bytes; files smaller than two chunks are parsed sequentially.
+     */
+    public DefaultUnivocityExchangeSpecificParser(
+        Class<? extends ExchangeBean> exchangeBean,
+        String delimiter,
+        String lineSeparator,
+        int parallelism,
+        long chunkSize
     ) {
         Objects.requireNonNull(this.exchangeBean = exchangeBean);
         Objects.requireNonNull(this.delimiter = delimiter);
         this.lineSeparator = lineSeparator;
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(String.format("Illegal parallelism %d.", parallelism));
+        }
+        this.parallelism = parallelism;
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(String.format("Illegal chunk size %d.", chunkSize));
+        }
+        this.chunkSize = chunkSize;
     }
 
     @Override
-    public List<? extends ExchangeBean> parse(File inputFile) {
-        parsingProblems = new ArrayList<>();
-        final CsvParserSettings parserSettings = createParserSettings(parsingProblems);
-        return parse(inputFile, parserSettings, exchangeBean);
+    public void parse(
+        FileChannel channel,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer
+    ) {
+        try {
+            if (isParallelizable(channel.size())) {
+                parseInParallel(channel, exchangeBeanConsumer, parsingProblemConsumer);
+            } else {
+                try (Reader reader = MappedFileReader.open(channel)) {
+                    final CsvParserSettings parserSettings = createParserSettings(parsingProblemConsumer);
+                    parse(reader, parserSettings, exchangeBean, 0, exchangeBeanConsumer);
+                }
+            }
+        } catch (IOException e) {
+            throw new ParsingProcessException(String.format("Parsing error. %s", e.getMessage()));
+        }
     }
 
     @Override
-    public List<ParsingProblem> getParsingProblems() {
-        return parsingProblems;
+    public void parse(
+        Reader reader,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer
+    ) {
+        final CsvParserSettings parserSettings = createParserSettings(parsingProblemConsumer);
+        parse(reader, parserSettings, exchangeBean, 0, exchangeBeanConsumer);
+    }
+
+    private boolean isParallelizable(long fileSize) {
+        return parallelism > SEQUENTIAL && delimiter.length() == 1 && fileSize >= 2 * chunkSize;
+    }
+
+    private void parseInParallel(
+        FileChannel channel,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer
+    ) {
+        final List<CsvFileSplitter.Chunk> chunks;
+        final String[] headers;
+        try {
+            final CsvParserSettings formatSettings = createParserSettings(parsingProblemConsumer);
+            chunks = CsvFileSplitter.split(
+                channel, delimiter.charAt(0), formatSettings.getFormat().getQuote(), chunkSize
+            );
+            headers = parseHeaders(channel, chunks.get(0));
+        } catch (IOException e) {
+            throw new ParsingProcessException(String.format("Parsing error. %s", e.getMessage()));
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            // keep a bounded number of chunks in flight and hand over the results in the file order
+            final Deque<ForkJoinTask<ChunkResult>> tasks = new ArrayDeque<>();
+            int nextChunk = 1;
+            while (nextChunk < chunks.size() || !tasks.isEmpty()) {
+                while (nextChunk < chunks.size() && tasks.size() < 2 * parallelism) {
+                    final CsvFileSplitter.Chunk chunk = chunks.get(nextChunk++);
+                    tasks.add(pool.submit(() -> parseChunk(channel, chunk, headers)));
+                }
+                tasks.poll().join().handOver(exchangeBeanConsumer, parsingProblemConsumer);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
     }
 
-    private <T extends ExchangeBean> List<T> parse(File file, CsvParserSettings parserSettings, Class<T> exchangeBean) {
-        try (Reader reader = new FileReader(file, StandardCharsets.UTF_8)) {
-            BeanListProcessor<T> rowProcessor = new BeanListProcessor<>(exchangeBean) {
+    private String[] parseHeaders(FileChannel channel, CsvFileSplitter.Chunk headerChunk) throws IOException {
+        final CsvParserSettings parserSettings = createParserSettings((problem, line) -> {});
+        parserSettings.setHeaderExtractionEnabled(false);
+        try (Reader reader = new MappedFileReader(channel, headerChunk.getStart(), headerChunk.getEnd())) {
+            final List<String[]> rows = new com.univocity.parsers.csv.CsvParser(parserSettings).parseAll(reader);
+            if (rows.isEmpty()) {
+                throw new ParsingProcessException("Parsing error. Missing header.");
+            }
+            return rows.get(0);
+        }
+    }
+
+    private ChunkResult parseChunk(FileChannel channel, CsvFileSplitter.Chunk chunk, String[] headers) {
+        final ChunkResult chunkResult = new ChunkResult();
+        try (Reader reader = new MappedFileReader(channel, chunk.getStart(), chunk.getEnd())) {
+            final CsvParserSettings parserSettings = createParserSettings(
+                (problem, line) -> chunkResult.addParsingProblem(problem, chunk.getLineOffset() + line)
+            );
+            parserSettings.setHeaderExtractionEnabled(false);
+            parserSettings.setHeaders(headers);
+            parse(reader, parserSettings, exchangeBean, chunk.getLineOffset(), chunkResult.exchangeBeans::add);
+        } catch (IOException e) {
+            throw new ParsingProcessException(String.format("Parsing error. %s", e.getMessage()));
+        }
+        return chunkResult;
+    }
+
+    private <T extends ExchangeBean> void parse(
+        Reader reader,
+        CsvParserSettings parserSettings,
+        Class<T> exchangeBean,
+        long lineOffset,
+        Consumer<ExchangeBean> exchangeBeanConsumer
+    ) {
+        try {
+            BeanProcessor<T> rowProcessor = new BeanProcessor<>(exchangeBean) {
+                private IRowMapper<T> rowMapper;
+                private boolean rowMapperResolved;
+
                 @Override
                 public T createBean(String[] row, Context context) {
-                    T bean = super.createBean(row, context);
+                    if (!rowMapperResolved) {
+                        rowMapper = createRowMapper(exchangeBean, context);
+                        rowMapperResolved = true;
+                    }
+                    // the bean processor stays in charge of the settings derived from the bean annotations and of
+                    // the beans not supported by the row mapper
+                    T bean = rowMapper == null ? super.createBean(row, context) : rowMapper.map(row);
                     if (bean == null) {
                         return null;
                     }
                     bean.setRowValues(row);
-                    bean.setRowNumber(context.currentColumn());
+                    bean.setRowNumber(lineOffset + ((ParsingContext) context).currentLine());
                     return bean;
                 }
+
+                @Override
+                public void beanProcessed(T bean, ParsingContext context) {
+                    exchangeBeanConsumer.accept(bean);
+                }
             };
             parserSettings.setProcessor(rowProcessor);
             com.univocity.parsers.csv.CsvParser parser = new com.univocity.parsers.csv.CsvParser(parserSettings);
             parser.parse(reader);
-            return rowProcessor.getBeans();
         } catch (Exception e) {
             throw new ParsingProcessException(String.format("Parsing error. %s", e.getMessage()));
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends ExchangeBean> IRowMapper<T> createRowMapper(Class<T> exchangeBean, Context context) {
+        final String[] headers = context.headers();
+        final int[] extractedIndexes = context.extractedFieldIndexes();
+        final List<Object> key = Arrays.asList(
+            headers == null ? null : new ArrayList<>(Arrays.asList(headers)),
+            extractedIndexes == null ? null : Arrays.stream(extractedIndexes).boxed().collect(Collectors.toList()),
+            context.columnsReordered()
+        );
+        Optional<BeanRowMapper.Plan<? extends ExchangeBean>> plan = rowMapperPlans.get(key);
+        if (plan == null) {
+            plan = Optional.ofNullable(
+                BeanRowMapper.plan(exchangeBean, headers, extractedIndexes, context.columnsReordered())
+            );
+            if (rowMapperPlans.size() < MAX_ROW_MAPPER_PLANS) {
+                rowMapperPlans.putIfAbsent(key, plan);
+            }
+        }
+        return plan.map(p -> ((BeanRowMapper.Plan<T>) p).newMapper()).orElse(null);
+    }
+
     private CsvParserSettings createParserSettings(
-        List<ParsingProblem> parsingProblems
+        Consumer<ParsingProblem> parsingProblemConsumer
     ) {
+        return createParserSettings((problem, line) -> parsingProblemConsumer.accept(problem));
+    }
+
+    private CsvParserSettings createParserSettings(IParsingProblemConsumer parsingProblemConsumer) {
         CsvParserSettings parserSettings = new CsvParserSettings();
         parserSettings.setHeaderExtractionEnabled(true);
         parserSettings.setProcessorErrorHandler((error, inputRow, context) -> {
-            ParsingProblemType parsingProblemType = error instanceof DataIgnoredException
-                ? ParsingProblemType.PARSED_ROW_IGNORED : ParsingProblemType.ROW_PARSING_FAILED;
-            ParsingProblem parsingProblem
-                = new ParsingProblem(Arrays.toString(inputRow), error.getMessage(), parsingProblemType);
-            parsingProblems.add(parsingProblem);
+            final ParsingProblem parsingProblem;
+            if (error instanceof DataIgnoredException) {
+                parsingProblem = new ParsingProblem(
+                    Arrays.toString(inputRow),
+                    ((DataIgnoredException) error).getReason(),
+                    ParsingProblemType.PARSED_ROW_IGNORED
+                );
+            } else {
+                parsingProblem = new ParsingProblem(
+                    Arrays.toString(inputRow), error.getMessage(), ParsingProblemType.ROW_PARSING_FAILED
+                );
+            }
+            parsingProblemConsumer.accept(parsingProblem, ((ParsingContext) context).currentLine());
         });
         parserSettings.getFormat().setDelimiter(delimiter);
         //default setting is autodetect
@@ -101,4 +286,36 @@ public class DefaultUnivocityExchangeSpecificParser implements IExchangeSpecific
 
         return parserSettings;
     }
+
+    private interface IParsingProblemConsumer {
+        void accept(ParsingProblem parsingProblem, long line);
+    }
+
+    private static class ChunkResult {
+        private final List<ExchangeBean> exchangeBeans = new ArrayList<>();
+        private final List<ParsingProblem> parsingProblems = new ArrayList<>();
+        private final List<Long> parsingProblemLines = new ArrayList<>();
+
+        void addParsingProblem(ParsingProblem parsingProblem, long line) {
+            parsingProblems.add(parsingProblem);
+            parsingProblemLines.add(line);
+        }
+
+        /**
+         * Hands over the beans and problems merged by their row numbers, in the order of the sequential parsing.
+         */
+        void handOver(Consumer<ExchangeBean> exchangeBeanConsumer, Consumer<ParsingProblem> parsingProblemConsumer) {
+            int problemIndex = 0;
+            for (ExchangeBean bean : exchangeBeans) {
+                while (problemIndex < parsingProblems.size()
+                    && parsingProblemLines.get(problemIndex) < bean.getRowNumber()) {
+                    parsingProblemConsumer.accept(parsingProblems.get(problemIndex++));
+                }
+                exchangeBeanConsumer.accept(bean);
+            }
+            while (problemIndex < parsingProblems.size()) {
+                parsingProblemConsumer.accept(parsingProblems.get(problemIndex++));
+            }
+        }
+    }
 }
@@ -21,6 +21,18 @@ public abstract class ExchangeBean implements IImportableBean {
     public static final String FEE_UID_PART = "-fee";
     public static final String REBATE_UID_PART = "-rebate";
     public static final String ILLEGAL_NEGATIVE_VALUES = "Illegal negative value(s) at index(es): ";
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final char VALUE_SEPARATOR = '\uFFFF';
+    private static final char NULL_SEPARATOR = '\uFFFE';
+    private static final char UID_SEPARATOR = '\uFDD0';
+    private static final char CLASS_SEPARATOR = '\uFDD1';
+    private static final ClassValue<Long> CLASS_HASHES = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return hash(FNV_OFFSET_BASIS, type.getName(), CLASS_SEPARATOR);
+        }
+    };
     private List<String> rowValues;
     private long rowNumber;
 
@@ -32,6 +44,49 @@ public abstract class ExchangeBean implements IImportableBean {
         this.rowNumber = rowNumber;
     }
 
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * Unique identifier of the row's transaction, known as soon as the row values are set (before the conversion).
+     * Exports identifying just the orders, whose partial fills share the identifier, must not return it.
+     * @return identifier of the transaction or null when the export does not contain any
+     */
+    public String getUid() {
+        return null;
+    }
+
+    /**
+     * Fingerprint of the row, equal for the same row of overlapping exports. It is computed from the uid when there is
+     * one, otherwise from the row content, see {@link #contentFingerprint()}. The row number is not part of it, the
+     * bean class is, so that equal values of different exports do not collide.
+     * @return 64-bit hash of the uid or of the row values, 0 when both are unknown
+     */
+    public long rowFingerprint() {
+        final String uid = getUid();
+        if (uid != null) {
+            return hash(CLASS_HASHES.get(getClass()), uid, UID_SEPARATOR);
+        }
+        return contentFingerprint();
+    }
+
+    /**
+     * Fingerprint of the row content and the bean class, it differs for rows of one transaction whose values changed.
+     * @return 64-bit hash of the row values or 0 when the values are unknown
+     */
+    public long contentFingerprint() {
+        if (rowValues == null) {
+            return 0;
+        }
+        // FNV-1a over the characters, the values are terminated by noncharacters which do not appear in the text
+        long hash = CLASS_HASHES.get(getClass());
+        for (String value : rowValues) {
+            hash = value == null ? (hash ^ NULL_SEPARATOR) * FNV_PRIME : hash(hash, value, VALUE_SEPARATOR);
+        }
+        return hash;
+    }
+
     public String rowToString() {
         return "line="
             .concat(String.valueOf(rowNumber))
@@ -45,8 +100,8 @@ public abstract class ExchangeBean implements IImportableBean {
 
     protected void validateCurrencyPair(Currency base, Currency quote) {
         try {
-            final CurrencyPair currencyPair = new CurrencyPair(base, quote);
-            if (!CurrencyPair.getTradeablePairs().contains(currencyPair)) {
+            final CurrencyPair currencyPair = CurrencyPair.of(base, quote);
+            if (!CurrencyPair.isTradeable(base, quote)) {
                 throw new DataValidationException(UNSUPPORTED_CURRENCY_PAIR.concat(currencyPair.toString()));
             }
         } catch (CurrencyPair.FiatCryptoCombinationException | DataValidationException e) {
@@ -99,12 +154,16 @@ public abstract class ExchangeBean implements IImportableBean {
         return type;
     }
 
-    private CurrencyPair findTradablePair(Currency baseCurrency, Currency quoteCurrency) {
-        try {
-            final CurrencyPair currencyPair = new CurrencyPair(baseCurrency, quoteCurrency);
-            return CurrencyPair.getTradeablePairs().contains(currencyPair) ? currencyPair : null;
-        } catch (CurrencyPair.FiatCryptoCombinationException e) {
-            return null;
+    private static long hash(long hash, String value, char terminator) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
         }
+        return (hash ^ terminator) * FNV_PRIME;
+    }
+
+    private CurrencyPair findTradablePair(Currency baseCurrency, Currency quoteCurrency) {
+        return CurrencyPair.isTradeable(baseCurrency, quoteCurrency)
+            ? CurrencyPair.of(baseCurrency, quoteCurrency)
+            : null;
     }
 }
@@ -0,0 +1,27 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+import io.everytrade.server.plugin.api.parser.ParsingProblem;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Beans and parsing problems of one parsed file, see {@link IExchangeSpecificParser#parse(java.io.File)}.
+ */
+public class ExchangeParseResult {
+    private final List<ExchangeBean> exchangeBeans;
+    private final List<ParsingProblem> parsingProblems;
+
+    public ExchangeParseResult(List<ExchangeBean> exchangeBeans, List<ParsingProblem> parsingProblems) {
+        Objects.requireNonNull(this.exchangeBeans = exchangeBeans);
+        Objects.requireNonNull(this.parsingProblems = parsingProblems);
+    }
+
+    public List<ExchangeBean> getExchangeBeans() {
+        return exchangeBeans;
+    }
+
+    public List<ParsingProblem> getParsingProblems() {
+        return parsingProblems;
+    }
+}
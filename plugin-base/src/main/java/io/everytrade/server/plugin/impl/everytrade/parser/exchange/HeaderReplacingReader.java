@@ -0,0 +1,61 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * Reads the replacement header followed by the delegate's characters from the end of its first line on, i.e. the
+ * original line separator and all the following lines. The input is read once and nothing is copied.
+ */
+public class HeaderReplacingReader extends Reader {
+    private final Reader delegate;
+    private final String header;
+    private int headerPosition;
+    private boolean originalHeaderSkipped;
+    private int pendingChar = -1;
+
+    public HeaderReplacingReader(Reader delegate, String header) {
+        Objects.requireNonNull(this.delegate = delegate);
+        Objects.requireNonNull(this.header = header);
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (headerPosition < header.length()) {
+            final int count = Math.min(length, header.length() - headerPosition);
+            header.getChars(headerPosition, headerPosition + count, buffer, offset);
+            headerPosition += count;
+            return count;
+        }
+        if (!originalHeaderSkipped) {
+            skipOriginalHeader();
+        }
+        if (pendingChar >= 0) {
+            buffer[offset] = (char) pendingChar;
+            pendingChar = -1;
+            return 1;
+        }
+        return delegate.read(buffer, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private void skipOriginalHeader() throws IOException {
+        originalHeaderSkipped = true;
+        int c;
+        while ((c = delegate.read()) >= 0) {
+            if (c == '\n' || c == '\r') {
+                pendingChar = c;
+                return;
+            }
+        }
+    }
+}
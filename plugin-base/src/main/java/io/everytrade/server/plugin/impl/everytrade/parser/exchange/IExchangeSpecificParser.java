@@ -1,10 +1,99 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
 
 import io.everytrade.server.plugin.api.parser.ParsingProblem;
+import io.everytrade.server.plugin.impl.everytrade.parser.exception.ParsingProcessException;
+import io.everytrade.server.plugin.utils.CsvFileEntries;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+
 public interface IExchangeSpecificParser {
-    List<? extends ExchangeBean> parse(File inputFile);
-    List<ParsingProblem> getParsingProblems();
+    /**
+     * Parses the whole file and collects all its beans and parsing problems.
+     */
+    default ExchangeParseResult parse(File inputFile) {
+        final List<ExchangeBean> exchangeBeans = new ArrayList<>();
+        final List<ParsingProblem> parsingProblems = new ArrayList<>();
+        parse(inputFile, exchangeBeans::add, parsingProblems::add);
+        return new ExchangeParseResult(exchangeBeans, parsingProblems);
+    }
+
+    /**
+     * Parses the file and hands over each bean and parsing problem as soon as the row is processed, see
+     * {@link #parse(FileChannel, Consumer, Consumer)}.
+     */
+    default void parse(
+        File inputFile,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer
+    ) {
+        try (FileChannel channel = FileChannel.open(inputFile.toPath(), StandardOpenOption.READ)) {
+            parse(channel, exchangeBeanConsumer, parsingProblemConsumer);
+        } catch (IOException e) {
+            throw new ParsingProcessException(String.format("Parsing error. %s", e.getMessage()));
+        }
+    }
+
+    /**
+     * Parses the file open as the channel and hands over each bean and parsing problem as soon as the row is
+     * processed. The channel is read from its start and is not closed. Implementations keep the state of the parsing
+     * in the call, so that one parser instance can parse several files concurrently.
+     */
+    void parse(
+        FileChannel channel,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer
+    );
+
+    /**
+     * Parses the content of the reader sequentially, e.g. a document decompressed while reading. The reader is closed
+     * when the parsing ends.
+     */
+    void parse(
+        Reader reader,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer
+    );
+
+    /**
+     * Parses the uncompressed content of the stream, see {@link #parse(Reader, Consumer, Consumer)}. The stream is
+     * closed when the parsing ends.
+     * @param charset charset of the content, UTF-8 when null
+     */
+    default void parse(
+        InputStream inputStream,
+        Charset charset,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer
+    ) {
+        final Reader reader;
+        try {
+            reader = CsvFileEntries.newReader(inputStream, charset);
+        } catch (IOException e) {
+            throw new ParsingProcessException(String.format("Parsing error. %s", e.getMessage()));
+        }
+        parse(reader, exchangeBeanConsumer, parsingProblemConsumer);
+    }
+
+    /**
+     * Parses the uncompressed content of the channel, see {@link #parse(InputStream, Charset, Consumer, Consumer)}.
+     */
+    default void parse(
+        ReadableByteChannel channel,
+        Charset charset,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer
+    ) {
+        parse(Channels.newInputStream(channel), charset, exchangeBeanConsumer, parsingProblemConsumer);
+    }
 }
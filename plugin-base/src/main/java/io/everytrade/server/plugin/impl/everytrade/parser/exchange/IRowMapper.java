@@ -0,0 +1,11 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+/**
+ * Creates a bean from the values of one parsed row.
+ */
+public interface IRowMapper<T> {
+    /**
+     * @throws com.univocity.parsers.common.DataProcessingException when a value cannot be converted or set
+     */
+    T map(String[] row);
+}
@@ -0,0 +1,189 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+import io.everytrade.server.plugin.utils.CsvFileEntries;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads an UTF-8 file (or its byte range) through a memory-mapped region, decoding the bytes directly into the caller's
+ * char buffer. A leading UTF-8 byte order mark is skipped. Malformed input is replaced the same way as by
+ * {@link java.io.FileReader}.
+ */
+public class MappedFileReader extends Reader {
+    /**
+     * Files smaller than this are read through a buffered stream, mapping them would not pay off.
+     */
+    public static final long MAPPING_THRESHOLD = 1024L * 1024;
+    private static final long MAX_REGION_SIZE = 64L * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    // a region has to be able to hold at least one character
+    private static final int MAX_UTF_8_CHAR_BYTES = 4;
+
+    private final FileChannel channel;
+    private final boolean ownsChannel;
+    private final long end;
+    private final long maxRegionSize;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private long regionStart;
+    private MappedByteBuffer region;
+
+    public MappedFileReader(File file) throws IOException {
+        this(file, 0, file.length());
+    }
+
+    /**
+     * @param start first byte of the range; the byte order mark is only looked for at the beginning of the file
+     * @param end   byte following the range
+     */
+    public MappedFileReader(File file, long start, long end) throws IOException {
+        this(file, start, end, MAX_REGION_SIZE);
+    }
+
+    /**
+     * Reads the byte range of the file open as the channel, the channel is not closed with the reader. Readers of one
+     * channel may read concurrently.
+     * @param start first byte of the range; the byte order mark is only looked for at the beginning of the file
+     * @param end   byte following the range
+     */
+    public MappedFileReader(FileChannel channel, long start, long end) throws IOException {
+        this(channel, false, start, end, MAX_REGION_SIZE);
+    }
+
+    MappedFileReader(File file, long start, long end, long maxRegionSize) throws IOException {
+        this(FileChannel.open(file.toPath(), StandardOpenOption.READ), true, start, end, maxRegionSize);
+    }
+
+    private MappedFileReader(FileChannel channel, boolean ownsChannel, long start, long end, long maxRegionSize)
+        throws IOException {
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.end = end;
+        this.maxRegionSize = maxRegionSize;
+        try {
+            if (start < 0 || end < start) {
+                throw new IllegalArgumentException(String.format("Illegal range <%d, %d).", start, end));
+            }
+            if (maxRegionSize < MAX_UTF_8_CHAR_BYTES) {
+                throw new IllegalArgumentException(String.format("Illegal region size %d.", maxRegionSize));
+            }
+            map(start);
+            if (start == 0 && startsWithBom()) {
+                region.position(UTF_8_BOM.length);
+            }
+        } catch (IOException | RuntimeException e) {
+            if (ownsChannel) {
+                channel.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the file as UTF-8 text without the byte order mark; large files are memory-mapped.
+     */
+    public static Reader open(File file) throws IOException {
+        if (file.length() >= MAPPING_THRESHOLD) {
+            return new MappedFileReader(file);
+        }
+        final InputStream inputStream = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+        try {
+            skipBom(inputStream);
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+        return new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Opens the file open as the channel as UTF-8 text from its start, see {@link #open(File)}. The channel is not
+     * closed with the reader.
+     */
+    public static Reader open(FileChannel channel) throws IOException {
+        final long size = channel.size();
+        if (size >= MAPPING_THRESHOLD) {
+            return new MappedFileReader(channel, 0, size);
+        }
+        final InputStream inputStream = new BufferedInputStream(CsvFileEntries.newInputStream(channel), BUFFER_SIZE);
+        skipBom(inputStream);
+        return new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (region == null) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        final CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (true) {
+            final boolean lastRegion = regionStart + region.limit() >= end;
+            final CoderResult result = decoder.decode(region, out, lastRegion);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (out.position() > off) {
+                return out.position() - off;
+            }
+            if (lastRegion) {
+                return -1;
+            }
+            // only an incomplete character remains at the end of the region
+            map(regionStart + region.position());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        if (ownsChannel) {
+            channel.close();
+        }
+    }
+
+    private void map(long position) throws IOException {
+        regionStart = position;
+        region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(maxRegionSize, end - position));
+    }
+
+    private boolean startsWithBom() {
+        if (region.remaining() < UTF_8_BOM.length) {
+            return false;
+        }
+        for (int i = 0; i < UTF_8_BOM.length; i++) {
+            if (region.get(i) != UTF_8_BOM[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void skipBom(InputStream inputStream) throws IOException {
+        inputStream.mark(UTF_8_BOM.length);
+        for (byte b : UTF_8_BOM) {
+            if (inputStream.read() != (b & 0xFF)) {
+                inputStream.reset();
+                return;
+            }
+        }
+    }
+}
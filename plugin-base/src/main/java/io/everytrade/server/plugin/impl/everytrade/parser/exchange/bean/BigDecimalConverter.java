@@ -0,0 +1,23 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
+
+import com.univocity.parsers.common.DataValidationException;
+import com.univocity.parsers.conversions.BigDecimalConversion;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
+
+import java.math.BigDecimal;
+
+/**
+ * Converts numbers which may contain characters ignored in numbers (',', '$' and white spaces), replaces
+ * {@code @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")} without running a regex for every value.
+ */
+public class BigDecimalConverter extends BigDecimalConversion {
+
+    @Override
+    protected BigDecimal fromString(String input) {
+        final BigDecimal result = TokenParser.amount(input);
+        if (result == null) {
+            throw new DataValidationException(String.format("Illegal number value '%s'.", input));
+        }
+        return result;
+    }
+}
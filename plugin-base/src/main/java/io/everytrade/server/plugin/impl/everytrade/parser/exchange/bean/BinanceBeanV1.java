@@ -1,9 +1,8 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
-import com.univocity.parsers.annotations.Format;
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
-import com.univocity.parsers.annotations.Replace;
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
 import io.everytrade.server.model.CurrencyPair;
@@ -12,24 +11,22 @@ import io.everytrade.server.plugin.api.parser.BuySellImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
+import io.everytrade.server.plugin.impl.everytrade.parser.MarketSymbolDecoder;
 import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Collections;
-import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static io.everytrade.server.model.CurrencyPair.getTradeablePairs;
-
 //MIN> BIN-001:|^Date\(.*\)$|Market|Type|Amount|Total|Fee|Fee Coin|
 //FULL> BIN-001:|^Date\(.*\)$|Market|Type|Price|Amount|Total|Fee|Fee Coin|
 @Headers(sequence = {"Market", "Type", "Amount", "Total", "Fee", "Fee Coin"}, extract = true)
 public class BinanceBeanV1 extends ExchangeBean {
-    private static Map<String, CurrencyPair> fastCurrencyPair = new HashMap<>();
+    private static final MarketSymbolDecoder SYMBOL_DECODER
+        = new MarketSymbolDecoder(MarketSymbolDecoder.currencyCodes(Map.of()), CurrencyPair::isTradeable);
     private Instant date;
     private Currency marketBase;
     private Currency marketQuote;
@@ -39,20 +36,19 @@ public class BinanceBeanV1 extends ExchangeBean {
     private BigDecimal fee;
     private Currency feeCoin;
 
-    static {
-        getTradeablePairs().forEach(t -> fastCurrencyPair.put(t.toString().replace("/", ""), t));
-    }
-
     //Date
     @Parsed(index = 0)
-    @Format(formats = {"yyyy-MM-dd HH:mm:ss"}, options = {"locale=EN", "timezone=UTC"})
-    public void setDate(Date value) {
-        date = value.toInstant();
+    @Convert(
+        conversionClass = LenientDateTimeConverter.class,
+        args = {"yyyy-MM-dd HH:mm:ss"}
+    )
+    public void setDate(Instant value) {
+        date = value;
     }
 
     @Parsed(field = "Market")
     public void setMarket(String value) {
-        final CurrencyPair currencyPair = fastCurrencyPair.get(value);
+        final CurrencyPair currencyPair = SYMBOL_DECODER.decode(value);
         if (currencyPair == null) {
             throw new DataValidationException(UNSUPPORTED_CURRENCY_PAIR.concat(value));
         }
@@ -66,30 +62,26 @@ public class BinanceBeanV1 extends ExchangeBean {
     }
 
     @Parsed(field = "Amount")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setAmount(BigDecimal value) {
         amount = value;
     }
 
     @Parsed(field = "Total")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setTotal(BigDecimal value) {
         total = value;
     }
 
     @Parsed(field = "Fee")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setFee(BigDecimal value) {
         fee = value;
     }
 
     @Parsed(field = "Fee Coin")
     public void setFeeCurrency(String value) {
-        try {
-            feeCoin = Currency.fromCode(value);
-        } catch (IllegalArgumentException e) {
-            feeCoin = null;
-        }
+        feeCoin = Currency.tryFromCode(value);
     }
 
     @Override
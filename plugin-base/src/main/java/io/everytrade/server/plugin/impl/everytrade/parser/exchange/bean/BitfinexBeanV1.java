@@ -1,8 +1,8 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
-import com.univocity.parsers.annotations.Replace;
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
 import io.everytrade.server.model.TransactionType;
@@ -11,6 +11,7 @@ import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
 import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
@@ -40,13 +41,12 @@ public class BitfinexBeanV1 extends ExchangeBean {
 
     @Parsed(field = "PAIR")
     public void setPair(String value) {
-        final String[] values = value.split("/");
-        pairBase = Currency.fromCode(values[0]);
-        pairQuote = Currency.fromCode(values[1]);
+        pairBase = TokenParser.currencyToken(value, '/', 0);
+        pairQuote = TokenParser.currencyToken(value, '/', 1);
     }
 
     @Parsed(field = "AMOUNT")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setAmount(BigDecimal value) {
         if (value.compareTo(BigDecimal.ZERO) == 0) {
             throw new DataValidationException(ILLEGAL_ZERO_VALUE_OF_AMOUNT);
@@ -55,24 +55,20 @@ public class BitfinexBeanV1 extends ExchangeBean {
     }
 
     @Parsed(field = "PRICE")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setPrice(BigDecimal value) {
         price = value;
     }
 
     @Parsed(field = "FEE")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setFee(BigDecimal value) {
         fee = value;
     }
 
     @Parsed(field = "FEE CURRENCY")
     public void setFeeCurrency(String value) {
-        try {
-            feeCurrency = Currency.fromCode(value);
-        } catch (IllegalArgumentException e) {
-            feeCurrency = null;
-        }
+        feeCurrency = Currency.tryFromCode(value);
     }
 
     @Parsed(field = "DATE")
@@ -88,6 +84,11 @@ public class BitfinexBeanV1 extends ExchangeBean {
         this.dateConverted = dateConverted;
     }
 
+    @Override
+    public String getUid() {
+        return uid;
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         validateCurrencyPair(pairBase, pairQuote);
@@ -11,6 +11,7 @@ import io.everytrade.server.plugin.api.parser.BuySellImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
+import io.everytrade.server.plugin.impl.everytrade.parser.MarketSymbolDecoder;
 import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
 import io.everytrade.server.plugin.impl.everytrade.parser.exception.DataIgnoredException;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
@@ -20,12 +21,8 @@ import java.math.MathContext;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-
-import static io.everytrade.server.model.CurrencyPair.getTradeablePairs;
 
 @Headers(sequence = {"transactTime", "symbol", "execType", "side", "lastQty", "lastPx", "execComm", "orderID"},
     extract = true)
@@ -41,13 +38,9 @@ public class BitmexBeanV1 extends ExchangeBean {
 
 
     private static final BigDecimal SATOSHIS_BY_BTC = BigDecimal.valueOf(100_000_000L);
-    private static final Map<String, Currency> CURRENCIES = new HashMap<>() {};
-    private static final Map<String, CurrencyPair> TRADABLE_CURRENCY_PAIRS = new HashMap<>();
-
-    static {
-        CURRENCIES.put("XBT", Currency.BTC);
-        getTradeablePairs().forEach(t -> TRADABLE_CURRENCY_PAIRS.put(t.toString().replace("/", ""), t));
-    }
+    private static final MarketSymbolDecoder SYMBOL_DECODER = new MarketSymbolDecoder(
+        MarketSymbolDecoder.currencyCodes(Map.of("XBT", Currency.BTC)), CurrencyPair::isTradeable
+    );
 
     @Parsed(field = "transactTime")
     @Format(formats = {"MM/dd/yyyy, hh:mm:ss a"}, options = {"locale=US", "timezone=UTC"})
@@ -57,14 +50,7 @@ public class BitmexBeanV1 extends ExchangeBean {
 
     @Parsed(field = "symbol")
     public void setSymbol(String value) {
-        String mappedPair;
-        String replaceBase = findStarts(value);
-        if (replaceBase != null) {
-            mappedPair = value.replaceFirst(replaceBase, CURRENCIES.get(replaceBase).code());
-        } else {
-            mappedPair = value;
-        }
-        final CurrencyPair tradablePair = TRADABLE_CURRENCY_PAIRS.get(mappedPair);
+        final CurrencyPair tradablePair = SYMBOL_DECODER.decode(value);
         if (tradablePair == null) {
             throw new DataValidationException(String.format("Can not parse pair symbol %s.", value));
         }
@@ -144,22 +130,4 @@ public class BitmexBeanV1 extends ExchangeBean {
             related
         );
     }
-
-    private String findStarts(String value) {
-        List<String> matchedCurrencies = CURRENCIES
-            .keySet()
-            .stream()
-            .filter(value::startsWith)
-            .collect(Collectors.toList());
-        switch (matchedCurrencies.size()) {
-            case 0:
-                return null;
-            case 1:
-                return matchedCurrencies.get(0);
-            default:
-                throw new IllegalStateException(
-                    String.format("Found more (%d) than one base currencies.", matchedCurrencies.size())
-                );
-        }
-    }
 }
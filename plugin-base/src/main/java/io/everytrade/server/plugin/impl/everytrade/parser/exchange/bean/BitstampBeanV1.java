@@ -11,6 +11,7 @@ import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
 import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
@@ -40,13 +41,11 @@ public class BitstampBeanV1 extends ExchangeBean {
 
     @Parsed(field = "Amount")
     public void setAmount(String amount) {
-        String[] amountParts = amount.split(" ");
-        String mBase = amountParts[1];
-        amountCurrency = Currency.fromCode(mBase);
-        if (amountParts[0].isEmpty()) {
+        amountCurrency = TokenParser.currencyToken(amount, ' ', 1);
+        BigDecimal quantity = TokenParser.amountToken(amount, ' ', 0);
+        if (quantity == null) {
             throw new DataValidationException("BaseQuantity can not be null or empty.");
         }
-        BigDecimal quantity = new BigDecimal(amountParts[0]);
         if (quantity.compareTo(BigDecimal.ZERO) == 0) {
             throw new DataValidationException("BaseQuantity can not be zero.");
         }
@@ -55,29 +54,21 @@ public class BitstampBeanV1 extends ExchangeBean {
 
     @Parsed(field = "Value")
     public void setValue(String value) {
-        String[] valueParts = value.split(" ");
-        valueCurrency = Currency.fromCode(valueParts[1]);
-        if (valueParts[0].isEmpty()) {
-            this.value = BigDecimal.ZERO;
-        } else {
-            this.value = new BigDecimal(valueParts[0]);
-        }
+        valueCurrency = TokenParser.currencyToken(value, ' ', 1);
+        final BigDecimal amount = TokenParser.amountToken(value, ' ', 0);
+        this.value = amount == null ? BigDecimal.ZERO : amount;
     }
 
     @Parsed(field = "Rate")
     public void setRate(String rate) {
-        rateCurrency = Currency.fromCode(rate.split(" ")[1]);
+        rateCurrency = TokenParser.currencyToken(rate, ' ', 1);
     }
 
     @Parsed(field = "Fee")
     public void setFee(String fee) {
-        String[] feeParts = fee.split(" ");
-        if (feeParts[0].isEmpty()) {
-            this.fee = BigDecimal.ZERO;
-        } else {
-            this.fee = new BigDecimal(feeParts[0]);
-        }
-        feeCurrency = Currency.fromCode(feeParts[1]);
+        final BigDecimal amount = TokenParser.amountToken(fee, ' ', 0);
+        this.fee = amount == null ? BigDecimal.ZERO : amount;
+        feeCurrency = TokenParser.currencyToken(fee, ' ', 1);
     }
 
     @Parsed(field = "Sub Type")
@@ -11,6 +11,7 @@ import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
 import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exception.DataIgnoredException;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
@@ -40,11 +41,8 @@ public class BittrexBeanV1 extends ExchangeBean {
 
     @Parsed(field = "Exchange")
     public void setExchange(String exchange) {
-        String[] exchangeParts = exchange.split("-");
-        String mQuote = exchangeParts[0];
-        String mBase = exchangeParts[1];
-        exchangeQuote = Currency.fromCode(mQuote);
-        exchangeBase = Currency.fromCode(mBase);
+        exchangeQuote = TokenParser.currencyToken(exchange, '-', 0);
+        exchangeBase = TokenParser.currencyToken(exchange, '-', 1);
     }
 
     @Parsed(field = "Type")
@@ -83,6 +81,11 @@ public class BittrexBeanV1 extends ExchangeBean {
     }
 
 
+    @Override
+    public String getUid() {
+        return orderUuid;
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         validateCurrencyPair(exchangeBase, exchangeQuote);
@@ -11,6 +11,7 @@ import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
 import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exception.DataIgnoredException;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
@@ -39,11 +40,8 @@ public class BittrexBeanV3 extends ExchangeBean {
 
     @Parsed(field = "Exchange")
     public void setEchange(String exchange) {
-        String[] exchangeParts = exchange.split("-");
-        String mQuote = exchangeParts[0];
-        String mBase = exchangeParts[1];
-        exchangeQuote = Currency.fromCode(mQuote);
-        exchangeBase = Currency.fromCode(mBase);
+        exchangeQuote = TokenParser.currencyToken(exchange, '-', 0);
+        exchangeBase = TokenParser.currencyToken(exchange, '-', 1);
     }
 
     @Parsed(field = "OrderType")
@@ -81,6 +79,11 @@ public class BittrexBeanV3 extends ExchangeBean {
         this.closed = closed.toInstant();
     }
 
+    @Override
+    public String getUid() {
+        return uuid;
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         validateCurrencyPair(exchangeBase, exchangeQuote);
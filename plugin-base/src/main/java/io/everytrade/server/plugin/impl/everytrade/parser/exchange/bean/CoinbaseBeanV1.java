@@ -1,8 +1,8 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
-import com.univocity.parsers.annotations.Replace;
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
 import io.everytrade.server.model.TransactionType;
@@ -11,6 +11,7 @@ import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
 import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
+import io.everytrade.server.plugin.impl.everytrade.parser.TimestampParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
@@ -36,7 +37,7 @@ public class CoinbaseBeanV1 extends ExchangeBean {
 
     @Parsed(field = "Timestamp")
     public void setTimeStamp(String value) {
-        timeStamp = Instant.parse(value);
+        timeStamp = TimestampParser.ISO_OFFSET_DATE_TIME.parse(value);
     }
 
     @Parsed(field = "Transaction Type")
@@ -50,19 +51,19 @@ public class CoinbaseBeanV1 extends ExchangeBean {
     }
 
     @Parsed(field = "Quantity Transacted")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setQuantityTransacted(BigDecimal value) {
         quantityTransacted = value;
     }
 
     @Parsed(field = "Subtotal")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setSubtotal(BigDecimal value) {
         subtotal = value;
     }
 
     @Parsed(field = "Fees")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setFees(BigDecimal value) {
         fees = value;
     }
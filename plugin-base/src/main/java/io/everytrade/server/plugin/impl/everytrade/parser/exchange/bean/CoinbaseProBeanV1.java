@@ -1,8 +1,8 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
-import com.univocity.parsers.annotations.Replace;
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
 import io.everytrade.server.model.TransactionType;
@@ -11,6 +11,8 @@ import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
 import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
+import io.everytrade.server.plugin.impl.everytrade.parser.TimestampParser;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
@@ -50,9 +52,8 @@ public class CoinbaseProBeanV1 extends ExchangeBean {
 
     @Parsed(field = "product")
     public void setProduct(String value) {
-        final String[] split = value.split("-");
-        productBase = Currency.fromCode(split[0]);
-        productQuote = Currency.fromCode(split[1]);
+        productBase = TokenParser.currencyToken(value, '-', 0);
+        productQuote = TokenParser.currencyToken(value, '-', 1);
     }
 
     @Parsed(field = "side")
@@ -62,11 +63,11 @@ public class CoinbaseProBeanV1 extends ExchangeBean {
 
     @Parsed(field = "created at")
     public void setCreatedAt(String value) {
-        createdAt = Instant.parse(value);
+        createdAt = TimestampParser.ISO_OFFSET_DATE_TIME.parse(value);
     }
 
     @Parsed(field = "size")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setSize(BigDecimal value) {
         size = value;
     }
@@ -77,13 +78,13 @@ public class CoinbaseProBeanV1 extends ExchangeBean {
     }
 
     @Parsed(field = "price")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setPrice(BigDecimal value) {
         price = value;
     }
 
     @Parsed(field = "fee")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setFee(BigDecimal value) {
         fee = value;
     }
@@ -93,6 +94,11 @@ public class CoinbaseProBeanV1 extends ExchangeBean {
         setPriceFeeTotalUnit = Currency.fromCode(value);
     }
 
+    @Override
+    public String getUid() {
+        return tradeId;
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         if (!sizeUnit.equals(productBase)) {
@@ -1,6 +1,6 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
-import com.univocity.parsers.annotations.Format;
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
 import io.everytrade.server.model.Currency;
@@ -17,7 +17,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 @Headers(sequence = {
@@ -41,9 +40,12 @@ public class CoinmateBeanV2 extends ExchangeBean {
     }
 
     @Parsed(field = "Date")
-    @Format(formats = {"yyyy-MM-dd HH:mm:ss", "dd.MM.yyyy HH:mm"}, options = {"locale=US", "timezone=UTC"})
-    public void setDate(Date date) {
-        this.date = date.toInstant();
+    @Convert(
+        conversionClass = LenientDateTimeConverter.class,
+        args = {"yyyy-MM-dd HH:mm:ss", "dd.MM.yyyy HH:mm"}
+    )
+    public void setDate(Instant date) {
+        this.date = date;
     }
 
     @Parsed(field = "Type detail")
@@ -94,6 +96,11 @@ public class CoinmateBeanV2 extends ExchangeBean {
         }
     }
 
+    @Override
+    public String getUid() {
+        return transactionId;
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         validateCurrencyPair(currencyAmount, currencyPrice);
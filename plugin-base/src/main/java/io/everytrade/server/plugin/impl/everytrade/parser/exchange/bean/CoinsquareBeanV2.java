@@ -1,9 +1,9 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Format;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
-import com.univocity.parsers.annotations.Replace;
 import io.everytrade.server.model.Currency;
 import io.everytrade.server.model.TransactionType;
 import io.everytrade.server.plugin.api.parser.BuySellImportedTransactionBean;
@@ -35,7 +35,7 @@ public class CoinsquareBeanV2 extends ExchangeBean {
     }
 
     @Parsed(field = "from_amount")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setFromAmount(BigDecimal value)  {
         fromAmount = value;
     }
@@ -46,7 +46,7 @@ public class CoinsquareBeanV2 extends ExchangeBean {
     }
 
     @Parsed(field = "to_amount")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setToAmount(BigDecimal value)  {
         toAmount = value;
     }
@@ -2,6 +2,7 @@ package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
 import com.univocity.parsers.common.DataValidationException;
 import com.univocity.parsers.conversions.Conversion;
+import io.everytrade.server.plugin.impl.everytrade.parser.TimestampParser;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -15,52 +16,127 @@ import java.util.Locale;
 import java.util.Objects;
 
 public class DateTimeConverterWithSecondsFraction implements Conversion<String, Instant> {
+    private static final int MAX_FRACTION_DIGITS = 4;
+    private static final String NO_EXACT_MATCH_MESSAGE
+        = "Exactly one datetime pattern has to match for value '%s'. Found %d patterns.";
+    // pattern letters whose parsed text consists of letters and digits only
+    private static final String PLAIN_PATTERN_LETTERS = "yMdEaHhKkmsS";
 
     private final List<DateTimeFormatter> dateTimeFormatters = new ArrayList<>();
+    private final List<TimestampParser> timestampParsers = new ArrayList<>();
+    // separators (characters other than letters and digits) of the patterns, null when they can't be determined
+    private final List<String> patternSeparators = new ArrayList<>();
+    private final List<Boolean> fractionAllowed = new ArrayList<>();
+    // index of the pattern which matched the last value; a plain hint, so races between threads do no harm
+    private volatile int pinnedIndex;
 
     public DateTimeConverterWithSecondsFraction(String... patterns) {
         Objects.requireNonNull(patterns);
         for (String pattern : patterns) {
+            final DateTimeFormatter dateTimeFormatter;
+            final int maxFractionDigits;
             if (pattern.endsWith("s")) {
-                dateTimeFormatters.add(
-                    new DateTimeFormatterBuilder()
-                        .append(DateTimeFormatter.ofPattern(pattern))
-                        .appendFraction(ChronoField.NANO_OF_SECOND, 0, 4, true)
-                        .toFormatter(Locale.US)
-                );
+                dateTimeFormatter = new DateTimeFormatterBuilder()
+                    .append(DateTimeFormatter.ofPattern(pattern))
+                    .appendFraction(ChronoField.NANO_OF_SECOND, 0, MAX_FRACTION_DIGITS, true)
+                    .toFormatter(Locale.US);
+                maxFractionDigits = MAX_FRACTION_DIGITS;
             } else {
-                dateTimeFormatters.add(
-                    new DateTimeFormatterBuilder()
-                        .append(DateTimeFormatter.ofPattern(pattern))
-                        .toFormatter(Locale.US)
-                );
+                dateTimeFormatter = new DateTimeFormatterBuilder()
+                    .append(DateTimeFormatter.ofPattern(pattern))
+                    .toFormatter(Locale.US);
+                maxFractionDigits = 0;
             }
+            dateTimeFormatters.add(dateTimeFormatter);
+            timestampParsers.add(new TimestampParser(pattern, dateTimeFormatter, maxFractionDigits));
+            patternSeparators.add(findSeparators(pattern));
+            fractionAllowed.add(maxFractionDigits > 0);
         }
 
     }
 
+    /**
+     * The pattern which matched the previous value is tried first, the others only have to reject the value. Most
+     * values are rejected by comparing their separators with the pattern's ones, the rest by a parse without
+     * exceptions. Ambiguous values (matched by several patterns) are still refused.
+     */
     @Override
     public Instant execute(String input) {
-        Instant result = null;
-        int errorCounter = 0;
-        for (DateTimeFormatter dateTimeFormatter : dateTimeFormatters) {
-            try {
-                LocalDateTime localDateTime = LocalDateTime.parse(input, dateTimeFormatter);
-                result = localDateTime.toInstant(ZoneOffset.UTC);
-            } catch (Exception e) {
-                errorCounter++;
+        if (input == null || timestampParsers.isEmpty()) {
+            throw new DataValidationException(String.format(NO_EXACT_MATCH_MESSAGE, input, 0));
+        }
+        final int pinnedIndex = this.pinnedIndex;
+        Instant result = timestampParsers.get(pinnedIndex).tryParse(input);
+        int matchIndex = result == null ? -1 : pinnedIndex;
+        int matchCount = result == null ? 0 : 1;
+        for (int i = 0; i < timestampParsers.size(); i++) {
+            if (i == pinnedIndex || !haveSameSeparators(i, input)) {
+                continue;
+            }
+            final Instant instant = timestampParsers.get(i).tryParse(input);
+            if (instant != null) {
+                if (matchCount == 0) {
+                    result = instant;
+                    matchIndex = i;
+                }
+                matchCount++;
             }
         }
-        if (errorCounter + 1 != dateTimeFormatters.size()) {
-            throw new DataValidationException(String.format(
-                "Exactly one datetime pattern has to match for value '%s'. Found %d patterns.",
-                input,
-                dateTimeFormatters.size() - errorCounter
-            ));
+        if (matchCount != 1) {
+            throw new DataValidationException(String.format(NO_EXACT_MATCH_MESSAGE, input, matchCount));
         }
+        this.pinnedIndex = matchIndex;
         return result;
     }
 
+    /**
+     * Cheap pre-check of a value against a pattern. False means the pattern cannot match the value, true means it may.
+     */
+    private boolean haveSameSeparators(int patternIndex, String input) {
+        final String separators = patternSeparators.get(patternIndex);
+        if (separators == null) {
+            return true;
+        }
+        boolean fraction = false;
+        int matched = 0;
+        for (int i = 0; i < input.length(); i++) {
+            final char c = input.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                continue;
+            }
+            if (c == '+') {
+                // sign of a year exceeding its pattern width
+                return true;
+            }
+            if (matched < separators.length() && separators.charAt(matched) == c) {
+                matched++;
+            } else if (c == '.' && matched == separators.length() && !fraction && fractionAllowed.get(patternIndex)) {
+                fraction = true;
+            } else {
+                return false;
+            }
+        }
+        return matched == separators.length();
+    }
+
+    private static String findSeparators(String pattern) {
+        final StringBuilder separators = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (Character.isLetter(c)) {
+                if (PLAIN_PATTERN_LETTERS.indexOf(c) < 0) {
+                    return null;
+                }
+            } else if ("'[]{}#".indexOf(c) >= 0) {
+                // quoted literals, optional sections and reserved characters
+                return null;
+            } else if (!Character.isDigit(c)) {
+                separators.append(c);
+            }
+        }
+        return separators.toString();
+    }
+
     @Override
     public String revert(Instant input) {
         LocalDateTime localDateTime = LocalDateTime.ofInstant(input, ZoneOffset.UTC);
@@ -76,7 +152,7 @@ public class DateTimeConverterWithSecondsFraction implements Conversion<String,
         }
         if (errorCounter + 1 != dateTimeFormatters.size()) {
             throw new DataValidationException(String.format(
-                "Exactly one datetime pattern has to match for value '%s'. Found %d patterns.",
+                NO_EXACT_MATCH_MESSAGE,
                 input,
                 dateTimeFormatters.size() - errorCounter
             ));
@@ -1,9 +1,40 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 public class DateTimeFormatFinder {
+    private static final int MAX_CACHED_SHAPES = 16;
+
+    // sample values of the cached shapes and their formatters, the most recently found shape first
+    private final List<String> shapeSamples = new ArrayList<>();
+    private final List<DateTimeFormatter> formatters = new ArrayList<>();
+
+    /**
+     * Finds the UTC formatter for the date time. The format depends only on the shape of the value (digits are not
+     * distinguished), so the formatters are cached by the shape and the format inference runs just once per shape.
+     * The cache belongs to this instance and isn't thread safe, use one finder per parsed file.
+     */
+    public DateTimeFormatter findFormatter(String dateTime) {
+        for (int i = 0; i < shapeSamples.size(); i++) {
+            if (isSameShape(shapeSamples.get(i), dateTime)) {
+                return formatters.get(i);
+            }
+        }
+        final DateTimeFormatter formatter = DateTimeFormatter
+            .ofPattern(findFormatPattern(dateTime), Locale.US)
+            .withZone(ZoneOffset.UTC);
+        if (shapeSamples.size() == MAX_CACHED_SHAPES) {
+            shapeSamples.remove(MAX_CACHED_SHAPES - 1);
+            formatters.remove(MAX_CACHED_SHAPES - 1);
+        }
+        shapeSamples.add(0, dateTime);
+        formatters.add(0, formatter);
+        return formatter;
+    }
 
     public String findFormatPattern(String dateTime) {
         final List<String> splitT = split(dateTime, "T", false);
@@ -152,6 +183,24 @@ public class DateTimeFormatFinder {
         return null;
     }
 
+    private static boolean isSameShape(String sample, String dateTime) {
+        if (sample.length() != dateTime.length()) {
+            return false;
+        }
+        for (int i = 0; i < sample.length(); i++) {
+            final char a = sample.charAt(i);
+            final char b = dateTime.charAt(i);
+            if (a != b && !(isDigit(a) && isDigit(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     private List<String> split(String input, String separator, boolean includeEmpty) {
         List<String> parts = new ArrayList<>();
         int startIndex = 0;
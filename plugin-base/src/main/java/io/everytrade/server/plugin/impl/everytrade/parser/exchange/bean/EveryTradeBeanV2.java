@@ -8,6 +8,7 @@ import io.everytrade.server.model.TransactionType;
 import io.everytrade.server.plugin.api.parser.BuySellImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
@@ -39,9 +40,8 @@ public class EveryTradeBeanV2 extends ExchangeBean {
 
     @Parsed(field = "SYMBOL")
     public void setSymbol(String symbol) {
-        String[] symbolParts = symbol.split("/");
-        symbolBase = Currency.fromCode(symbolParts[0]);
-        symbolQuote = Currency.fromCode(symbolParts[1]);
+        symbolBase = TokenParser.currencyToken(symbol, '/', 0);
+        symbolQuote = TokenParser.currencyToken(symbol, '/', 1);
     }
 
     @Parsed(field = "ACTION")
@@ -64,6 +64,11 @@ public class EveryTradeBeanV2 extends ExchangeBean {
         this.fee = fee;
     }
 
+    @Override
+    public String getUid() {
+        return uid;
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         validateCurrencyPair(symbolBase, symbolQuote);
@@ -1,19 +1,19 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
+import io.everytrade.server.model.CurrencyAliases;
 import io.everytrade.server.model.TransactionType;
 import io.everytrade.server.plugin.api.parser.BuySellImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
-import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
 import io.everytrade.server.plugin.impl.everytrade.parser.exception.DataIgnoredException;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.time.format.DateTimeParseException;
 import java.util.List;
 @Headers(sequence = {"Server Time","Local Transaction Id","Remote Transaction Id","Type","Cash Amount","Cash Currency",
     "Crypto Amount","Crypto Currency","Status"}, extract = true)
@@ -28,13 +28,9 @@ public class GeneralBytesBeanV1 extends ExchangeBean {
     private Currency cryptoCurrency;
 
     @Parsed(field = "Server Time")
-    public void setDate(String value) {
-        final String formatPattern = new DateTimeFormatFinder().findFormatPattern(value);
-        try {
-            serverTime = ParserUtils.parse(formatPattern, value);
-        } catch (IllegalArgumentException | NullPointerException | DateTimeParseException e) {
-            throw new DataValidationException(String.format("Unknown dateTime format for value %s.", value));
-        }
+    @Convert(conversionClass = InferredDateTimeConverter.class)
+    public void setDate(Instant value) {
+        serverTime = value;
     }
 
     @Parsed(field = "Local Transaction Id")
@@ -78,11 +74,7 @@ public class GeneralBytesBeanV1 extends ExchangeBean {
 
     @Parsed(field = "Crypto Currency")
     public void setCryptoCurrency(String cryptoCurrency) {
-        if ("LBTC".equalsIgnoreCase(cryptoCurrency)) { //BTC Lightening
-            this.cryptoCurrency = Currency.BTC;
-        } else {
-            this.cryptoCurrency = Currency.fromCode(cryptoCurrency);
-        }
+        this.cryptoCurrency = CurrencyAliases.DEFAULT.resolve(cryptoCurrency);
     }
 
     @Parsed(field = "Status")
@@ -97,6 +89,14 @@ public class GeneralBytesBeanV1 extends ExchangeBean {
         }
     }
 
+    @Override
+    public String getUid() {
+        if (localTransactionId == null || remoteTransactionId == null) {
+            return null;
+        }
+        return localTransactionId.concat("-").concat(remoteTransactionId);
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         validateCurrencyPair(cryptoCurrency, cashCurrency);
@@ -1,9 +1,11 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
+import io.everytrade.server.model.CurrencyAliases;
 import io.everytrade.server.model.TransactionType;
 import io.everytrade.server.plugin.api.parser.BuySellImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
@@ -16,7 +18,6 @@ import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
-import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
 
@@ -35,13 +36,9 @@ public class GeneralBytesBeanV2 extends ExchangeBean {
     private Currency expenseCurrency;
 
     @Parsed(field = "Server Time")
-    public void setDate(String value) {
-        final String formatPattern = new DateTimeFormatFinder().findFormatPattern(value);
-        try {
-            serverTime = ParserUtils.parse(formatPattern, value);
-        } catch (IllegalArgumentException | NullPointerException | DateTimeParseException e) {
-            throw new DataValidationException(String.format("Unknown dateTime format for value %s.", value));
-        }
+    @Convert(conversionClass = InferredDateTimeConverter.class)
+    public void setDate(Instant value) {
+        serverTime = value;
     }
 
     @Parsed(field = "Local Transaction Id")
@@ -85,11 +82,7 @@ public class GeneralBytesBeanV2 extends ExchangeBean {
 
     @Parsed(field = "Crypto Currency")
     public void setCryptoCurrency(String cryptoCurrency) {
-        if ("LBTC".equalsIgnoreCase(cryptoCurrency)) { //BTC Lightening
-            this.cryptoCurrency = Currency.BTC;
-        } else {
-            this.cryptoCurrency = Currency.fromCode(cryptoCurrency);
-        }
+        this.cryptoCurrency = CurrencyAliases.DEFAULT.resolve(cryptoCurrency);
     }
 
     @Parsed(field = "Status")
@@ -114,6 +107,14 @@ public class GeneralBytesBeanV2 extends ExchangeBean {
         expenseCurrency = Currency.fromCode(value);
     }
 
+    @Override
+    public String getUid() {
+        if (localTransactionId == null || remoteTransactionId == null) {
+            return null;
+        }
+        return localTransactionId.concat("-").concat(remoteTransactionId);
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         validateCurrencyPair(cryptoCurrency, cashCurrency);
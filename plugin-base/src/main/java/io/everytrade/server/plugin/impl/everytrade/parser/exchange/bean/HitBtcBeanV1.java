@@ -1,6 +1,6 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
-import com.univocity.parsers.annotations.Format;
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
 import io.everytrade.server.model.Currency;
@@ -10,12 +10,12 @@ import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
 import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 @Headers(sequence = {"Instrument", "Trade ID", "Side", "Quantity", "Price", "Fee", "Rebate"}, extract = true)
@@ -32,16 +32,18 @@ public class HitBtcBeanV1 extends ExchangeBean {
 
     //Date
     @Parsed(index = 0)
-    @Format(formats = {"yyyy-MM-dd HH:mm:ss", "dd.MM.yyyy HH:mm"}, options = {"locale=EN", "timezone=UTC"})
-    public void setDate(Date date) {
-        this.date = date.toInstant();
+    @Convert(
+        conversionClass = LenientDateTimeConverter.class,
+        args = {"yyyy-MM-dd HH:mm:ss", "dd.MM.yyyy HH:mm"}
+    )
+    public void setDate(Instant date) {
+        this.date = date;
     }
 
     @Parsed(field = "Instrument")
     public void setInstrument(String instrument) {
-        String[] instrumentParts = instrument.split("/");
-        instrumentBase = Currency.fromCode(instrumentParts[0]);
-        instrumentQuote = Currency.fromCode(instrumentParts[1]);
+        instrumentBase = TokenParser.currencyToken(instrument, '/', 0);
+        instrumentQuote = TokenParser.currencyToken(instrument, '/', 1);
     }
 
     @Parsed(field = "Trade ID")
@@ -74,6 +76,11 @@ public class HitBtcBeanV1 extends ExchangeBean {
         this.rebate = rebate;
     }
 
+    @Override
+    public String getUid() {
+        return tradeId;
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         validateCurrencyPair(instrumentBase, instrumentQuote);
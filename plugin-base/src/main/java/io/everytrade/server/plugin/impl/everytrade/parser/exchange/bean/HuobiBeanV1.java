@@ -1,9 +1,8 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
-import com.univocity.parsers.annotations.Format;
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
-import com.univocity.parsers.annotations.Replace;
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
 import io.everytrade.server.model.TransactionType;
@@ -11,15 +10,13 @@ import io.everytrade.server.plugin.api.parser.BuySellImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Headers(sequence = {"Time","Type","Pair","Side","Amount","Total","Fee"}, extract = true)
 public class HuobiBeanV1 extends ExchangeBean {
@@ -34,9 +31,12 @@ public class HuobiBeanV1 extends ExchangeBean {
     private Currency feeCurrency;
 
     @Parsed(field = "Time")
-    @Format(formats = {"yyyy-MM-dd HH:mm:ss"}, options = {"locale=EN", "timezone=UTC"})
-    public void setTime(Date value) {
-        time = value.toInstant();
+    @Convert(
+        conversionClass = LenientDateTimeConverter.class,
+        args = {"yyyy-MM-dd HH:mm:ss"}
+    )
+    public void setTime(Instant value) {
+        time = value;
     }
 
     @Parsed(field = "Type")
@@ -48,9 +48,8 @@ public class HuobiBeanV1 extends ExchangeBean {
 
     @Parsed(field = "Pair")
     public void setPair(String value) {
-        final String[] values = value.split("/");
-        pairBase = Currency.fromCode(values[0]);
-        pairQuote = Currency.fromCode(values[1]);
+        pairBase = TokenParser.currencyToken(value, '/', 0);
+        pairQuote = TokenParser.currencyToken(value, '/', 1);
     }
 
     @Parsed(field = "Side")
@@ -59,23 +58,22 @@ public class HuobiBeanV1 extends ExchangeBean {
     }
 
     @Parsed(field = "Amount")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setAmount(BigDecimal value) {
         amount = value;
     }
 
     @Parsed(field = "Total")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setTotal(BigDecimal value) {
         total = value;
     }
 
     @Parsed(field = "Fee")
     public void setFee(String value) {
-        feeCurrency = findEnds(value);
+        feeCurrency = TokenParser.currencySuffix(value);
         if (feeCurrency != null) {
-            final String feeValue = value.replaceAll("[A-Z,\\s$]", "");
-            fee = new BigDecimal(feeValue);
+            fee = TokenParser.amount(value, 0, value.length() - feeCurrency.code().length());
         }
     }
 
@@ -123,15 +121,4 @@ public class HuobiBeanV1 extends ExchangeBean {
             isIncorrectFeeCoin ? 1 : 0
         );
     }
-
-    private Currency findEnds(String value) {
-        List<Currency> matchedCurrencies = Arrays
-            .stream(Currency.values())
-            .filter(currency -> value.endsWith(currency.code()))
-            .collect(Collectors.toList());
-        if (matchedCurrencies.size() == 1) {
-            return matchedCurrencies.get(0);
-        }
-        return null;
-    }
 }
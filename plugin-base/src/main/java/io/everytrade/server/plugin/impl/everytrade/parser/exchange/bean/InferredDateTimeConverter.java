@@ -0,0 +1,43 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
+
+import com.univocity.parsers.common.DataValidationException;
+import com.univocity.parsers.conversions.Conversion;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Converts date times of a format inferred from the value itself. Univocity creates the conversion for every parse,
+ * so the inferred formats are cached per parsed file.
+ */
+public class InferredDateTimeConverter implements Conversion<String, Instant> {
+    private final DateTimeFormatFinder dateTimeFormatFinder = new DateTimeFormatFinder();
+    private DateTimeFormatter lastFormatter;
+
+    @Override
+    public Instant execute(String input) {
+        if (input == null) {
+            throw new DataValidationException("Date time value is missing.");
+        }
+        try {
+            final DateTimeFormatter formatter = dateTimeFormatFinder.findFormatter(input);
+            final Instant instant = formatter.parse(input, Instant::from);
+            lastFormatter = formatter;
+            return instant;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new DataValidationException(String.format("Unknown dateTime format for value %s.", input));
+        }
+    }
+
+    /**
+     * Formats the date time in the format of the last converted value, ISO-8601 before any value was converted.
+     */
+    @Override
+    public String revert(Instant input) {
+        if (input == null) {
+            return null;
+        }
+        return (lastFormatter == null ? DateTimeFormatter.ISO_INSTANT : lastFormatter).format(input);
+    }
+}
@@ -5,11 +5,13 @@ import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
+import io.everytrade.server.model.CurrencyPair;
 import io.everytrade.server.model.TransactionType;
 import io.everytrade.server.plugin.api.parser.BuySellImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
+import io.everytrade.server.plugin.impl.everytrade.parser.MarketSymbolDecoder;
 import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
@@ -20,7 +22,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Headers(sequence = {"txid", "pair", "time", "type", "cost", "fee", "vol"}, extract = true)
 public class KrakenBeanV1 extends ExchangeBean {
@@ -32,24 +33,21 @@ public class KrakenBeanV1 extends ExchangeBean {
     private BigDecimal cost;
     private BigDecimal fee;
     private BigDecimal vol;
-    private static final Map<String, Currency> CURRENCY_SHORT_CODES = new HashMap<>();
-    private static final Map<String, Currency> CURRENCY_LONG_CODES = new HashMap<>();
+    private static final MarketSymbolDecoder SYMBOL_DECODER;
 
     static {
-        CURRENCY_SHORT_CODES.put("XBT", Currency.BTC);
-        CURRENCY_LONG_CODES.put("XXBT", Currency.BTC);
-
+        // short codes (e.g. XBT, USD) and long codes (e.g. XXBT, ZUSD)
+        final Map<String, Currency> codes = new HashMap<>();
+        codes.put("XBT", Currency.BTC);
+        codes.put("XXBT", Currency.BTC);
         for (Currency value : Currency.values()) {
             if (value.equals(Currency.BTC)) {
                 continue;
             }
-            CURRENCY_SHORT_CODES.put(value.code(), value);
-            if (value.isFiat()) {
-                CURRENCY_LONG_CODES.put("Z" + value.code(), value);
-            } else {
-                CURRENCY_LONG_CODES.put("X" + value.code(), value);
-            }
+            codes.put(value.code(), value);
+            codes.put((value.isFiat() ? "Z" : "X") + value.code(), value);
         }
+        SYMBOL_DECODER = new MarketSymbolDecoder(codes, (base, quote) -> true);
     }
 
     @Parsed(field = "txid")
@@ -59,14 +57,12 @@ public class KrakenBeanV1 extends ExchangeBean {
 
     @Parsed(field = "pair")
     public void setPair(String pair) {
-        String mBase = findCurrencyCode(pair, true);
-        String mQuote = findCurrencyCode(pair, false);
-        if (!pair.equals(mBase.concat(mQuote))) {
+        final CurrencyPair currencyPair = SYMBOL_DECODER.decode(pair);
+        if (currencyPair == null) {
             throw new DataValidationException(String.format("Can not parse pair %s.", pair));
         }
-
-        this.pairBase = findCurrencyByCode(mBase);
-        this.pairQuote = findCurrencyByCode(mQuote);
+        this.pairBase = currencyPair.getBase();
+        this.pairQuote = currencyPair.getQuote();
     }
 
     @Parsed(field = "time")
@@ -101,6 +97,11 @@ public class KrakenBeanV1 extends ExchangeBean {
         this.vol = vol;
     }
 
+    @Override
+    public String getUid() {
+        return txid;
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         validateCurrencyPair(pairBase, pairQuote);
@@ -134,66 +135,4 @@ public class KrakenBeanV1 extends ExchangeBean {
             related
         );
     }
-
-    private String findCurrencyCode(String pairCode, boolean isFindingBase) {
-        List<String> matchedShortCodes = CURRENCY_SHORT_CODES
-            .keySet()
-            .stream()
-            .filter(prefix -> isFindingBase ? pairCode.startsWith(prefix) : pairCode.endsWith(prefix))
-            .collect(Collectors.toList());
-        List<String> matchedLongCodes = CURRENCY_LONG_CODES
-            .keySet()
-            .stream()
-            .filter(prefix -> isFindingBase ? pairCode.startsWith(prefix) : pairCode.endsWith(prefix))
-            .collect(Collectors.toList());
-
-        final boolean foundBothCodes = matchedShortCodes.size() == 1 && matchedLongCodes.size() == 1;
-        final boolean foundLongCode = matchedLongCodes.size() == 1 && matchedShortCodes.isEmpty();
-        final boolean foundShortCode = matchedShortCodes.size() == 1 && matchedLongCodes.isEmpty();
-
-        if (foundBothCodes) {
-            final String matchedShortCode = matchedShortCodes.get(0);
-            final String matchedLongCode = matchedLongCodes.get(0);
-            final boolean foundCurrenciesMatch =
-                CURRENCY_SHORT_CODES.get(matchedShortCode).equals(CURRENCY_LONG_CODES.get(matchedLongCode));
-            if (foundCurrenciesMatch) {
-                return matchedLongCode;
-            } else {
-                throw new DataValidationException(String.format(
-                    "Found different %s currency codes (%s,%s) in pair code %s.",
-                    isFindingBase ? "base" : "quote",
-                    matchedShortCode,
-                    matchedLongCode,
-                    pairCode
-                ));
-            }
-        }
-
-        if (foundLongCode) {
-            return matchedLongCodes.get(0);
-        }
-
-        if (foundShortCode) {
-            return matchedShortCodes.get(0);
-        }
-
-        throw new DataValidationException(String.format(
-            "Unknown %s currency code in pair code %s.",
-            isFindingBase ? "base" : "quote",
-            pairCode
-        ));
-    }
-
-    private Currency findCurrencyByCode(String code) {
-        final Currency currencyLong = CURRENCY_LONG_CODES.get(code);
-        if (currencyLong != null) {
-            return currencyLong;
-        }
-        final Currency currencyShort = CURRENCY_SHORT_CODES.get(code);
-        if (currencyShort != null) {
-            return currencyShort;
-        }
-
-        throw new IllegalStateException(String.format("Currency not found for code %s.", code));
-    }
 }
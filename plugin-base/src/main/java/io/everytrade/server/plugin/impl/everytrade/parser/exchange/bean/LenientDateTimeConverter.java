@@ -0,0 +1,60 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
+
+import com.univocity.parsers.common.DataValidationException;
+import com.univocity.parsers.conversions.Conversion;
+import com.univocity.parsers.conversions.DateConversion;
+import io.everytrade.server.plugin.impl.everytrade.parser.TimestampParser;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+
+/**
+ * Converts date times the way {@code @Format(formats = {...}, options = {"locale=US", "timezone=UTC"})} does for
+ * {@link Date} fields, i.e. with lenient {@link java.text.SimpleDateFormat} patterns tried in the given order. Values
+ * exactly matching a pattern supported by {@link TimestampParser}'s fast path are read directly from the characters,
+ * everything else (single digit fields, trailing text, out of range fields, ...) is parsed by the univocity
+ * {@link DateConversion} with the same result and error as before. The patterns are expected to differ in their
+ * separators, so that a value exactly matching one pattern is refused by the preceding ones.
+ */
+public class LenientDateTimeConverter implements Conversion<String, Instant> {
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final List<TimestampParser> timestampParsers = new ArrayList<>();
+    private final DateConversion dateConversion;
+
+    public LenientDateTimeConverter(String... patterns) {
+        Objects.requireNonNull(patterns);
+        dateConversion = new DateConversion(UTC, Locale.US, null, null, patterns);
+        for (String pattern : patterns) {
+            // SimpleDateFormat resolves two-digit years relative to the current date, the fast path doesn't
+            if (pattern.contains("yyyy")) {
+                timestampParsers.add(new TimestampParser(pattern, DateTimeFormatter.ofPattern(pattern, Locale.US), 0));
+            }
+        }
+    }
+
+    @Override
+    public Instant execute(String input) {
+        if (input == null) {
+            throw new DataValidationException("Date time value is missing.");
+        }
+        for (TimestampParser timestampParser : timestampParsers) {
+            final Instant instant = timestampParser.tryParseFast(input);
+            if (instant != null) {
+                return instant;
+            }
+        }
+        return dateConversion.execute(input).toInstant();
+    }
+
+    @Override
+    public String revert(Instant input) {
+        return dateConversion.revert(Date.from(input));
+    }
+}
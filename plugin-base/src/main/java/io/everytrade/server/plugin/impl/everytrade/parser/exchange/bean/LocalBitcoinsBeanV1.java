@@ -1,8 +1,8 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
-import com.univocity.parsers.annotations.Replace;
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
 import io.everytrade.server.model.TransactionType;
@@ -60,13 +60,13 @@ public class LocalBitcoinsBeanV1 extends ExchangeBean {
     }
 
     @Parsed(field = "btc_final")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setBtcFinal(BigDecimal value) {
         btcFinal = value;
     }
 
     @Parsed(field = "fiat_amount")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setFiatAmount(BigDecimal value) {
         fiatAmount = value;
     }
@@ -94,6 +94,11 @@ public class LocalBitcoinsBeanV1 extends ExchangeBean {
         this.transactionReleasedAt = localDateTime.toInstant(ZoneOffset.UTC);
     }
 
+    @Override
+    public String getUid() {
+        return id;
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         final boolean isCrypto = !currency.isFiat();
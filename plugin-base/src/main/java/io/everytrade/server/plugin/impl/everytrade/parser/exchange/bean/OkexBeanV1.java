@@ -1,6 +1,6 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
-import com.univocity.parsers.annotations.Format;
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
 import com.univocity.parsers.common.DataValidationException;
@@ -11,13 +11,13 @@ import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
 import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.Collections;
-import java.util.Date;
 import java.util.List;
 
 //'Order ID' values start with BOM (\uFEFF) symbol.
@@ -41,16 +41,18 @@ public class OkexBeanV1 extends ExchangeBean {
     }
 
     @Parsed(field = "\uFEFFTrade Time")
-    @Format(formats = {"yyyy-MM-dd HH:mm:ss"}, options = {"locale=US", "timezone=UTC"})
-    public void setTradeTime(Date value) {
-        tradeTime = value.toInstant();
+    @Convert(
+        conversionClass = LenientDateTimeConverter.class,
+        args = {"yyyy-MM-dd HH:mm:ss"}
+    )
+    public void setTradeTime(Instant value) {
+        tradeTime = value;
     }
 
     @Parsed(field = "\uFEFFPairs")
     public void setSymbol(String value) {
-        final String[] pair = value.split("_");
-        pairsBase = Currency.fromCode(pair[0].toUpperCase());
-        pairsQuote = Currency.fromCode(pair[1].toUpperCase());
+        pairsBase = TokenParser.currencyToken(value, '_', 0, true);
+        pairsQuote = TokenParser.currencyToken(value, '_', 1, true);
     }
 
     @Parsed(field = "\uFEFFAmount", defaultNullRead = "0")
@@ -65,15 +67,16 @@ public class OkexBeanV1 extends ExchangeBean {
 
     @Parsed(field = "\uFEFFTotal")
     public void setTotalCurrency(String value) {
-        final String[] split = value.split(" ");
-        totalCurrency = Currency.fromCode(split[1]);
+        totalCurrency = TokenParser.currencyToken(value, ' ', 1);
     }
 
     @Parsed(field = "\uFEFFFee")
     public void setFee(String value) {
-        final String[] split = value.split(" ");
-        fee = new BigDecimal(split[0]);
-        feeCurrency = Currency.fromCode(split[1].toUpperCase());
+        fee = TokenParser.amountToken(value, ' ', 0);
+        if (fee == null) {
+            throw new DataValidationException("Fee can not be null or empty.");
+        }
+        feeCurrency = TokenParser.currencyToken(value, ' ', 1, true);
     }
 
     @Parsed(field = "\uFEFFunit\r")
@@ -81,6 +84,11 @@ public class OkexBeanV1 extends ExchangeBean {
         unit = Currency.fromCode(value);
     }
 
+    @Override
+    public String getUid() {
+        return tradeID;
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         validateCurrencyPair(pairsBase, pairsQuote);
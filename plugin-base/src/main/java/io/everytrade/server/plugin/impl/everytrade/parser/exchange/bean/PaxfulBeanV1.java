@@ -1,8 +1,8 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
-import com.univocity.parsers.annotations.Replace;
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
 import io.everytrade.server.model.TransactionType;
@@ -45,13 +45,13 @@ public class PaxfulBeanV1 extends ExchangeBean {
     }
 
     @Parsed(field = "amount_fiat")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setAmountFiat(BigDecimal value) {
         amountFiat = value;
     }
 
     @Parsed(field = "amount_btc")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setAmountBtc(BigDecimal value) {
         amountBtc = value;
     }
@@ -80,6 +80,11 @@ public class PaxfulBeanV1 extends ExchangeBean {
         tradeHash = value;
     }
 
+    @Override
+    public String getUid() {
+        return tradeHash;
+    }
+
     @Override
     public TransactionCluster toTransactionCluster() {
         validateCurrencyPair(Currency.BTC, fiatCurrency);
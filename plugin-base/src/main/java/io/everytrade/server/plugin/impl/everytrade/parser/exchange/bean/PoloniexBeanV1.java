@@ -1,21 +1,20 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
-import com.univocity.parsers.annotations.Format;
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
-import com.univocity.parsers.annotations.Replace;
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
 import io.everytrade.server.model.TransactionType;
 import io.everytrade.server.plugin.api.parser.BuySellImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Collections;
-import java.util.Date;
 
 @Headers(
     sequence = {"Date", "Market", "Category", "Type", "Base Total Less Fee", "Quote Total Less Fee"},
@@ -31,16 +30,18 @@ public class PoloniexBeanV1 extends ExchangeBean {
     private BigDecimal quoteTotalLessFee;
 
     @Parsed(field = "Date")
-    @Format(formats = {"yyyy-MM-dd HH:mm:ss"}, options = {"locale=EN", "timezone=UTC"})
-    public void setDate(Date value) {
-        date = value.toInstant();
+    @Convert(
+        conversionClass = LenientDateTimeConverter.class,
+        args = {"yyyy-MM-dd HH:mm:ss"}
+    )
+    public void setDate(Instant value) {
+        date = value;
     }
 
     @Parsed(field = "Market")
     public void setMarket(String value) {
-        final String[] values = value.split("/");
-        marketBase = Currency.fromCode(values[0]);
-        marketQuote = Currency.fromCode(values[1]);
+        marketBase = TokenParser.currencyToken(value, '/', 0);
+        marketQuote = TokenParser.currencyToken(value, '/', 1);
     }
 
     @Parsed(field = "Category")
@@ -56,13 +57,13 @@ public class PoloniexBeanV1 extends ExchangeBean {
     }
 
     @Parsed(field = "Base Total Less Fee")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setBaseTotalLessFee(BigDecimal value) {
         baseTotalLessFee = value;
     }
 
     @Parsed(field = "Quote Total Less Fee")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setQuoteTotalLessFee(BigDecimal value) {
         quoteTotalLessFee = value;
     }
@@ -1,6 +1,6 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
-import com.univocity.parsers.annotations.Format;
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
 import com.univocity.parsers.common.DataValidationException;
@@ -9,11 +9,11 @@ import io.everytrade.server.model.TransactionType;
 import io.everytrade.server.plugin.api.parser.BuySellImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.Date;
 import java.util.List;
 
 @Headers(
@@ -35,16 +35,18 @@ public class PoloniexBeanV2 extends ExchangeBean {
     private Currency feeCurrency;
 
     @Parsed(field = "Date")
-    @Format(formats = {"yyyy-MM-dd HH:mm:ss"}, options = {"locale=EN", "timezone=UTC"})
-    public void setDate(Date value) {
-        date = value.toInstant();
+    @Convert(
+        conversionClass = LenientDateTimeConverter.class,
+        args = {"yyyy-MM-dd HH:mm:ss"}
+    )
+    public void setDate(Instant value) {
+        date = value;
     }
 
     @Parsed(field = "Market")
     public void setMarket(String value) {
-        final String[] values = value.split("/");
-        marketBase = Currency.fromCode(values[0]);
-        marketQuote = Currency.fromCode(values[1]);
+        marketBase = TokenParser.currencyToken(value, '/', 0);
+        marketQuote = TokenParser.currencyToken(value, '/', 1);
     }
 
     @Parsed(field = "Category")
@@ -1,8 +1,8 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
+import com.univocity.parsers.annotations.Convert;
 import com.univocity.parsers.annotations.Headers;
 import com.univocity.parsers.annotations.Parsed;
-import com.univocity.parsers.annotations.Replace;
 import com.univocity.parsers.common.DataValidationException;
 import io.everytrade.server.model.Currency;
 import io.everytrade.server.model.TransactionType;
@@ -49,7 +49,7 @@ public class ShakePayBeanV1 extends ExchangeBean {
     }
 
     @Parsed(field = "Amount Debited")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setAmountDebited(BigDecimal amountDebited) {
         this.amountDebited = amountDebited;
     }
@@ -60,7 +60,7 @@ public class ShakePayBeanV1 extends ExchangeBean {
     }
 
     @Parsed(field = "Amount Credited")
-    @Replace(expression = IGNORED_CHARS_IN_NUMBER, replacement = "")
+    @Convert(conversionClass = BigDecimalConverter.class)
     public void setAmountCredited(BigDecimal amountCredited) {
         this.amountCredited = amountCredited;
     }
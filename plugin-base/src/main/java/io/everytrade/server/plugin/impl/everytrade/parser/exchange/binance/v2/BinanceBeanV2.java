@@ -9,26 +9,24 @@ import io.everytrade.server.plugin.api.parser.BuySellImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.FeeRebateImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
+import io.everytrade.server.plugin.impl.everytrade.parser.MarketSymbolDecoder;
 import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
+import io.everytrade.server.plugin.impl.everytrade.parser.TokenParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exception.DataIgnoredException;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-
-import static io.everytrade.server.model.CurrencyPair.getTradeablePairs;
 
 @Headers(sequence = {"Pair", "Type", "Filled", "Total", "Fee", "status"}, extract = true)
 public class BinanceBeanV2 extends ExchangeBean {
     private static final String STATUS_FILLED = "Filled";
     private static final String STATUS_PARTIAL_FILL = "Partial Fill";
-    private static Map<String, CurrencyPair> fastCurrencyPair = new HashMap<>();
+    private static final MarketSymbolDecoder SYMBOL_DECODER
+        = new MarketSymbolDecoder(MarketSymbolDecoder.currencyCodes(Map.of()), CurrencyPair::isTradeable);
     private Instant date;
     private Currency pairBase;
     private Currency pairQuote;
@@ -38,12 +36,6 @@ public class BinanceBeanV2 extends ExchangeBean {
     private BigDecimal fee;
     private Currency feeCurrency;
 
-    static {
-        getTradeablePairs().forEach(t -> fastCurrencyPair.put(
-            String.format("%s%s", t.getBase().code(), t.getQuote().code()), t)
-        );
-    }
-
     public BinanceBeanV2(
         String date,
         String pair,
@@ -57,19 +49,27 @@ public class BinanceBeanV2 extends ExchangeBean {
             throw new DataIgnoredException(UNSUPPORTED_STATUS_TYPE.concat(status));
         }
         this.date = ParserUtils.parse("yyyy-MM-dd HH:mm:ss", date);
-        final CurrencyPair currencyPair = fastCurrencyPair.get(pair);
+        final CurrencyPair currencyPair = SYMBOL_DECODER.decode(pair);
         if (currencyPair == null) {
             throw new DataValidationException(UNSUPPORTED_CURRENCY_PAIR.concat(pair));
         }
         pairBase = currencyPair.getBase();
         pairQuote = currencyPair.getQuote();
         this.type = detectTransactionType(type);
-        this.filled = new BigDecimal(filled.replaceAll(IGNORED_CHARS_IN_NUMBER, ""));
-        this.total = new BigDecimal(total.replaceAll(IGNORED_CHARS_IN_NUMBER, ""));
-        feeCurrency = findEnds(fee);
+        this.filled = TokenParser.amount(filled);
+        if (this.filled == null) {
+            throw new DataValidationException("Filled can not be null or empty.");
+        }
+        this.total = TokenParser.amount(total);
+        if (this.total == null) {
+            throw new DataValidationException("Total can not be null or empty.");
+        }
+        feeCurrency = TokenParser.currencySuffix(fee);
         if (feeCurrency != null) {
-            final String feeValue = fee.replaceAll("[A-Z,\\s$]", "");
-            this.fee = new BigDecimal(feeValue);
+            this.fee = TokenParser.amount(fee, 0, fee.length() - feeCurrency.code().length());
+            if (this.fee == null) {
+                throw new DataValidationException("Fee can not be empty.");
+            }
         } else {
             this.fee = BigDecimal.ZERO;
         }
@@ -115,15 +115,4 @@ public class BinanceBeanV2 extends ExchangeBean {
             isIncorrectFeeCoin ? 1 : 0
         );
     }
-
-    private Currency findEnds(String value) {
-        List<Currency> matchedCurrencies = Arrays
-            .stream(Currency.values())
-            .filter(currency -> value.endsWith(currency.code()))
-            .collect(Collectors.toList());
-        if (matchedCurrencies.size() == 1) {
-            return matchedCurrencies.get(0);
-        }
-        return null;
-    }
 }
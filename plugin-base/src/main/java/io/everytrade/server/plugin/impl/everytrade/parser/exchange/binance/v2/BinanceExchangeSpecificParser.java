@@ -1,6 +1,8 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.binance.v2;
 
-import com.univocity.parsers.common.record.Record;
+import com.univocity.parsers.common.ParsingContext;
+import com.univocity.parsers.common.TextParsingException;
+import com.univocity.parsers.common.processor.AbstractRowProcessor;
 import com.univocity.parsers.csv.CsvParser;
 import com.univocity.parsers.csv.CsvParserSettings;
 import io.everytrade.server.plugin.api.parser.ParsingProblem;
@@ -10,25 +12,22 @@ import io.everytrade.server.plugin.impl.everytrade.parser.exception.ParsingProce
 import io.everytrade.server.plugin.impl.everytrade.parser.exception.UnknownHeaderException;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.IExchangeSpecificParser;
 import io.everytrade.server.plugin.impl.everytrade.parser.exchange.ExchangeBean;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.MappedFileReader;
 
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.nio.channels.FileChannel;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class BinanceExchangeSpecificParser implements IExchangeSpecificParser {
     public static final Pattern DATE_PATTERN;
     private static final String DEFAULT_DELIMITER = ",";
+    private static final int NO_INDEX = -1;
     private final String delimiter;
-    private List<ParsingProblem> parsingProblems = List.of();
 
     enum RowType {
         HEADER, GROUP, GROUP_HEADER, GROUP_ROW
@@ -47,86 +46,45 @@ public class BinanceExchangeSpecificParser implements IExchangeSpecificParser {
     }
 
     @Override
-    public List<? extends ExchangeBean> parse(
-        File inputFile
+    public void parse(
+        FileChannel channel,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer
     ) {
-        parsingProblems = new ArrayList<>();
-        final List<BinanceBeanV2> binanceBeans = new ArrayList<>();
-        try (Reader reader = new FileReader(inputFile, StandardCharsets.UTF_8)) {
+        try {
+            parse(MappedFileReader.open(channel), exchangeBeanConsumer, parsingProblemConsumer);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void parse(
+        Reader reader,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer
+    ) {
+        try (reader) {
             final CsvParserSettings csvParserSettings = new CsvParserSettings();
             csvParserSettings.getFormat().setDelimiter(delimiter);
             csvParserSettings.setHeaderExtractionEnabled(false);
-            CsvParser parser = new CsvParser(csvParserSettings);
-            List<Record> allRecords = parser.parseAllRecords(reader);
-            Map<Level2Header, Integer> level2HeaderIndexes = null;
-            Map<Level1Header, Integer> level1HeaderIndexes = null;
-            String columnValuePair = null;
-            String columnValueType = null;
-            String columnValueStatus = null;
-            RowType rowType = RowType.HEADER;
-
-            for (int i = 0; i < allRecords.size(); i++) {
-                final Record record = allRecords.get(i);
-                final String[] columnValues = record.getValues();
-                if (i == 0) {
-                    level1HeaderIndexes = createIndexesLevel1(columnValues);
-                    continue;
-                }
-
-                final String columnValueDate = columnValues[level1HeaderIndexes.get(Level1Header.DATE)];
-                rowType = evalRowType(rowType, columnValueDate);
-
-                switch (rowType) {
-                    case GROUP:
-                        columnValuePair = columnValues[level1HeaderIndexes.get(Level1Header.PAIR)];
-                        columnValueType = columnValues[level1HeaderIndexes.get(Level1Header.TYPE)];
-                        columnValueStatus = columnValues[level1HeaderIndexes.get(Level1Header.STATUS)];
-                        break;
-
-                    case GROUP_HEADER:
-                        checkLevel2Header(columnValues);
-                        level2HeaderIndexes = createIndexesLevel2(columnValues);
-                        break;
-
-                    case GROUP_ROW:
-                        if (level2HeaderIndexes == null) {
-                            throw new ParsingProcessException("Unknown file structure. Unexpected row type " + rowType);
-                        }
-                        final String columnValueDateL2 = columnValues[level2HeaderIndexes.get(Level2Header.DATE)];
-                        final String columnValueFilled = columnValues[level2HeaderIndexes.get(Level2Header.FILLED)];
-                        final String columnValueTotal = columnValues[level2HeaderIndexes.get(Level2Header.TOTAL)];
-                        final String columnValueFee = columnValues[level2HeaderIndexes.get(Level2Header.FEE)];
-                        createExchangeBean(
-                            parsingProblems,
-                            binanceBeans,
-                            columnValueDateL2,
-                            columnValuePair,
-                            columnValueType,
-                            columnValueFilled,
-                            columnValueTotal,
-                            columnValueFee,
-                            columnValueStatus
-                        );
-                        break;
-
-                    default:
-                        throw new ParsingProcessException("Unknown file structure - unexpected row type " + rowType);
-                }
+            csvParserSettings.setProcessor(new BinanceRowProcessor(exchangeBeanConsumer, parsingProblemConsumer));
+            new CsvParser(csvParserSettings).parse(reader);
+        } catch (TextParsingException e) {
+            // exceptions of the row processor are wrapped by the parser
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
+            throw e;
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
-        return binanceBeans;
-    }
-
-    @Override
-    public List<ParsingProblem> getParsingProblems() {
-        return parsingProblems;
     }
 
     private void createExchangeBean(
-        List<ParsingProblem> parsingProblems,
-        List<BinanceBeanV2> binanceBeans,
+        Consumer<ExchangeBean> exchangeBeanConsumer,
+        Consumer<ParsingProblem> parsingProblemConsumer,
+        long rowNumber,
         String columnValueDateL2,
         String columnValuePair,
         String columnValueType,
@@ -135,8 +93,7 @@ public class BinanceExchangeSpecificParser implements IExchangeSpecificParser {
         String columnValueFee,
         String columnValueStatus
     ) {
-        final String row = String.format(
-            "%s,%s,%s,%s,%s,%s,%s",
+        final String[] row = {
             columnValueDateL2,
             columnValuePair,
             columnValueType,
@@ -144,35 +101,40 @@ public class BinanceExchangeSpecificParser implements IExchangeSpecificParser {
             columnValueTotal,
             columnValueFee,
             columnValueStatus
-        );
+        };
+        final BinanceBeanV2 binanceBean;
         try {
-            binanceBeans.add(
-                new BinanceBeanV2(
-                    columnValueDateL2,
-                    columnValuePair,
-                    columnValueType,
-                    columnValueFilled,
-                    columnValueTotal,
-                    columnValueFee,
-                    columnValueStatus
-                ));
+            binanceBean = new BinanceBeanV2(
+                columnValueDateL2,
+                columnValuePair,
+                columnValueType,
+                columnValueFilled,
+                columnValueTotal,
+                columnValueFee,
+                columnValueStatus
+            );
         } catch (DataIgnoredException e) {
-            parsingProblems.add(
+            parsingProblemConsumer.accept(
                 new ParsingProblem(
-                    row,
-                    e.getMessage(),
+                    String.join(",", row),
+                    e.getReason(),
                     ParsingProblemType.PARSED_ROW_IGNORED
                 )
             );
+            return;
         } catch (Exception e) {
-            parsingProblems.add(
+            parsingProblemConsumer.accept(
                 new ParsingProblem(
-                    row,
+                    String.join(",", row),
                     e.getMessage(),
                     ParsingProblemType.ROW_PARSING_FAILED
                 )
             );
+            return;
         }
+        binanceBean.setRowValues(row);
+        binanceBean.setRowNumber(rowNumber);
+        exchangeBeanConsumer.accept(binanceBean);
     }
 
     private RowType evalRowType(RowType rowType, String columnValueDate) {
@@ -216,26 +178,107 @@ public class BinanceExchangeSpecificParser implements IExchangeSpecificParser {
         }
     }
 
-    private Map<Level1Header, Integer> createIndexesLevel1(String[] columnValues) {
-        final Map<Level1Header, Integer> indexes = new TreeMap<>();
+    private static int[] createIndexesLevel1(String[] columnValues) {
+        final int[] indexes = new int[Level1Header.values().length];
+        Arrays.fill(indexes, NO_INDEX);
         for (int i = 0; i < columnValues.length; i++) {
             final Level1Header header = Level1Header.get(columnValues[i]);
             if (header != null) {
-                indexes.put(header, i);
+                indexes[header.ordinal()] = i;
+            }
+        }
+        for (Level1Header header : Level1Header.values()) {
+            if (indexes[header.ordinal()] == NO_INDEX) {
+                throw new UnknownHeaderException(String.format(
+                    "Level 1 header(%s) does not contain %s.", Arrays.toString(columnValues), header.getValue()
+                ));
             }
         }
         return indexes;
     }
 
-    private Map<Level2Header, Integer> createIndexesLevel2(String[] columnValues) {
-        final Map<Level2Header, Integer> indexes = new TreeMap<>();
+    private static int[] createIndexesLevel2(String[] columnValues) {
+        final int[] indexes = new int[Level2Header.values().length];
+        Arrays.fill(indexes, NO_INDEX);
         for (int i = 0; i < columnValues.length; i++) {
             final Level2Header header = Level2Header.get(columnValues[i]);
             if (header != null) {
-                indexes.put(header, i);
+                indexes[header.ordinal()] = i;
             }
         }
         return indexes;
     }
-}
 
+    private static String value(String[] columnValues, int[] indexes, Enum<?> header) {
+        final int index = indexes[header.ordinal()];
+        return index < columnValues.length ? columnValues[index] : null;
+    }
+
+    /**
+     * Walks the grouped export row by row: a GROUP row (order) is followed by a GROUP_HEADER row and GROUP_ROW rows
+     * (fills of the order).
+     */
+    private class BinanceRowProcessor extends AbstractRowProcessor {
+        private final Consumer<ExchangeBean> exchangeBeanConsumer;
+        private final Consumer<ParsingProblem> parsingProblemConsumer;
+        private int[] level1HeaderIndexes;
+        private int[] level2HeaderIndexes;
+        private String columnValuePair;
+        private String columnValueType;
+        private String columnValueStatus;
+        private RowType rowType = RowType.HEADER;
+
+        BinanceRowProcessor(
+            Consumer<ExchangeBean> exchangeBeanConsumer,
+            Consumer<ParsingProblem> parsingProblemConsumer
+        ) {
+            this.exchangeBeanConsumer = exchangeBeanConsumer;
+            this.parsingProblemConsumer = parsingProblemConsumer;
+        }
+
+        @Override
+        public void rowProcessed(String[] columnValues, ParsingContext context) {
+            if (level1HeaderIndexes == null) {
+                level1HeaderIndexes = createIndexesLevel1(columnValues);
+                return;
+            }
+
+            final String columnValueDate = value(columnValues, level1HeaderIndexes, Level1Header.DATE);
+            rowType = evalRowType(rowType, columnValueDate);
+
+            switch (rowType) {
+                case GROUP:
+                    columnValuePair = value(columnValues, level1HeaderIndexes, Level1Header.PAIR);
+                    columnValueType = value(columnValues, level1HeaderIndexes, Level1Header.TYPE);
+                    columnValueStatus = value(columnValues, level1HeaderIndexes, Level1Header.STATUS);
+                    break;
+
+                case GROUP_HEADER:
+                    checkLevel2Header(columnValues);
+                    level2HeaderIndexes = createIndexesLevel2(columnValues);
+                    break;
+
+                case GROUP_ROW:
+                    if (level2HeaderIndexes == null) {
+                        throw new ParsingProcessException("Unknown file structure. Unexpected row type " + rowType);
+                    }
+                    createExchangeBean(
+                        exchangeBeanConsumer,
+                        parsingProblemConsumer,
+                        context.currentLine(),
+                        value(columnValues, level2HeaderIndexes, Level2Header.DATE),
+                        columnValuePair,
+                        columnValueType,
+                        value(columnValues, level2HeaderIndexes, Level2Header.FILLED),
+                        value(columnValues, level2HeaderIndexes, Level2Header.TOTAL),
+                        value(columnValues, level2HeaderIndexes, Level2Header.FEE),
+                        columnValueStatus
+                    );
+                    break;
+
+                default:
+                    throw new ParsingProcessException("Unknown file structure - unexpected row type " + rowType);
+            }
+        }
+    }
+}
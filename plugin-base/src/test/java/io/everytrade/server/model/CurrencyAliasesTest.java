@@ -0,0 +1,32 @@
+package io.everytrade.server.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CurrencyAliasesTest {
+
+    @Test
+    void testDefaultAliases() {
+        assertEquals(Currency.BTC, CurrencyAliases.DEFAULT.resolve("XBT"));
+        assertEquals(Currency.BTC, CurrencyAliases.DEFAULT.resolve("LBTC"));
+        assertEquals(Currency.BTC, CurrencyAliases.DEFAULT.resolve("lbtc"));
+        assertEquals(Currency.ETH, CurrencyAliases.DEFAULT.resolve("ETH"));
+        assertEquals(Currency._1INCH, CurrencyAliases.DEFAULT.resolve("1inch"));
+        assertNull(CurrencyAliases.DEFAULT.tryResolve("UNKNOWN"));
+        assertThrows(IllegalArgumentException.class, () -> CurrencyAliases.DEFAULT.resolve("UNKNOWN"));
+    }
+
+    @Test
+    void testAdditionalAliases() {
+        final CurrencyAliases aliases = CurrencyAliases.DEFAULT.with(Map.of("XDG", Currency.DOGE, "LBTC", Currency.LTC));
+        assertEquals(Currency.DOGE, aliases.resolve("xdg"));
+        assertEquals(Currency.LTC, aliases.resolve("LBTC"));
+        assertEquals(Currency.BTC, aliases.resolve("XBT"));
+        assertNull(CurrencyAliases.DEFAULT.tryResolve("XDG"));
+    }
+}
@@ -0,0 +1,59 @@
+package io.everytrade.server.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CurrencyPairTest {
+
+    @Test
+    void testIsTradeableMatchesTradeablePairs() {
+        final Set<CurrencyPair> tradeablePairs = new HashSet<>(CurrencyPair.getTradeablePairs());
+        assertEquals(CurrencyPair.getTradeablePairs().size(), tradeablePairs.size());
+        for (Currency base : Currency.values()) {
+            for (Currency quote : Currency.values()) {
+                final boolean expected = !(base.isFiat() && !quote.isFiat())
+                    && tradeablePairs.contains(new CurrencyPair(base, quote));
+                assertEquals(expected, CurrencyPair.isTradeable(base, quote), base + "/" + quote);
+            }
+        }
+        assertTrue(CurrencyPair.isTradeable(Currency.BTC, Currency.USD));
+        assertTrue(CurrencyPair.isTradeable(Currency.EUR, Currency.USD));
+        assertFalse(CurrencyPair.isTradeable(Currency.USD, Currency.EUR));
+        assertFalse(CurrencyPair.isTradeable(Currency.BTC, Currency.ETH));
+        assertFalse(CurrencyPair.isTradeable(Currency.BTC, Currency.BTC));
+    }
+
+    @Test
+    void testCanonicalInstances() {
+        final CurrencyPair currencyPair = CurrencyPair.of(Currency.BTC, Currency.USD);
+        assertSame(currencyPair, CurrencyPair.of(Currency.BTC, Currency.USD));
+        assertEquals(new CurrencyPair(Currency.BTC, Currency.USD), currencyPair);
+        assertSame(CurrencyPair.of(Currency.USD, Currency.EUR), CurrencyPair.of(Currency.EUR, Currency.USD).reverse());
+        for (CurrencyPair tradeablePair : CurrencyPair.getTradeablePairs()) {
+            assertSame(CurrencyPair.of(tradeablePair.getBase(), tradeablePair.getQuote()), tradeablePair);
+        }
+    }
+
+    @Test
+    void testFiatCryptoCombination() {
+        assertThrows(
+            CurrencyPair.FiatCryptoCombinationException.class, () -> CurrencyPair.of(Currency.USD, Currency.BTC)
+        );
+    }
+
+    @Test
+    void testTradeablePairsImmutable() {
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> CurrencyPair.getTradeablePairs().add(CurrencyPair.of(Currency.BTC, Currency.USD))
+        );
+    }
+}
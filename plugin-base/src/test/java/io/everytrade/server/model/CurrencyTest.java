@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class CurrencyTest {
 
@@ -21,4 +23,11 @@ class CurrencyTest {
         assertEquals(Currency._1INCH, Currency.fromCode("1INCH"));
         assertEquals("1INCH", Currency._1INCH.code());
     }
+
+    @Test
+    public void testUnknownCode() {
+        assertNull(Currency.tryFromCode("XBT"));
+        assertNull(Currency.tryFromCode("btc"));
+        assertThrows(IllegalArgumentException.class, () -> Currency.fromCode("XBT"));
+    }
 }
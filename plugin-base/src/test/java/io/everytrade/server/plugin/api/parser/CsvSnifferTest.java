@@ -0,0 +1,191 @@
+package io.everytrade.server.plugin.api.parser;
+
+import io.everytrade.server.model.SupportedExchange;
+import io.everytrade.server.plugin.api.IPlugin;
+import io.everytrade.server.plugin.api.connector.ConnectorDescriptor;
+import io.everytrade.server.plugin.api.connector.IConnector;
+import io.everytrade.server.plugin.api.rateprovider.IRateProvider;
+import io.everytrade.server.plugin.api.rateprovider.RateProviderDescriptor;
+import io.everytrade.server.plugin.impl.everytrade.parser.EverytradeCsvMultiParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvSnifferTest {
+    private static final String HEADER = "txid,ordertxid,pair,time,type,ordertype,price,cost,fee,vol,margin,misc,ledgers";
+    private static final String CONTENT = HEADER + "\n"
+        + "T1,O1,XXBTZUSD,2019-07-29 17:04:41,buy,limit,9480.3,18.9606,0.0493,0.002,0,,L1\n"
+        + "T2,O2,XXBTZUSD,2019-07-29 17:04:41,sell,limit,9480.3,18.9606,0.0493,0.002,0,,L2\n";
+    private static final IPlugin PLUGIN = new TestPlugin();
+
+    @Test
+    void testSniffAndParse() {
+        final InputStream inputStream = new NonMarkingInputStream(CONTENT.getBytes(StandardCharsets.UTF_8));
+        final SniffedParseResult result = CsvSniffer.sniffAndParse(inputStream, null, PLUGIN);
+
+        final ParserSelection parserSelection = result.getParserSelection();
+        assertEquals(HEADER, parserSelection.getHeader());
+        assertEquals(EverytradeCsvMultiParser.DESCRIPTOR, parserSelection.getParserDescriptor());
+        assertEquals(SupportedExchange.KRAKEN, parserSelection.getSupportedExchange());
+        assertEquals(2, result.getParseResult().getTransactionClusters().size());
+    }
+
+    @Test
+    void testSniffAndParseGzip() throws IOException {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (GZIPOutputStream outputStream = new GZIPOutputStream(content)) {
+            outputStream.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+        }
+        final int[] clusterCount = {0};
+        final ParserSelection parserSelection = CsvSniffer.sniffAndParse(
+            new NonMarkingInputStream(content.toByteArray()),
+            StandardCharsets.UTF_8,
+            PLUGIN,
+            new ITransactionClusterSink() {
+                @Override
+                public void acceptTransactionCluster(TransactionCluster transactionCluster) {
+                    clusterCount[0]++;
+                }
+
+                @Override
+                public void acceptParsingProblem(ParsingProblem parsingProblem) {
+                }
+            }
+        );
+        assertEquals(SupportedExchange.KRAKEN, parserSelection.getSupportedExchange());
+        assertEquals(2, clusterCount[0]);
+    }
+
+    @Test
+    void testSniffAndParseWithOptions() {
+        final String content = HEADER + "\n"
+            + "T1,O1,XXBTZUSD,2019-07-29 17:04:41,buy,limit,9480.3,18.9606,0.0493,0.002,0,,L1\n"
+            + "T2,O2,XXBTZUSD,x,buy,limit,9480.3,18.9606,0.0493,0.002,0,,L2\n"
+            + "T3,O3,XXBTZUSD,x,buy,limit,9480.3,18.9606,0.0493,0.002,0,,L3\n"
+            + "T4,O4,XXBTZUSD,x,buy,limit,9480.3,18.9606,0.0493,0.002,0,,L4\n";
+        final ParserOptions parserOptions = new ParserOptions(new ParsingProblemPolicy(1, 0));
+
+        final ParseResult result = CsvSniffer.sniffAndParse(
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), null, PLUGIN, parserOptions
+        ).getParseResult();
+        assertEquals(1, result.getTransactionClusters().size());
+        assertEquals(1, result.getParsingProblems().size());
+        assertEquals(3, result.getParsingProblemCount(ParsingProblemType.ROW_PARSING_FAILED));
+    }
+
+    @Test
+    void testSniffAndParseFile() throws IOException {
+        final File file = File.createTempFile("import", ".csv");
+        file.deleteOnExit();
+        Files.writeString(file.toPath(), CONTENT);
+
+        final SniffedParseResult result = CsvSniffer.sniffAndParse(file, PLUGIN);
+        assertEquals(SupportedExchange.KRAKEN, result.getParserSelection().getSupportedExchange());
+        assertEquals(2, result.getParseResult().getTransactionClusters().size());
+    }
+
+    @Test
+    void testSniffZipWithLargeSkippedEntries() throws IOException {
+        final File file = File.createTempFile("import", ".zip");
+        file.deleteOnExit();
+        try (ZipOutputStream outputStream = new ZipOutputStream(new FileOutputStream(file))) {
+            outputStream.setLevel(Deflater.NO_COMPRESSION);
+            outputStream.putNextEntry(new ZipEntry("__MACOSX/._kraken.csv"));
+            outputStream.write(new byte[2 * 1024 * 1024]);
+            outputStream.putNextEntry(new ZipEntry("kraken.csv"));
+            outputStream.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(2, CsvSniffer.sniffAndParse(file, PLUGIN).getParseResult().getTransactionClusters().size());
+        try (InputStream inputStream = new FileInputStream(file)) {
+            assertThrows(IllegalStateException.class, () -> CsvSniffer.sniffAndParse(inputStream, null, PLUGIN));
+        }
+    }
+
+    @Test
+    void testUnknownHeader() {
+        final InputStream inputStream = new NonMarkingInputStream("unknown,header\n1,2\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalStateException.class, () -> CsvSniffer.sniffAndParse(inputStream, null, PLUGIN));
+        assertNull(CsvSniffer.select("unknown,header", PLUGIN.allParserDescriptors()));
+    }
+
+    // e.g. an HTTP request body
+    private static class NonMarkingInputStream extends FilterInputStream {
+        NonMarkingInputStream(byte[] content) {
+            super(new ByteArrayInputStream(content));
+            assertFalse(markSupported());
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    private static class TestPlugin implements IPlugin {
+        @Override
+        public String getId() {
+            return "test";
+        }
+
+        @Override
+        public List<ConnectorDescriptor> allConnectorDescriptors() {
+            return List.of();
+        }
+
+        @Override
+        public ConnectorDescriptor connectorDescriptor(String connectorId) {
+            return null;
+        }
+
+        @Override
+        public IConnector createConnectorInstance(String connectorId, Map<String, String> parameters) {
+            return null;
+        }
+
+        @Override
+        public List<ParserDescriptor> allParserDescriptors() {
+            return List.of(EverytradeCsvMultiParser.DESCRIPTOR);
+        }
+
+        @Override
+        public ICsvParser createParserInstance(String parserId) {
+            return new EverytradeCsvMultiParser();
+        }
+
+        @Override
+        public ICsvParser createParserInstance(String parserId, ParserOptions parserOptions) {
+            return new EverytradeCsvMultiParser(parserOptions);
+        }
+
+        @Override
+        public List<RateProviderDescriptor> allRateProviderDescriptors() {
+            return List.of();
+        }
+
+        @Override
+        public IRateProvider createRateProviderInstance(String providerId) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.everytrade.server.plugin.api.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImportTokenTest {
+
+    @Test
+    void testMergeAndRoundTrip() {
+        final ImportToken token = ImportToken.EMPTY
+            .merge(new long[]{5, -1, Long.MIN_VALUE, 5})
+            .merge(new long[]{0, 5, Long.MAX_VALUE});
+        assertEquals(5, token.getRowCount());
+
+        final ImportToken decoded = ImportToken.fromBytes(token.toBytes());
+        assertEquals(5, decoded.getRowCount());
+        for (long fingerprint : new long[]{0, 5, -1, Long.MIN_VALUE, Long.MAX_VALUE}) {
+            assertTrue(decoded.contains(fingerprint));
+        }
+        assertFalse(decoded.contains(6));
+    }
+
+    @Test
+    void testTokenSize() {
+        final Random random = new Random(42);
+        final long[] fingerprints = new long[100_000];
+        for (int i = 0; i < fingerprints.length; i++) {
+            fingerprints[i] = random.nextLong();
+        }
+        final byte[] bytes = ImportToken.EMPTY.merge(fingerprints).toBytes();
+        assertTrue(bytes.length < fingerprints.length * Long.BYTES);
+        assertEquals(fingerprints.length, ImportToken.fromBytes(bytes).getRowCount());
+    }
+
+    @Test
+    void testMalformedToken() {
+        final byte[] bytes = ImportToken.EMPTY.merge(new long[]{1, 2, 3}).toBytes();
+        assertThrows(IllegalArgumentException.class, () -> ImportToken.fromBytes(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> ImportToken.fromBytes(new byte[]{2, 0}));
+        assertThrows(
+            IllegalArgumentException.class, () -> ImportToken.fromBytes(Arrays.copyOf(bytes, bytes.length - 1))
+        );
+    }
+
+    @Test
+    void testUnorderedToken() {
+        // version, count and the gaps 5 and 0 of a repeated fingerprint
+        assertThrows(IllegalArgumentException.class, () -> ImportToken.fromBytes(new byte[]{1, 2, 5, 0}));
+        // the gap -1 wraps the second fingerprint around to 4
+        final byte[] bytes = new byte[]{1, 2, 5, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1};
+        assertThrows(IllegalArgumentException.class, () -> ImportToken.fromBytes(bytes));
+        assertEquals(2, ImportToken.fromBytes(new byte[]{1, 2, 5, 1}).getRowCount());
+    }
+}
@@ -0,0 +1,97 @@
+package io.everytrade.server.plugin.api.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParsingProblemCollectorTest {
+    private final List<ParsingProblem> reported = new ArrayList<>();
+    private final ITransactionClusterSink sink = new ITransactionClusterSink() {
+        @Override
+        public void acceptTransactionCluster(TransactionCluster transactionCluster) {
+        }
+
+        @Override
+        public void acceptParsingProblem(ParsingProblem parsingProblem) {
+            reported.add(parsingProblem);
+        }
+    };
+
+    @Test
+    void testSamplesPerTypeAndMessage() {
+        final ParsingProblemCollector collector = new ParsingProblemCollector(sink, new ParsingProblemPolicy(2, 1));
+        for (int i = 0; i < 10; i++) {
+            collector.acceptParsingProblem(failed("Same message"));
+            collector.acceptParsingProblem(ignored("Ignored " + i % 2));
+        }
+        collector.acceptParsingProblem(failed("Other message"));
+
+        // first 2 of each type, "Other message" as the first one with its message
+        assertEquals(2 + 2 + 1, reported.size());
+        assertEquals(11, collector.getProblemCount(ParsingProblemType.ROW_PARSING_FAILED));
+        assertEquals(10, collector.getProblemCount(ParsingProblemType.PARSED_ROW_IGNORED));
+        assertEquals(21 - reported.size(), collector.getSuppressedProblemCount());
+        assertEquals(21, collector.getRowCount());
+    }
+
+    @Test
+    void testUnbounded() {
+        final ParsingProblemCollector collector = new ParsingProblemCollector(sink, ParsingProblemPolicy.UNBOUNDED);
+        for (int i = 0; i < 100; i++) {
+            collector.acceptParsingProblem(failed("Message"));
+        }
+        assertEquals(100, reported.size());
+        assertEquals(0, collector.getSuppressedProblemCount());
+    }
+
+    @Test
+    void testAbortOnFailedRowRate() {
+        final ParsingProblemCollector collector
+            = new ParsingProblemCollector(sink, new ParsingProblemPolicy(10, 0, 0.5, 4));
+        collector.acceptParsingProblem(failed("Message"));
+        collector.acceptParsingProblem(failed("Message"));
+        collector.acceptParsingProblem(ignored("Message"));
+        assertFalse(collector.isAborted());
+
+        assertThrows(ParsingAbortedException.class, () -> collector.acceptParsingProblem(failed("Message")));
+        assertTrue(collector.isAborted());
+        assertThrows(ParsingAbortedException.class, collector::throwIfAborted);
+    }
+
+    @Test
+    void testIgnoredRowsDoNotAbort() {
+        final ParsingProblemCollector collector
+            = new ParsingProblemCollector(sink, new ParsingProblemPolicy(10, 0, 0.1, 1));
+        for (int i = 0; i < 100; i++) {
+            collector.acceptParsingProblem(ignored("Message"));
+        }
+        assertFalse(collector.isAborted());
+    }
+
+    @Test
+    void testParseResultCounts() {
+        final ParseResult parseResult = new ParseResult(List.of(), List.of(failed("a"), failed("b"), ignored("c")));
+        assertEquals(2, parseResult.getParsingProblemCount(ParsingProblemType.ROW_PARSING_FAILED));
+        assertEquals(1, parseResult.getParsingProblemCount(ParsingProblemType.PARSED_ROW_IGNORED));
+    }
+
+    @Test
+    void testIllegalPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> new ParsingProblemPolicy(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ParsingProblemPolicy(1, 0, 1.5, 0));
+    }
+
+    private static ParsingProblem failed(String message) {
+        return new ParsingProblem("row", message, ParsingProblemType.ROW_PARSING_FAILED);
+    }
+
+    private static ParsingProblem ignored(String message) {
+        return new ParsingProblem("row", message, ParsingProblemType.PARSED_ROW_IGNORED);
+    }
+}
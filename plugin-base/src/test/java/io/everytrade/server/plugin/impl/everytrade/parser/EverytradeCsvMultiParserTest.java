@@ -0,0 +1,382 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+import io.everytrade.server.plugin.api.parser.BatchParseResult;
+import io.everytrade.server.plugin.api.parser.ICsvParser;
+import io.everytrade.server.plugin.api.parser.ImportFile;
+import io.everytrade.server.plugin.api.parser.ImportFileResult;
+import io.everytrade.server.plugin.api.parser.ImportToken;
+import io.everytrade.server.plugin.api.parser.IncrementalParseResult;
+import io.everytrade.server.plugin.api.parser.ParserOptions;
+import io.everytrade.server.plugin.api.parser.ParsingProblemPolicy;
+import io.everytrade.server.plugin.api.parser.ParseResult;
+import io.everytrade.server.plugin.api.parser.ParsingProblemType;
+import io.everytrade.server.plugin.impl.everytrade.parser.exception.UnknownHeaderException;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.BitmexBeanV1;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.CoinmateBeanV1;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.OkexBeanV1;
+import io.everytrade.server.plugin.utils.CsvFileEntries;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EverytradeCsvMultiParserTest {
+    private static final String HEADER = "txid,ordertxid,pair,time,type,ordertype,price,cost,fee,vol,margin,misc,ledgers";
+
+    @Test
+    void testParseAll() throws IOException {
+        final List<ImportFile> importFiles = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            importFiles.add(new ImportFile(createKrakenFile(i + 1)));
+        }
+        importFiles.add(2, new ImportFile(createFile("unknown,header\n1,2\n")));
+        // the in-flight limit lets just one file be parsed at a time
+        final BatchParseResult result = new EverytradeCsvMultiParser(ParsingProblemPolicy.UNBOUNDED, 3, 1)
+            .parseAll(importFiles);
+
+        final List<ImportFileResult> importFileResults = result.getImportFileResults();
+        assertEquals(importFiles.size(), importFileResults.size());
+        for (int i = 0; i < importFiles.size(); i++) {
+            assertEquals(importFiles.get(i), importFileResults.get(i).getImportFile());
+        }
+        assertFalse(importFileResults.get(2).isParsed());
+        assertTrue(importFileResults.get(2).getError() instanceof UnknownHeaderException);
+        assertEquals(3, importFileResults.get(3).getParseResult().getTransactionClusters().size());
+        assertEquals(1, result.getFailedFileCount());
+        assertEquals(21, result.getTransactionClusterCount());
+        assertEquals(6, result.getParsingProblemCount(ParsingProblemType.PARSED_ROW_IGNORED));
+    }
+
+    @Test
+    void testParseGzipFile() throws IOException {
+        final File file = File.createTempFile("import", ".csv.gz");
+        file.deleteOnExit();
+        try (OutputStream outputStream = new GZIPOutputStream(new FileOutputStream(file))) {
+            outputStream.write(createKrakenContent(2).getBytes(StandardCharsets.UTF_8));
+        }
+        final ImportFile importFile = new ImportFile(file);
+        assertEquals(HEADER, importFile.getHeader());
+
+        final ParseResult result = new EverytradeCsvMultiParser().parse(file, "ignored header of a compressed file");
+        assertEquals(2, result.getTransactionClusters().size());
+        assertEquals(1, result.getParsingProblems().size());
+    }
+
+    @Test
+    void testParseZipFile() throws IOException {
+        final File file = createZipFile(
+            "kraken-1.csv", "\uFEFF" + createKrakenContent(2),
+            "trades/", "",
+            "__MACOSX/._kraken-1.csv", "unknown,header\n",
+            "trades/kraken-2.csv", createKrakenContent(3)
+        );
+        final ParseResult result = new EverytradeCsvMultiParser().parse(file, new ImportFile(file).getHeader());
+        assertEquals(5, result.getTransactionClusters().size());
+        assertEquals(2, result.getParsingProblems().size());
+    }
+
+    @Test
+    void testParseZipFileWithUnknownDocument() throws IOException {
+        final File file = createZipFile(
+            "kraken.csv", createKrakenContent(1),
+            "unknown.csv", "unknown,header\n1,2\n"
+        );
+        final UnknownHeaderException e = assertThrows(
+            UnknownHeaderException.class, () -> new EverytradeCsvMultiParser().parse(file, HEADER)
+        );
+        assertTrue(e.getMessage().contains("unknown.csv"));
+    }
+
+    @Test
+    void testParseInputStream() throws IOException {
+        final byte[] content = createKrakenContent(2).getBytes(StandardCharsets.UTF_16LE);
+        final InputStream inputStream = new ByteArrayInputStream(content);
+        final ParseResult result = new EverytradeCsvMultiParser().parse(inputStream, StandardCharsets.UTF_16LE, HEADER);
+        assertEquals(2, result.getTransactionClusters().size());
+        assertEquals(1, result.getParsingProblems().size());
+        // the stream stays open for the caller
+        assertEquals(-1, inputStream.read());
+    }
+
+    @Test
+    void testParseChannel() throws IOException {
+        final File file = createZipFile(
+            "kraken-1.csv", createKrakenContent(1),
+            "kraken-2.csv", createKrakenContent(4)
+        );
+        try (ReadableByteChannel channel = Channels.newChannel(Files.newInputStream(file.toPath()))) {
+            final ParseResult result = new EverytradeCsvMultiParser().parse(channel, null, HEADER);
+            assertEquals(5, result.getTransactionClusters().size());
+            assertEquals(2, result.getParsingProblems().size());
+        }
+    }
+
+    @Test
+    void testParseFileChannel() throws IOException {
+        final File zipFile = createZipFile(
+            "kraken-1.csv", createKrakenContent(1),
+            "kraken-2.csv", createKrakenContent(4)
+        );
+        try (FileChannel channel = FileChannel.open(zipFile.toPath(), StandardOpenOption.READ)) {
+            final ParseResult result = new EverytradeCsvMultiParser().parse(channel, HEADER);
+            assertEquals(5, result.getTransactionClusters().size());
+            assertEquals(2, result.getParsingProblems().size());
+        }
+        // the plain file is big enough to be memory-mapped from the channel
+        final File plainFile = createKrakenFile(20_000);
+        try (FileChannel channel = FileChannel.open(plainFile.toPath(), StandardOpenOption.READ)) {
+            final ParseResult result = new EverytradeCsvMultiParser().parse(channel, HEADER);
+            assertEquals(20_000, result.getTransactionClusters().size());
+            assertEquals(1, result.getParsingProblems().size());
+            assertTrue(channel.isOpen());
+        }
+    }
+
+    @Test
+    void testSuppressDuplicates() throws IOException {
+        // the second export repeats two trades of the first one, its unsupported row is ignored by the exchange parser
+        final File file = createZipFile(
+            "kraken-1.csv", createKrakenContent(3),
+            "kraken-2.csv", createKrakenContent(2)
+        );
+        final ParserOptions parserOptions = new ParserOptions(ParsingProblemPolicy.UNBOUNDED, true);
+        final ParseResult result = new EverytradeCsvMultiParser(parserOptions).parse(file, HEADER);
+        assertEquals(3, result.getTransactionClusters().size());
+        assertEquals(4, result.getParsingProblemCount(ParsingProblemType.PARSED_ROW_IGNORED));
+        assertEquals(
+            2,
+            result.getParsingProblems().stream().filter(p -> p.getMessage().equals("Duplicate row.")).count()
+        );
+
+        final ParseResult resultWithDuplicates = new EverytradeCsvMultiParser().parse(file, HEADER);
+        assertEquals(5, resultWithDuplicates.getTransactionClusters().size());
+    }
+
+    @Test
+    void testSuppressDuplicatesByUid() throws IOException {
+        // the second export repeats the first trade with a corrected fee, rows are identified by their txid
+        final File file = createZipFile(
+            "kraken-1.csv", createKrakenContent(2),
+            "kraken-2.csv", createKrakenContent(1).replace(",0.0493,0.002,0,,L0", ",0.0500,0.002,0,,L0")
+        );
+        final ParseResult result = new EverytradeCsvMultiParser(ParsingProblemPolicy.UNBOUNDED, 1, 1, true)
+            .parse(file, HEADER);
+        assertEquals(2, result.getTransactionClusters().size());
+        assertEquals(
+            1,
+            result.getParsingProblems().stream().filter(p -> p.getMessage().equals("Duplicate row.")).count()
+        );
+    }
+
+    @Test
+    void testSuppressDuplicatesOfConvertedRowsOnly() throws IOException {
+        // the first export has an unsupported pair in the first trade, the second export repeats it corrected
+        final File file = createZipFile(
+            "kraken-1.csv", createKrakenContent(2).replace("T0,O0,XXBTZUSD,", "T0,O0,ZUSDZEUR,"),
+            "kraken-2.csv", createKrakenContent(1)
+        );
+        final ParseResult result = new EverytradeCsvMultiParser(ParsingProblemPolicy.UNBOUNDED, 1, 1, true)
+            .parse(file, HEADER);
+        assertEquals(2, result.getTransactionClusters().size());
+        assertEquals("T0", result.getTransactionClusters().get(1).getMain().getUid());
+        assertEquals(1, result.getParsingProblemCount(ParsingProblemType.ROW_PARSING_FAILED));
+        assertEquals(
+            0,
+            result.getParsingProblems().stream().filter(p -> p.getMessage().equals("Duplicate row.")).count()
+        );
+    }
+
+    @Test
+    void testRowFingerprintOfOrderIds() {
+        final String[] row = {"O1", "2020-01-01", "BTC/USD", "BUY", "1"};
+        final BitmexBeanV1 firstFill = new BitmexBeanV1();
+        firstFill.setRowValues(row);
+        firstFill.setOrderID("O1");
+        final BitmexBeanV1 secondFill = new BitmexBeanV1();
+        secondFill.setRowValues(new String[]{"O1", "2020-01-01", "BTC/USD", "BUY", "2"});
+        secondFill.setOrderID("O1");
+        // partial fills of one order are told apart by their content
+        assertNull(firstFill.getUid());
+        assertNotEquals(firstFill.rowFingerprint(), secondFill.rowFingerprint());
+
+        // equal ids or values of different exports do not collide
+        final OkexBeanV1 okexBean = new OkexBeanV1();
+        okexBean.setRowValues(row);
+        okexBean.setTradeID("1");
+        final CoinmateBeanV1 coinmateBean = new CoinmateBeanV1();
+        coinmateBean.setRowValues(row);
+        coinmateBean.setId("1");
+        assertNotEquals(okexBean.rowFingerprint(), coinmateBean.rowFingerprint());
+        assertNotEquals(okexBean.contentFingerprint(), coinmateBean.contentFingerprint());
+    }
+
+    @Test
+    void testParseIncrementally() throws IOException {
+        final EverytradeCsvMultiParser parser = new EverytradeCsvMultiParser();
+        final IncrementalParseResult firstImport = parser.parseIncrementally(
+            createKrakenFile(2), HEADER, ImportToken.EMPTY
+        );
+        assertEquals(2, firstImport.getParseResult().getTransactionClusters().size());
+        assertEquals(0, firstImport.getSkippedRowCount());
+        assertEquals(2, firstImport.getImportToken().getRowCount());
+
+        // the grown export is imported with the stored token
+        final ImportToken storedToken = ImportToken.fromBytes(firstImport.getImportToken().toBytes());
+        final IncrementalParseResult secondImport = parser.parseIncrementally(
+            createKrakenFile(5), HEADER, storedToken
+        );
+        assertEquals(3, secondImport.getParseResult().getTransactionClusters().size());
+        assertEquals("T2", secondImport.getParseResult().getTransactionClusters().get(0).getMain().getUid());
+        assertEquals(2, secondImport.getSkippedRowCount());
+        assertEquals(5, secondImport.getImportToken().getRowCount());
+        // the unsupported row is not imported, so it is reported again
+        assertEquals(1, secondImport.getParseResult().getParsingProblems().size());
+    }
+
+    @Test
+    void testParseIncrementallyNewFillOfImportedOrder() throws IOException {
+        final String header = "\"transactTime\",\"symbol\",\"execType\",\"side\",\"lastQty\",\"lastPx\",\"execCost\","
+            + "\"commission\",\"execComm\",\"ordType\",\"orderQty\",\"leavesQty\",\"price\",\"text\",\"orderID\"";
+        final String firstFill = "\"1/24/2020, 5:48:15 PM\",\"XBTUSD\",\"Trade\",\"Sell\",\"100\",\"8470.5\","
+            + "\"1180560\",\"0.00075\",\"885\",\"Limit\",\"170\",\"70\",\"8400\",\"\",\"2da-01\"\n";
+        final String secondFill = "\"1/24/2020, 5:49:15 PM\",\"XBTUSD\",\"Trade\",\"Sell\",\"70\",\"8470.5\","
+            + "\"826392\",\"0.00075\",\"620\",\"Limit\",\"170\",\"0\",\"8400\",\"\",\"2da-01\"\n";
+        final EverytradeCsvMultiParser parser = new EverytradeCsvMultiParser();
+        final IncrementalParseResult firstImport = parser.parseIncrementally(
+            createFile(header + "\n" + firstFill), header, ImportToken.EMPTY
+        );
+        assertEquals(1, firstImport.getParseResult().getTransactionClusters().size());
+
+        // the second fill of the imported order is new, the rows are recognized by their content
+        final IncrementalParseResult secondImport = parser.parseIncrementally(
+            createFile(header + "\n" + firstFill + secondFill), header, firstImport.getImportToken()
+        );
+        assertEquals(1, secondImport.getParseResult().getTransactionClusters().size());
+        assertEquals(1, secondImport.getSkippedRowCount());
+        assertEquals(0, secondImport.getParseResult().getParsingProblems().size());
+    }
+
+    @Test
+    void testParseIncrementallyChangedRow() throws IOException {
+        final EverytradeCsvMultiParser parser = new EverytradeCsvMultiParser();
+        final ImportToken priorImport = parser.parseIncrementally(createKrakenFile(2), HEADER, ImportToken.EMPTY)
+            .getImportToken();
+        // the first trade was re-exported with a corrected fee, it is imported again
+        final IncrementalParseResult result = parser.parseIncrementally(
+            createFile(createKrakenContent(2).replace(",0.0493,0.002,0,,L0", ",0.0500,0.002,0,,L0")),
+            HEADER,
+            priorImport
+        );
+        assertEquals(1, result.getParseResult().getTransactionClusters().size());
+        assertEquals("T0", result.getParseResult().getTransactionClusters().get(0).getMain().getUid());
+        assertEquals(1, result.getSkippedRowCount());
+    }
+
+    @Test
+    void testDefaultParseIncrementally() throws IOException {
+        final ICsvParser delegate = new EverytradeCsvMultiParser();
+        final ICsvParser parser = new ICsvParser() {
+            @Override
+            public String getId() {
+                return delegate.getId();
+            }
+
+            @Override
+            public ParseResult parse(File file, String header) {
+                return delegate.parse(file, header);
+            }
+        };
+        final ImportToken priorImport = delegate.parseIncrementally(createKrakenFile(2), HEADER, ImportToken.EMPTY)
+            .getImportToken();
+        // the default implementation parses the whole file and does not record the rows
+        final IncrementalParseResult result = parser.parseIncrementally(createKrakenFile(3), HEADER, priorImport);
+        assertEquals(3, result.getParseResult().getTransactionClusters().size());
+        assertEquals(0, result.getSkippedRowCount());
+        assertEquals(ImportToken.EMPTY, result.getImportToken());
+    }
+
+    @Test
+    void testEstimateDecompressedSize() throws IOException {
+        final String content = createKrakenContent(100);
+        final long contentSize = content.getBytes(StandardCharsets.UTF_8).length;
+        final File plainFile = createFile(content);
+        assertEquals(contentSize, CsvFileEntries.estimateDecompressedSize(plainFile));
+
+        final File gzipFile = File.createTempFile("import", ".csv.gz");
+        gzipFile.deleteOnExit();
+        try (OutputStream outputStream = new GZIPOutputStream(new FileOutputStream(gzipFile))) {
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        assertTrue(gzipFile.length() < contentSize);
+        assertEquals(contentSize, CsvFileEntries.estimateDecompressedSize(gzipFile));
+
+        final File zipFile = createZipFile(
+            "kraken-1.csv", content,
+            "trades/", "",
+            "kraken-2.csv", content
+        );
+        assertEquals(2 * contentSize, CsvFileEntries.estimateDecompressedSize(zipFile));
+    }
+
+    private static File createKrakenFile(int rowCount) throws IOException {
+        return createFile(createKrakenContent(rowCount));
+    }
+
+    // rows of valid trades followed by a row of an unsupported type
+    private static String createKrakenContent(int rowCount) {
+        final StringBuilder content = new StringBuilder(HEADER).append('\n');
+        for (int i = 0; i < rowCount; i++) {
+            content.append(String.format(
+                "T%d,O%d,XXBTZUSD,2019-07-29 17:04:41,buy,limit,9480.3,18.9606,0.0493,0.002,0,,L%d\n", i, i, i
+            ));
+        }
+        content.append("TX,OX,XXBTZUSD,2019-07-29 17:04:41,sold,limit,9480.3,18.9606,0.0493,0.002,0,,LX\n");
+        return content.toString();
+    }
+
+    // pairs of entry name and content, names ending with a slash are directories
+    private static File createZipFile(String... entries) throws IOException {
+        final File file = File.createTempFile("import", ".zip");
+        file.deleteOnExit();
+        try (ZipOutputStream outputStream = new ZipOutputStream(new FileOutputStream(file))) {
+            for (int i = 0; i < entries.length; i += 2) {
+                outputStream.putNextEntry(new ZipEntry(entries[i]));
+                outputStream.write(entries[i + 1].getBytes(StandardCharsets.UTF_8));
+                outputStream.closeEntry();
+            }
+        }
+        return file;
+    }
+
+    private static File createFile(String content) throws IOException {
+        final File file = File.createTempFile("batch", ".csv");
+        file.deleteOnExit();
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.append(content);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,50 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongHashSetTest {
+
+    @Test
+    void testAdd() {
+        final LongHashSet set = new LongHashSet();
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(-1));
+        assertTrue(set.add(Long.MIN_VALUE));
+        assertFalse(set.add(Long.MIN_VALUE));
+        assertTrue(set.contains(0));
+        assertFalse(set.contains(1));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    void testGrowthKeepsValues() {
+        final LongHashSet set = new LongHashSet(0);
+        final Set<Long> expected = new HashSet<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            // sequential values collide in the low bits without mixing
+            final long value = i % 2 == 0 ? random.nextLong() : (long) i << 32;
+            assertEquals(expected.add(value), set.add(value));
+        }
+        assertEquals(expected.size(), set.size());
+        for (long value : expected) {
+            assertTrue(set.contains(value));
+        }
+        assertTrue(set.capacity() <= 4 * expected.size());
+    }
+
+    @Test
+    void testIllegalExpectedSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(-1));
+    }
+}
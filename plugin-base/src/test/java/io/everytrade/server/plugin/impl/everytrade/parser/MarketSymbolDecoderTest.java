@@ -0,0 +1,55 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+import com.univocity.parsers.common.DataValidationException;
+import io.everytrade.server.model.Currency;
+import io.everytrade.server.model.CurrencyPair;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MarketSymbolDecoderTest {
+    private static final MarketSymbolDecoder TRADEABLE_DECODER = new MarketSymbolDecoder(
+        MarketSymbolDecoder.currencyCodes(Map.of("XBT", Currency.BTC, "XXBT", Currency.BTC, "ZUSD", Currency.USD)),
+        CurrencyPair::isTradeable
+    );
+
+    @Test
+    void testDecode() {
+        assertSame(CurrencyPair.of(Currency.BTC, Currency.USDT), TRADEABLE_DECODER.decode("BTCUSDT"));
+        assertSame(CurrencyPair.of(Currency.BTC, Currency.USDT), TRADEABLE_DECODER.decode("XBTUSDT"));
+        assertSame(CurrencyPair.of(Currency.BTC, Currency.USD), TRADEABLE_DECODER.decode("XXBTZUSD"));
+        assertSame(CurrencyPair.of(Currency.USDT, Currency.USD), TRADEABLE_DECODER.decode("USDTZUSD"));
+        assertSame(CurrencyPair.of(Currency._1INCH, Currency.USDT), TRADEABLE_DECODER.decode("1INCHUSDT"));
+    }
+
+    @Test
+    void testUnknownSymbol() {
+        assertNull(TRADEABLE_DECODER.decode(""));
+        assertNull(TRADEABLE_DECODER.decode("BTC"));
+        assertNull(TRADEABLE_DECODER.decode("BTCXYZ"));
+        assertNull(TRADEABLE_DECODER.decode("XYZBTC"));
+        // not tradeable
+        assertNull(TRADEABLE_DECODER.decode("BTCETH"));
+        // fiat base and crypto quote
+        assertNull(new MarketSymbolDecoder(MarketSymbolDecoder.currencyCodes(Map.of()), (base, quote) -> true).decode("USDBTC"));
+    }
+
+    @Test
+    void testAmbiguousSplit() {
+        final MarketSymbolDecoder decoder = new MarketSymbolDecoder(
+            Map.of("A", Currency.BTC, "AB", Currency.ETH, "BC", Currency.USD, "C", Currency.EUR), (base, quote) -> true
+        );
+        assertSame(CurrencyPair.of(Currency.BTC, Currency.EUR), decoder.decode("AC"));
+        assertThrows(DataValidationException.class, () -> decoder.decode("ABC"));
+        // only one of the splits is accepted
+        final MarketSymbolDecoder filteringDecoder = new MarketSymbolDecoder(
+            Map.of("A", Currency.BTC, "AB", Currency.ETH, "BC", Currency.USD, "C", Currency.EUR),
+            (base, quote) -> quote == Currency.USD
+        );
+        assertSame(CurrencyPair.of(Currency.BTC, Currency.USD), filteringDecoder.decode("ABC"));
+    }
+}
@@ -0,0 +1,110 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimestampParserTest {
+
+    @Test
+    void testYearMonthDayTime() {
+        checkSameAsFormatter(
+            "yyyy-MM-dd HH:mm:ss",
+            List.of("2020-05-28 15:03:21", "2020-02-29 00:00:00", "1999-12-31 23:59:59", "2021-02-29 10:00:00",
+                "2020-05-28 24:00:00")
+        );
+        checkSameAsFormatterThrows("yyyy-MM-dd HH:mm:ss", List.of("2020-05-28 15:03", "2020-5-28 15:03:21", ""));
+    }
+
+    @Test
+    void testDayMonthYearTime() {
+        checkSameAsFormatter("dd.MM.yyyy HH:mm", List.of("28.05.2020 15:03", "01.01.2021 00:00"));
+        checkSameAsFormatterThrows("dd.MM.yyyy HH:mm", List.of("28.05.2020 15:03:00", "32.05.2020 15:03"));
+    }
+
+    @Test
+    void testMonthDayYearTimeAmPm() {
+        checkSameAsFormatter(
+            "M/d/yy h:mm a",
+            List.of("5/8/20 3:03 PM", "12/31/19 12:59 AM", "12/31/19 12:59 PM", "1/1/20 11:00 AM", "05/08/20 03:03 PM")
+        );
+        checkSameAsFormatterThrows("M/d/yy h:mm a", List.of("5/8/20 13:03 PM", "5/8/20 3:03", "5/8/2020 3:03 PM"));
+    }
+
+    @Test
+    void testSecondsFraction() {
+        final DateTimeFormatter formatter = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 4, true)
+            .toFormatter(Locale.US)
+            .withZone(ZoneOffset.UTC);
+        final TimestampParser parser = new TimestampParser("yyyy-MM-dd HH:mm:ss", formatter, 4);
+        for (String value : List.of("2020-05-28 15:03:21", "2020-05-28 15:03:21.1", "2020-05-28 15:03:21.1234")) {
+            assertEquals(formatter.parse(value, Instant::from), parser.parse(value));
+        }
+        assertThrows(DateTimeParseException.class, () -> parser.parse("2020-05-28 15:03:21.12345"));
+        assertThrows(
+            DateTimeParseException.class, () -> TimestampParser.ofPattern("yyyy-MM-dd HH:mm:ss").parse("2020-05-28 15:03:21.1")
+        );
+    }
+
+    @Test
+    void testIsoOffsetDateTime() {
+        for (String value : List.of(
+            "2020-05-28T15:03:21Z", "2020-05-28T15:03:21.123456789Z", "2020-05-28T15:03:21+02:00",
+            "2020-05-28T00:03:21.5-05:30", "2020-05-28t15:03:21z", "2020-05-28T15:03:21+18:00", "2020-05-28T15:03:21-18:00"
+        )) {
+            assertEquals(
+                DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(value, Instant::from),
+                TimestampParser.ISO_OFFSET_DATE_TIME.parse(value)
+            );
+        }
+        assertEquals(Instant.parse("2020-05-28T15:03:21Z"), TimestampParser.ISO_OFFSET_DATE_TIME.parse("2020-05-28T15:03:21Z"));
+        assertThrows(DateTimeParseException.class, () -> TimestampParser.ISO_OFFSET_DATE_TIME.parse("2020-05-28T15:03:21"));
+        for (String value : List.of("2020-05-28T15:03:21+18:01", "2020-05-28T15:03:21-18:59")) {
+            assertThrows(DateTimeParseException.class, () -> DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(value), value);
+            assertThrows(DateTimeParseException.class, () -> TimestampParser.ISO_OFFSET_DATE_TIME.parse(value), value);
+        }
+    }
+
+    @Test
+    void testOtherPattern() {
+        checkSameAsFormatter("MMM. dd, yyyy, hh:mm a", List.of("May. 28, 2020, 03:03 PM"));
+    }
+
+    @Test
+    void testTryParse() {
+        final TimestampParser parser = TimestampParser.ofPattern("MMM. dd, yyyy, hh:mm a");
+        assertEquals(Instant.parse("2020-05-28T15:03:00Z"), parser.tryParse("May. 28, 2020, 03:03 PM"));
+        assertNull(parser.tryParse("2020-05-28 15:03:21"));
+        assertNull(parser.tryParse("May. 28, 2020, 03:03 PM extra"));
+        assertNull(parser.tryParse("Feb. 30, 2021, 13:03 PM"));
+        assertNull(TimestampParser.ofPattern("yyyy-MM-dd HH:mm:ss").tryParse("5/8/20 3:03 PM"));
+    }
+
+    private void checkSameAsFormatter(String pattern, List<String> values) {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, Locale.US).withZone(ZoneOffset.UTC);
+        for (String value : values) {
+            assertEquals(formatter.parse(value, Instant::from), TimestampParser.ofPattern(pattern).parse(value), value);
+        }
+    }
+
+    private void checkSameAsFormatterThrows(String pattern, List<String> values) {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, Locale.US).withZone(ZoneOffset.UTC);
+        for (String value : values) {
+            assertThrows(DateTimeParseException.class, () -> formatter.parse(value, Instant::from), value);
+            assertThrows(DateTimeParseException.class, () -> TimestampParser.ofPattern(pattern).parse(value), value);
+        }
+    }
+}
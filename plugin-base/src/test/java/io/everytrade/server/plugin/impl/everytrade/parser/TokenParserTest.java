@@ -0,0 +1,81 @@
+package io.everytrade.server.plugin.impl.everytrade.parser;
+
+import com.univocity.parsers.common.DataValidationException;
+import io.everytrade.server.model.Currency;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenParserTest {
+
+    @Test
+    void testCurrencyToken() {
+        assertEquals(Currency.BTC, TokenParser.currencyToken("BTC/USD", '/', 0));
+        assertEquals(Currency.USD, TokenParser.currencyToken("BTC/USD", '/', 1));
+        assertEquals(Currency.BTC, TokenParser.currencyToken("0.5 BTC", ' ', 1));
+        assertEquals(Currency.LTC, TokenParser.currencyToken("ltc_btc", '_', 0, true));
+    }
+
+    @Test
+    void testCurrencyTokenErrors() {
+        assertThrows(DataValidationException.class, () -> TokenParser.currencyToken("BTC", '/', 1));
+        assertThrows(IllegalArgumentException.class, () -> TokenParser.currencyToken("BTC/XYZ", '/', 1));
+        assertThrows(IllegalArgumentException.class, () -> TokenParser.currencyToken("btc/usd", '/', 0));
+    }
+
+    @Test
+    void testAmount() {
+        assertEquals(new BigDecimal("0.5"), TokenParser.amountToken("0.5 BTC", ' ', 0));
+        assertEquals(new BigDecimal("1234.5"), TokenParser.amount("1,234.5$"));
+        assertEquals(new BigDecimal("-12.25"), TokenParser.amount(" -12.25 "));
+        assertEquals(new BigDecimal("0.1"), TokenParser.amount("0.1BTC", 0, 3));
+        assertNull(TokenParser.amount("$"));
+        assertThrows(NumberFormatException.class, () -> TokenParser.amount("1.2.3"));
+    }
+
+    @Test
+    void testAmountTokenIsStrict() {
+        assertNull(TokenParser.amountToken(" BTC", ' ', 0));
+        assertEquals(new BigDecimal("-12.25"), TokenParser.amountToken("BTC -12.25", ' ', 1));
+        assertThrows(NumberFormatException.class, () -> TokenParser.amountToken("1,234.5 BTC", ' ', 0));
+        assertThrows(NumberFormatException.class, () -> TokenParser.amountToken("5$ BTC", ' ', 0));
+        assertThrows(NumberFormatException.class, () -> TokenParser.amountToken("1\t5 BTC", ' ', 0));
+    }
+
+    @Test
+    void testLongAmount() {
+        final String value = "1" + "0".repeat(100) + ".5";
+        assertEquals(new BigDecimal(value), TokenParser.amount(value));
+    }
+
+    @Test
+    void testAmountSameAsBigDecimal() {
+        for (String value : new String[]{"0", "-0.0", "+1.50", ".5", "5.", "0.00000001", "-123456789.123456789",
+            "922337203685477580.7", "9223372036854775807", "9223372036854775808", "-99999999999999999999.99",
+            "1E+3", "1.5e-2"}) {
+            final BigDecimal expected = new BigDecimal(value);
+            final BigDecimal actual = TokenParser.amount(value);
+            assertEquals(expected, actual, value);
+            assertEquals(expected.scale(), actual.scale(), value);
+        }
+    }
+
+    @Test
+    void testIllegalAmount() {
+        for (String value : new String[]{"-", ".", "1-2", "--1", "1.2.3", "1a"}) {
+            assertThrows(NumberFormatException.class, () -> TokenParser.amount(value), value);
+        }
+    }
+
+    @Test
+    void testCurrencySuffix() {
+        assertEquals(Currency.BTC, TokenParser.currencySuffix("0.0012BTC"));
+        assertEquals(Currency.USDT, TokenParser.currencySuffix("1.5USDT"));
+        assertNull(TokenParser.currencySuffix("1.5"));
+        assertNull(TokenParser.currencySuffix(""));
+    }
+}
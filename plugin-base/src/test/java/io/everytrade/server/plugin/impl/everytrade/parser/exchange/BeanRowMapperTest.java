@@ -0,0 +1,109 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+import com.univocity.parsers.annotations.Convert;
+import com.univocity.parsers.annotations.Parsed;
+import com.univocity.parsers.common.DataProcessingException;
+import io.everytrade.server.plugin.impl.everytrade.parser.exception.DataIgnoredException;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.BigDecimalConverter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanRowMapperTest {
+
+    @Test
+    void testRowMapped() {
+        final IRowMapper<TestBean> mapper = BeanRowMapper.create(
+            TestBean.class, new String[]{"Amount", " id ", "Ignored", "Price"}, null, false
+        );
+        assertNotNull(mapper);
+        final TestBean bean = mapper.map(new String[]{"1,234.5$", "X1", "abc", null});
+        assertEquals("X1", bean.id);
+        assertEquals(new BigDecimal("1234.5"), bean.amount);
+        assertEquals(BigDecimal.ZERO, bean.price);
+        assertEquals(new BigDecimal("7"), bean.fee);
+    }
+
+    @Test
+    void testShortRowMapped() {
+        final IRowMapper<TestBean> mapper = BeanRowMapper.create(
+            TestBean.class, new String[]{"ID", "Amount", "Price"}, null, false
+        );
+        final TestBean bean = mapper.map(new String[]{"X1", "2"});
+        assertEquals(new BigDecimal("2"), bean.amount);
+        assertEquals(BigDecimal.ZERO, bean.price);
+    }
+
+    @Test
+    void testSelectedColumnsMapped() {
+        final IRowMapper<TestBean> mapper = BeanRowMapper.create(
+            TestBean.class, new String[]{"Ignored", "ID", "Amount"}, new int[]{2, 1}, true
+        );
+        final TestBean bean = mapper.map(new String[]{"3", "X1"});
+        assertEquals("X1", bean.id);
+        assertEquals(new BigDecimal("3"), bean.amount);
+    }
+
+    @Test
+    void testErrors() {
+        final IRowMapper<TestBean> mapper = BeanRowMapper.create(
+            TestBean.class, new String[]{"ID", "Amount"}, null, false
+        );
+        final DataProcessingException conversionError = assertThrows(
+            DataProcessingException.class, () -> mapper.map(new String[]{"X1", "1x"})
+        );
+        assertEquals(1, conversionError.getColumnIndex());
+
+        final DataIgnoredException ignored = assertThrows(
+            DataIgnoredException.class, () -> mapper.map(new String[]{"IGNORED", "1"})
+        );
+        assertTrue(ignored.getMessage().contains("Unable to set value 'IGNORED'"));
+    }
+
+    @Test
+    void testUnsupportedBean() {
+        assertNull(BeanRowMapper.create(FieldBean.class, new String[]{"ID"}, null, false));
+    }
+
+    public static class TestBean {
+        private String id;
+        private BigDecimal amount;
+        private BigDecimal price;
+        private BigDecimal fee;
+
+        @Parsed(field = "ID")
+        public void setId(String value) {
+            if ("IGNORED".equals(value)) {
+                throw new DataIgnoredException("Ignored id.");
+            }
+            id = value;
+        }
+
+        @Parsed(field = "Amount")
+        @Convert(conversionClass = BigDecimalConverter.class)
+        public void setAmount(BigDecimal value) {
+            amount = value;
+        }
+
+        @Parsed(field = "Price", defaultNullRead = "0")
+        public void setPrice(BigDecimal value) {
+            price = value;
+        }
+
+        @Parsed(field = "Fee", defaultNullRead = "7")
+        public void setFee(BigDecimal value) {
+            fee = value;
+        }
+    }
+
+    public static class FieldBean {
+        @Parsed(field = "ID")
+        private String id;
+    }
+}
@@ -0,0 +1,134 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+import io.everytrade.server.plugin.api.parser.ParsingProblem;
+import io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean.KrakenBeanV1;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultUnivocityExchangeSpecificParserTest {
+    private static final String HEADER
+        = "txid,ordertxid,pair,time,type,ordertype,price,cost,fee,vol,margin,misc,ledgers\n";
+    private static final int ROW_COUNT = 1000;
+
+    @Test
+    void testParallelParsingKeepsOrderAndRowNumbers() throws IOException {
+        final File file = createTestFile();
+        final DefaultUnivocityExchangeSpecificParser sequentialParser
+            = new DefaultUnivocityExchangeSpecificParser(KrakenBeanV1.class);
+        final DefaultUnivocityExchangeSpecificParser parallelParser
+            = new DefaultUnivocityExchangeSpecificParser(KrakenBeanV1.class, ",", null, 4, 1024);
+
+        final ExchangeParseResult expected = sequentialParser.parse(file);
+        final List<ExchangeBean> expectedBeans = expected.getExchangeBeans();
+        final List<ParsingProblem> expectedProblems = expected.getParsingProblems();
+        final ExchangeParseResult actual = parallelParser.parse(file);
+        final List<ExchangeBean> actualBeans = actual.getExchangeBeans();
+        final List<ParsingProblem> actualProblems = actual.getParsingProblems();
+
+        assertTrue(CsvFileSplitter.split(file, ',', '"', 1024).size() > 2);
+        assertEquals(ROW_COUNT - ROW_COUNT / 10, expectedBeans.size());
+        assertEquals(expectedBeans.size(), actualBeans.size());
+        for (int i = 0; i < expectedBeans.size(); i++) {
+            assertEquals(expectedBeans.get(i).rowToString(), actualBeans.get(i).rowToString());
+        }
+        assertEquals(expectedProblems.size(), actualProblems.size());
+        for (int i = 0; i < expectedProblems.size(); i++) {
+            assertEquals(expectedProblems.get(i).getRow(), actualProblems.get(i).getRow());
+            // parser's internal state appended to the message is relative to the parsed chunk
+            assertEquals(firstLine(expectedProblems.get(i).getMessage()), firstLine(actualProblems.get(i).getMessage()));
+        }
+    }
+
+    @Test
+    void testParallelParsingKeepsInterleaving() throws IOException {
+        final File file = createTestFile();
+        final List<String> expected = parseEvents(new DefaultUnivocityExchangeSpecificParser(KrakenBeanV1.class), file);
+        final List<String> actual = parseEvents(
+            new DefaultUnivocityExchangeSpecificParser(KrakenBeanV1.class, ",", null, 4, 1024), file
+        );
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testRowNumberIsFileLine() throws IOException {
+        final File file = createTestFile();
+        final List<ExchangeBean> beans = new DefaultUnivocityExchangeSpecificParser(KrakenBeanV1.class, ",", null, 4, 1024)
+            .parse(file)
+            .getExchangeBeans();
+        // row number is the last line of the record, each third row contains a two-line ledger value
+        assertTrue(beans.get(0).rowToString().startsWith("line=3, T0,"));
+        assertTrue(beans.get(5).rowToString().startsWith("line=9, T5,"));
+    }
+
+    @Test
+    void testSharedParserParsesConcurrently() throws Exception {
+        final File file = createTestFile();
+        final DefaultUnivocityExchangeSpecificParser parser = new DefaultUnivocityExchangeSpecificParser(KrakenBeanV1.class);
+        final List<String> expected = parseRows(parser, file);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> parseRows(parser, file)));
+            }
+            for (Future<List<String>> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> parseRows(IExchangeSpecificParser parser, File file) {
+        final List<String> rows = new ArrayList<>();
+        parser.parse(
+            file,
+            exchangeBean -> rows.add(exchangeBean.rowToString() + exchangeBean.toTransactionCluster().getMain().getUid()),
+            parsingProblem -> rows.add(parsingProblem.getRow())
+        );
+        return rows;
+    }
+
+    private List<String> parseEvents(IExchangeSpecificParser parser, File file) {
+        final List<String> events = new ArrayList<>();
+        parser.parse(
+            file,
+            exchangeBean -> events.add("bean " + exchangeBean.getRowNumber()),
+            parsingProblem -> events.add("problem " + parsingProblem.getRow())
+        );
+        return events;
+    }
+
+    private String firstLine(String value) {
+        return value.lines().findFirst().orElse("");
+    }
+
+    private File createTestFile() throws IOException {
+        final File file = File.createTempFile("parsertest", "csv");
+        file.deleteOnExit();
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.append(HEADER);
+            for (int i = 0; i < ROW_COUNT; i++) {
+                final String type = i % 10 == 9 ? "sold" : "buy";
+                final String ledgers = i % 3 == 0 ? "\"L" + i + ",\nJX\"" : "L" + i;
+                writer.append(String.format(
+                    "T%d,O%d,XXBTZUSD,2019-07-29 17:04:41,%s,limit,9480.3,18.9606,\"0.0493\",0.002,0,,%s\n",
+                    i, i, type, ledgers
+                ));
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,42 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HeaderReplacingReaderTest {
+
+    @Test
+    void testHeaderReplaced() throws IOException {
+        assertEquals("A,B\n1,2\n3,4\n", read("USD A,USD B\n1,2\n3,4\n", 1024));
+        assertEquals("A,B\r\n1,2\r\n", read("USD A,USD B\r\n1,2\r\n", 1024));
+    }
+
+    @Test
+    void testSmallBuffer() throws IOException {
+        assertEquals("A,B\n1,2\n3,4\n", read("USD A,USD B\n1,2\n3,4\n", 1));
+        assertEquals("A,B\n1,2\n3,4\n", read("USD A,USD B\n1,2\n3,4\n", 2));
+    }
+
+    @Test
+    void testHeaderOnly() throws IOException {
+        assertEquals("A,B", read("USD A,USD B", 1024));
+        assertEquals("A,B", read("", 1024));
+    }
+
+    private static String read(String content, int bufferSize) throws IOException {
+        final StringBuilder result = new StringBuilder();
+        try (Reader reader = new HeaderReplacingReader(new StringReader(content), "A,B")) {
+            final char[] buffer = new char[bufferSize];
+            int count;
+            while ((count = reader.read(buffer, 0, bufferSize)) >= 0) {
+                result.append(buffer, 0, count);
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedFileReaderTest {
+    private static final String BOM = "\uFEFF";
+    private static final String CONTENT = "Date,Pair,Amount\n2020-01-01,BTC/€,1.5 ₿\n";
+
+    @Test
+    void testBomIsSkipped() throws IOException {
+        final File file = createTestFile(BOM + CONTENT);
+        try (Reader reader = new MappedFileReader(file)) {
+            assertEquals(CONTENT, read(reader));
+        }
+        try (Reader reader = MappedFileReader.open(file)) {
+            assertEquals(CONTENT, read(reader));
+        }
+    }
+
+    @Test
+    void testCharactersSplitBetweenRegions() throws IOException {
+        final File file = createTestFile(CONTENT);
+        // the smallest region size splits the multi-byte characters
+        try (Reader reader = new MappedFileReader(file, 0, file.length(), 4)) {
+            assertEquals(CONTENT, read(reader));
+        }
+    }
+
+    @Test
+    void testRange() throws IOException {
+        final File file = createTestFile(BOM + CONTENT);
+        final int start = (BOM + "Date,Pair,Amount\n").getBytes(StandardCharsets.UTF_8).length;
+        try (Reader reader = new MappedFileReader(file, start, file.length())) {
+            assertEquals("2020-01-01,BTC/€,1.5 ₿\n", read(reader));
+        }
+    }
+
+    @Test
+    void testSharedChannel() throws IOException {
+        final File file = createTestFile(BOM + CONTENT);
+        final int start = (BOM + "Date,Pair,Amount\n").getBytes(StandardCharsets.UTF_8).length;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            try (Reader reader = MappedFileReader.open(channel)) {
+                assertEquals(CONTENT, read(reader));
+            }
+            try (Reader reader = new MappedFileReader(channel, start, channel.size())) {
+                assertEquals("2020-01-01,BTC/€,1.5 ₿\n", read(reader));
+            }
+            // the readers neither close the channel nor move its position
+            assertTrue(channel.isOpen());
+            assertEquals(0, channel.position());
+        }
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        final File file = createTestFile("");
+        try (Reader reader = new MappedFileReader(file)) {
+            assertEquals(-1, reader.read());
+        }
+    }
+
+    private String read(Reader reader) throws IOException {
+        final StringWriter writer = new StringWriter();
+        reader.transferTo(writer);
+        return writer.toString();
+    }
+
+    private File createTestFile(String content) throws IOException {
+        final File file = File.createTempFile("parsertest", "csv");
+        file.deleteOnExit();
+        Files.writeString(file.toPath(), content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -263,4 +263,27 @@ class BinanceBeanV2Test {
             = ParserTestUtils.getParsingProblem(HEADER_CORRECT + row0 + row1 + row2);
         assertTrue(parsingProblem.getMessage().contains(ExchangeBean.UNSUPPORTED_STATUS_TYPE.concat("Cancel")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTransactionClusterProblemHasRow() {
+        final String row0 = "2020-03-19 17:02:52;BTCUSDT;BUY;0.0;0.041600;6236.39;0.041600;259.44;Filled\n";
+        final String row1 = ";Date(UTC);Trading Price;Filled;Total;Fee;;;\n";
+        final String row2 = ";2020-03-19 17:02:52;6236.39;-0.041600;259.43382400;0.01612653BNB;;;\n";
+
+        final ParsingProblem parsingProblem
+            = ParserTestUtils.getParsingProblem(HEADER_CORRECT + row0 + row1 + row2);
+        assertTrue(parsingProblem.getMessage().contains(ExchangeBean.ILLEGAL_NEGATIVE_VALUES));
+        assertTrue(parsingProblem.getRow().startsWith("line=4, 2020-03-19 17:02:52, BTCUSDT, BUY, -0.041600"));
+    }
+
+    @Test
+    void testEmptyFilled() {
+        final String row0 = "2020-03-19 17:02:52;BTCUSDT;BUY;0.0;0.041600;6236.39;0.041600;259.44;Filled\n";
+        final String row1 = ";Date(UTC);Trading Price;Filled;Total;Fee;;;\n";
+        final String row2 = ";2020-03-19 17:02:52;6236.39;$;259.43382400;0.01612653BNB;;;\n";
+
+        final ParsingProblem parsingProblem
+            = ParserTestUtils.getParsingProblem(HEADER_CORRECT + row0 + row1 + row2);
+        assertTrue(parsingProblem.getMessage().contains("Filled can not be null or empty."));
+    }
+}
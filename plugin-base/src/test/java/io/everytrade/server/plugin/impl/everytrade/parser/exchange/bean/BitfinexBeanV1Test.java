@@ -291,4 +291,13 @@ class BitfinexBeanV1Test {
         final TransactionCluster transactionCluster = ParserTestUtils.getTransactionCluster(HEADER_CORRECT + row);
         assertEquals(1, transactionCluster.getIgnoredFeeTransactionCount());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDatePatternInferredFromFollowingRows() {
+        // the first date fits several patterns, the second one only MM-dd-yy
+        final String row0 = "0,BTC/USD,0.01048537,9212.82428,-0.00002097,BTC,04-02-20 16:52:06,1\n";
+        final String row1 = "1,BTC/USD,0.01048537,9212.82428,-0.00002097,BTC,04-13-20 16:52:06,2\n";
+        final TransactionCluster actual = ParserTestUtils.getTransactionCluster(HEADER_CORRECT + row0 + row1);
+        assertEquals(Instant.parse("2020-04-02T16:52:06Z"), actual.getMain().getExecuted());
+    }
+}
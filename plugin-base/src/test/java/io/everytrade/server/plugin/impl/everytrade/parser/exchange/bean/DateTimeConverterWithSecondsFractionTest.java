@@ -1,8 +1,12 @@
 package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
 
+import com.univocity.parsers.common.DataValidationException;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DateTimeConverterWithSecondsFractionTest {
 
@@ -18,6 +22,42 @@ class DateTimeConverterWithSecondsFractionTest {
 
     }
 
+    @Test
+    void testMultiplePatterns() {
+        DateTimeConverterWithSecondsFraction converter
+            = new DateTimeConverterWithSecondsFraction("yyyy-MM-dd HH:mm:ss", "M/d/yy h:mm a");
+
+        assertEquals(Instant.parse("2020-01-03T15:20:30Z"), converter.execute("2020-01-03 15:20:30"));
+        assertEquals(Instant.parse("2020-01-03T15:20:00Z"), converter.execute("1/3/20 3:20 PM"));
+        assertEquals(Instant.parse("2020-01-04T15:20:30Z"), converter.execute("2020-01-04 15:20:30"));
+        assertThrows(DataValidationException.class, () -> converter.execute("2020-01-03"));
+        assertThrows(DataValidationException.class, () -> converter.execute(null));
+    }
+
+    @Test
+    void testAmbiguousValueRefusedAfterPinning() {
+        DateTimeConverterWithSecondsFraction converter
+            = new DateTimeConverterWithSecondsFraction("yyyy-MM-dd HH:mm:ss", "yyyy-dd-MM HH:mm:ss");
+
+        assertEquals(Instant.parse("2020-01-30T15:20:30Z"), converter.execute("2020-01-30 15:20:30"));
+        assertEquals(Instant.parse("2020-01-30T15:20:30Z"), converter.execute("2020-30-01 15:20:30"));
+        assertThrows(DataValidationException.class, () -> converter.execute("2020-01-03 15:20:30"));
+    }
+
+    @Test
+    void testPatternsOfDifferentSeparators() {
+        DateTimeConverterWithSecondsFraction converter = new DateTimeConverterWithSecondsFraction(
+            "MMM. dd, yyyy, hh:mm a", "yyyy-MM-dd HH:mm:ss", "dd.MM.yyyy HH:mm"
+        );
+
+        assertEquals(Instant.parse("2020-05-28T15:03:00Z"), converter.execute("May. 28, 2020, 03:03 PM"));
+        assertEquals(Instant.parse("2020-01-03T15:20:30.5Z"), converter.execute("2020-01-03 15:20:30.5"));
+        assertEquals(Instant.parse("2020-01-03T15:20:00Z"), converter.execute("03.01.2020 15:20"));
+        assertEquals(Instant.parse("2020-05-28T15:03:00Z"), converter.execute("May. 28, 2020, 03:03 PM"));
+        assertThrows(DataValidationException.class, () -> converter.execute("2020-01-03 15:20:30.5.5"));
+        assertThrows(DataValidationException.class, () -> converter.execute("03.01.2020 15:20:30"));
+    }
+
     private void testConversion(String input) {
         DateTimeConverterWithSecondsFraction converter
             = new DateTimeConverterWithSecondsFraction("yyyy-MM-dd, HH:mm:ss");
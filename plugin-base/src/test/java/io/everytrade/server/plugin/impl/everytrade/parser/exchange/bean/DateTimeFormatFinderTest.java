@@ -4,8 +4,11 @@ import io.everytrade.server.plugin.impl.everytrade.parser.ParserUtils;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DateTimeFormatFinderTest {
@@ -51,6 +54,15 @@ class DateTimeFormatFinderTest {
     }
 
 
+    @Test
+    void testFormatterCachedByShape() {
+        final DateTimeFormatFinder formatFinder = new DateTimeFormatFinder();
+        final DateTimeFormatter formatter = formatFinder.findFormatter("2020-05-28 15:03:21");
+        assertSame(formatter, formatFinder.findFormatter("2019-12-31 23:59:59"));
+        assertNotSame(formatter, formatFinder.findFormatter("2019-12-31 23:59"));
+        assertNotSame(formatter, formatFinder.findFormatter("2019-12-31T23:59:59"));
+    }
+
     private boolean testAllCombinations(DateTimeMock dateTimeMock) {
         final DateTimeFormatFinder formatFinder = new DateTimeFormatFinder();
         String year = dateTimeMock.year;
@@ -97,6 +109,11 @@ class DateTimeFormatFinderTest {
                     final String formatPattern = formatFinder.findFormatPattern(dateTime);
                     try {
                         final Instant instantPattern = ParserUtils.parse(formatPattern, dateTime);
+                        final Instant instantCached = formatFinder.findFormatter(dateTime).parse(dateTime, Instant::from);
+                        if (!instantPattern.equals(instantCached)) {
+                            System.out.printf("CACHE ERROR:Cached instant(%s) differs.%n", instantCached);
+                            result = false;
+                        }
                         System.out.println(dateTime + " --> " + formatPattern + " = " + instantPattern);
                         if (!existAnyMatch(dateTimeMock, instantPattern)) {
                             System.out.printf(
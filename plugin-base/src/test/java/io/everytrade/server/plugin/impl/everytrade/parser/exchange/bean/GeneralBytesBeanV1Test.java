@@ -149,4 +149,22 @@ class GeneralBytesBeanV1Test {
         final String error = parsingProblem.getMessage();
         assertTrue(error.contains(ExchangeBean.UNSUPPORTED_TRANSACTION_TYPE.concat("SOLD")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUnknownDateTimeFormat() {
+        final String row = "BT1;2018_08_06 05:35;2018-08-06 11:35:35.0;L;R;BUY;5000;CZK;0.031637;BTC;;0.00;1Gz;" +
+            ";IC;ERROR (EXCHANGE PURCHASE);;76;\n";
+        final ParsingProblem parsingProblem = ParserTestUtils.getParsingProblem(HEADER_CORRECT + row);
+        final String error = parsingProblem.getMessage();
+        assertTrue(error.contains("Unknown dateTime format for value 2018_08_06 05:35."));
+    }
+
+    @Test
+    void testMissingDateTime() {
+        final String row = "BT1;;2018-08-06 11:35:35.0;L;R;BUY;5000;CZK;0.031637;BTC;;0.00;1Gz;" +
+            ";IC;ERROR (EXCHANGE PURCHASE);;76;\n";
+        final ParsingProblem parsingProblem = ParserTestUtils.getParsingProblem(HEADER_CORRECT + row);
+        final String error = parsingProblem.getMessage();
+        assertTrue(error.contains("Date time value is missing."));
+    }
+}
@@ -0,0 +1,40 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
+
+import com.univocity.parsers.common.DataValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InferredDateTimeConverterTest {
+
+    @Test
+    void testRoundTrip() {
+        final InferredDateTimeConverter converter = new InferredDateTimeConverter();
+        final Instant instant = Instant.parse("2018-08-06T11:35:35Z");
+        assertEquals("2018-08-06T11:35:35Z", converter.revert(instant));
+
+        // the inferred patterns do not pad the fields
+        assertEquals(instant, converter.execute("2018-08-06 11:35:35"));
+        assertEquals("2018-8-6 11:35:35", converter.revert(instant));
+        assertEquals(instant, converter.execute(converter.revert(instant)));
+        assertEquals(Instant.parse("2018-08-06T05:35:00Z"), converter.execute("8/6/2018 5:35"));
+        assertEquals("8/6/2018 11:35", converter.revert(instant));
+        assertEquals(Instant.parse("2018-08-06T11:35:00Z"), converter.execute(converter.revert(instant)));
+        assertNull(converter.revert(null));
+    }
+
+    @Test
+    void testInvalidValues() {
+        final InferredDateTimeConverter converter = new InferredDateTimeConverter();
+        assertThrows(DataValidationException.class, () -> converter.execute("2018_08_06 05:35"));
+        assertThrows(DataValidationException.class, () -> converter.execute(null));
+        // a failed value does not change the format of the reverted values
+        converter.execute("2018-08-06 11:35:35");
+        assertThrows(DataValidationException.class, () -> converter.execute("06.08.2018"));
+        assertEquals("2018-8-6 11:35:35", converter.revert(Instant.parse("2018-08-06T11:35:35Z")));
+    }
+}
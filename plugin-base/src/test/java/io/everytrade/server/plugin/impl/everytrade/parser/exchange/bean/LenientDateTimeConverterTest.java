@@ -0,0 +1,46 @@
+package io.everytrade.server.plugin.impl.everytrade.parser.exchange.bean;
+
+import com.univocity.parsers.common.DataProcessingException;
+import com.univocity.parsers.common.DataValidationException;
+import com.univocity.parsers.conversions.DateConversion;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LenientDateTimeConverterTest {
+    private static final String[] PATTERNS = {"yyyy-MM-dd HH:mm:ss", "dd.MM.yyyy HH:mm"};
+
+    @Test
+    void testSameAsDateConversion() {
+        final LenientDateTimeConverter converter = new LenientDateTimeConverter(PATTERNS);
+        final DateConversion dateConversion
+            = new DateConversion(TimeZone.getTimeZone("UTC"), Locale.US, null, null, PATTERNS);
+        for (String value : List.of(
+            "2020-01-03 15:20:30", "03.01.2020 15:20", "2020-1-3 5:2:3", "3.1.2020 15:20", "2020-01-03 15:20:30.4968",
+            "2020-01-03 15:20:30 UTC", "2020-02-30 15:20:30", "2020-01-03 24:00:00", "31.12.2019 23:59"
+        )) {
+            assertEquals(dateConversion.execute(value).toInstant(), converter.execute(value), value);
+        }
+    }
+
+    @Test
+    void testLenientValues() {
+        final LenientDateTimeConverter converter = new LenientDateTimeConverter(PATTERNS);
+        assertEquals(Instant.parse("2020-01-03T15:20:30Z"), converter.execute("2020-01-03 15:20:30.4968"));
+        assertEquals(Instant.parse("2020-03-01T15:20:30Z"), converter.execute("2020-02-30 15:20:30"));
+    }
+
+    @Test
+    void testInvalidValues() {
+        final LenientDateTimeConverter converter = new LenientDateTimeConverter(PATTERNS);
+        assertThrows(DataProcessingException.class, () -> converter.execute("2020/01/03 15:20:30"));
+        assertThrows(DataProcessingException.class, () -> converter.execute(""));
+        assertThrows(DataValidationException.class, () -> converter.execute(null));
+    }
+}
@@ -131,4 +131,13 @@ class OkexBeanV1Test {
         final String error = parsingProblem.getMessage();
         assertTrue(error.contains("Pairs-quote currency 'ETH' differs from Total currency 'USDT'"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testEmptyFee() {
+        final String row =  "\uFEFF2,0,2020-09-25 17:27:02,ltc_usdt,2.273693,46.17," +
+            "-104.976405810000002816 USDT,taker,\" LTC\",LTC\n";
+        final ParsingProblem parsingProblem = ParserTestUtils.getParsingProblem(HEADER_CORRECT + row);
+        final String error = parsingProblem.getMessage();
+        assertTrue(error.contains("Fee can not be null or empty."));
+    }
+}
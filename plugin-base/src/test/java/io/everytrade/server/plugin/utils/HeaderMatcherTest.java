@@ -0,0 +1,58 @@
+package io.everytrade.server.plugin.utils;
+
+import io.everytrade.server.model.SupportedExchange;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class HeaderMatcherTest {
+    private static final String KRAKEN_TEMPLATE = "txid,ordertxid,pair,time";
+    private static final String HITBTC_TEMPLATE = "^Date \\(.*\\),Instrument,Trade ID$";
+    private static final HeaderMatcher<SupportedExchange> MATCHER = new HeaderMatcher<>(Map.of(
+        KRAKEN_TEMPLATE, SupportedExchange.KRAKEN,
+        HITBTC_TEMPLATE, SupportedExchange.HITBTC,
+        "\uFEFF\"Time\",\"Pair\"", SupportedExchange.HUOBI
+    ));
+
+    @Test
+    void testExactMatch() {
+        final HeaderMatcher.Match<SupportedExchange> match = MATCHER.match(KRAKEN_TEMPLATE);
+        assertEquals(KRAKEN_TEMPLATE, match.getTemplate());
+        assertEquals(SupportedExchange.KRAKEN, match.getValue());
+        assertEquals(SupportedExchange.HUOBI, MATCHER.match("\uFEFF\"Time\",\"Pair\"").getValue());
+    }
+
+    @Test
+    void testNormalizedMatch() {
+        final HeaderMatcher.Match<SupportedExchange> match
+            = MATCHER.match("\uFEFF\"txid\",\"ordertxid\",\"pair\",\"time\"");
+        assertEquals(KRAKEN_TEMPLATE, match.getTemplate());
+        assertEquals(SupportedExchange.HUOBI, MATCHER.match("Time,Pair").getValue());
+    }
+
+    @Test
+    void testRegexMatch() {
+        assertEquals(HITBTC_TEMPLATE, MATCHER.match("Date (+01),Instrument,Trade ID").getTemplate());
+        assertEquals(HITBTC_TEMPLATE, MATCHER.match("\"Date (+01)\",\"Instrument\",\"Trade ID\"").getTemplate());
+    }
+
+    @Test
+    void testNoMatch() {
+        assertNull(MATCHER.match("txid,ordertxid,pair"));
+        assertNull(MATCHER.match("Date (+01),Instrument,Trade ID,Order ID"));
+    }
+
+    @Test
+    void testAmbiguousNormalizedTemplatesMatchOnlyExactly() {
+        final HeaderMatcher<SupportedExchange> matcher = new HeaderMatcher<>(Map.of(
+            "a,b", SupportedExchange.KRAKEN,
+            "\"a\",\"b\"", SupportedExchange.BITSTAMP
+        ));
+        assertEquals(SupportedExchange.KRAKEN, matcher.match("a,b").getValue());
+        assertEquals(SupportedExchange.BITSTAMP, matcher.match("\"a\",\"b\"").getValue());
+        assertNull(matcher.match("\uFEFFa,b"));
+    }
+}
@@ -7,10 +7,11 @@ import io.everytrade.server.plugin.api.connector.ConnectorDescriptor;
 import io.everytrade.server.plugin.api.connector.ConnectorParameterDescriptor;
 import io.everytrade.server.plugin.api.connector.DownloadResult;
 import io.everytrade.server.plugin.api.connector.IConnector;
-import io.everytrade.server.plugin.api.parser.ICsvParser;
+import io.everytrade.server.plugin.api.parser.CsvSniffer;
 import io.everytrade.server.plugin.api.parser.ImportedTransactionBean;
 import io.everytrade.server.plugin.api.parser.ParseResult;
-import io.everytrade.server.plugin.api.parser.ParserDescriptor;
+import io.everytrade.server.plugin.api.parser.ParserSelection;
+import io.everytrade.server.plugin.api.parser.SniffedParseResult;
 import io.everytrade.server.plugin.api.parser.TransactionCluster;
 import io.everytrade.server.plugin.api.rateprovider.IRateProvider;
 import io.everytrade.server.plugin.api.rateprovider.Rate;
@@ -18,17 +19,14 @@ import io.everytrade.server.plugin.support.EverytradePluginManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -134,20 +132,17 @@ public class Tester {
         final File folder = new File("parser-files");
         for (final File fileEntry : folder.listFiles()) {
             log.info("Try to parse file '{}'...", fileEntry.getName());
-            final String header = readHeader(fileEntry);
-            final ParserDescriptor descriptor = findDescriptor(header, plugin);
-            if (descriptor == null) {
-                continue;
-            }
-            log.info("Supported exchange: {}", descriptor.getSupportedExchange(header).getDisplayName());
-            final ICsvParser parserInstance = plugin.createParserInstance(descriptor.getId());
-            final ParseResult parseResult;
+            final SniffedParseResult sniffedParseResult;
             try {
-                parseResult = parserInstance.parse(fileEntry, header);
-                printResult(parseResult);
+                sniffedParseResult = CsvSniffer.sniffAndParse(fileEntry, plugin);
             } catch (Exception e) {
                 log.info("File parse error: {}", e.getMessage());
+                continue;
             }
+            final ParserSelection parserSelection = sniffedParseResult.getParserSelection();
+            log.info("Found parser id: '{}'", parserSelection.getParserDescriptor().getId());
+            log.info("Supported exchange: {}", parserSelection.getSupportedExchange().getDisplayName());
+            printResult(sniffedParseResult.getParseResult());
         }
     }
 
@@ -171,38 +166,6 @@ public class Tester {
         }
     }
 
-    private ParserDescriptor findDescriptor(String header, IPlugin plugin) {
-        final List<ParserDescriptor> parserDescriptors = plugin.allParserDescriptors();
-        final List<ParserDescriptor> matchDescriptors = new ArrayList<>();
-        for (ParserDescriptor parserDescriptor : parserDescriptors) {
-            if (parserDescriptor.isHeaderSupported(header)) {
-                log.info("Found parser id: '{}'", parserDescriptor.getId());
-                matchDescriptors.add(parserDescriptor);
-            }
-        }
-        if (matchDescriptors.isEmpty()) {
-            log.warn("No parsers found.");
-        } else if (matchDescriptors.size() > 1) {
-            log.warn("More than one parsers found: '{}'.", matchDescriptors.size());
-        } else {
-            return matchDescriptors.get(0);
-        }
-        return null;
-    }
-
-
-    private String readHeader(File file) {
-        final String header;
-        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(file))) {
-            header = bufferedReader.readLine();
-        } catch (IOException e) {
-            log.error("Parser test file read error. {}", e.getMessage());
-            return null;
-        }
-        return header;
-    }
-
-
     private void writeParamsTemplate(ConnectorDescriptor descriptor) {
         final Properties parameters = new Properties();
         for (ConnectorParameterDescriptor parameter : descriptor.getParameters()) {